@@ -0,0 +1,67 @@
+package com.example.v2.board.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.v2.board.entity.Board;
+
+/**
+ * 목록/상세 화면 DTO 생성 비용.
+ *
+ * - pagingDto : 페이지 번호 블록 계산 (currentPage 별)
+ * - responseDto : Board 엔티티 → 상세 화면 DTO (날짜 포맷팅 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BoardDtoBenchmark {
+
+    @Param({ "0", "57", "999" })
+    public int currentPage;
+
+    private Page<BoardSummary> page;
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        List<BoardSummary> rows = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            rows.add(new BoardSummary(id, "제목 " + id, "작성자", id, LocalDateTime.now()));
+        }
+        page = new PageImpl<>(rows, PageRequest.of(currentPage, 10), 10_000);
+        board = Board.builder()
+                .id(1L)
+                .title("Spring Boot 시작하기")
+                .content("Spring Boot의 기본 개념과 프로젝트 설정 방법을 알아봅니다.")
+                .writer("김철수")
+                .fileName("185f8db32271fe25f561a6fc938b2e264306ec304eda518007d1764826381969.png")
+                .originalFileName("Hello.png")
+                .viewCount(12L)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Benchmark
+    public PagingDto pagingDto() {
+        return new PagingDto(page, "title", "spring");
+    }
+
+    @Benchmark
+    public ResponseDto responseDto() {
+        return new ResponseDto(board);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.v2.board.service;
+
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.example.v2.attachment.repository.AttachmentRepository;
+import com.example.v2.attachment.service.AttachmentStore;
+import com.example.v2.attachment.service.ThumbnailService;
+import com.example.v2.board.service.BoardService.FileUploadResult;
+import com.example.v2.metrics.HotPathMetrics;
+
+/**
+ * BoardService.base64FileUpload 페이로드 크기별 비용.
+ *
+ * Base64 디코딩 + SHA-256 계산 + 임시 파일 기록 + 다이제스트 파일명 확인까지 측정한다.
+ * 첨부파일 행 조회/저장은 DB 없이 항상 "처음 보는 내용"으로 응답하는 대역으로 대신하며,
+ * 같은 내용을 반복 업로드하므로 두 번째부터는 기존 파일을 재사용하는 경로를 지난다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class Base64UploadBenchmark {
+
+    @Param({ "1024", "65536", "1048576" })
+    public int payloadBytes;
+
+    private Path uploadDir;
+    private ThumbnailService thumbnailService;
+    private BoardService service;
+    private String base64;
+
+    @Setup
+    public void setUp() throws IOException {
+        uploadDir = Files.createTempDirectory("jmh-upload-");
+        AttachmentRepository repository = (AttachmentRepository) Proxy.newProxyInstance(
+                AttachmentRepository.class.getClassLoader(), new Class<?>[] { AttachmentRepository.class },
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "incrementRefCount" -> 0;
+                    case "saveAndFlush" -> args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        // 이미지가 아닌 내용이므로 축소본 생성은 한 번 실패한 뒤 다시 예약되지 않는다
+        thumbnailService = new ThumbnailService(uploadDir.toString(), new int[] { 320 }, 1, 1);
+        AttachmentStore attachmentStore =
+                new AttachmentStore(repository, TransactionOperations.withoutTransaction(), uploadDir.toString());
+        service = new BoardService(null, null, null, null, attachmentStore, thumbnailService, new HotPathMetrics(), null,
+                TransactionOperations.withoutTransaction());
+
+        byte[] payload = new byte[payloadBytes];
+        new Random(42).nextBytes(payload);
+        base64 = "data:image/png;base64," + Base64.getEncoder().encodeToString(payload);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        thumbnailService.shutdown();
+        try (Stream<Path> files = Files.walk(uploadDir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public FileUploadResult base64FileUpload() {
+        return service.base64FileUpload(base64, "payload.png");
+    }
+}
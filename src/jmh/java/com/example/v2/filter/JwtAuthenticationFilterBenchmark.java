@@ -0,0 +1,44 @@
+package com.example.v2.filter;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import com.example.v2.metrics.HotPathMetrics;
+
+/**
+ * JwtAuthenticationFilter.shouldNotFilter (공개 경로 판별) 비용.
+ *
+ * 모든 요청마다 실행되므로 공개 경로 / 인증 필요 경로별로 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({ "/", "/images/185f8db3.png", "/board/detail/1", "/api/admin/cache" })
+    public String path;
+
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        // shouldNotFilter 는 JwtUtil / UserDetailsService 를 사용하지 않는다
+        filter = new JwtAuthenticationFilter(null, null, new HotPathMetrics());
+        request = new MockHttpServletRequest("GET", path);
+    }
+
+    @Benchmark
+    public boolean shouldNotFilter() {
+        return filter.shouldNotFilter(request);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.v2.util;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.v2.user.entity.User;
+import com.example.v2.user.entity.UserDetail;
+
+/**
+ * JwtUtil 토큰 발급/검증 비용.
+ *
+ * - validateToken : 검증 캐시 적중 (같은 토큰으로 반복 요청)
+ * - validateTokenUncached : 매번 검증 캐시를 비워 서명 검증과 파싱까지 수행
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "a347d448b111a6ae5212cccc43b29c4fbfeffa0e490279a17115d33c910247d2";
+
+    private JwtUtil jwtUtil;
+    private UserDetail userDetail;
+    private String token;
+    private Map<?, ?> verifiedCache;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86400000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 604800000L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsModeExpiration", 300000L);
+        userDetail = new UserDetail(User.builder()
+                .id(1L)
+                .username("benchuser")
+                .password("encodedPassword")
+                .email("benchuser@example.com")
+                .roles(Set.of("ROLE_USER"))
+                .enabled(true)
+                .build());
+        token = jwtUtil.generateToken(userDetail);
+        verifiedCache = (Map<?, ?>) ReflectionTestUtils.getField(jwtUtil, "verifiedCache");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userDetail);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, userDetail);
+    }
+
+    @Benchmark
+    public Boolean validateTokenUncached() {
+        verifiedCache.clear();
+        return jwtUtil.validateToken(token, userDetail);
+    }
+
+    @Benchmark
+    public String extractUsername() {
+        return jwtUtil.extractUsername(token);
+    }
+}
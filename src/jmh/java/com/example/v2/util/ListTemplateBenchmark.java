@@ -0,0 +1,72 @@
+package com.example.v2.util;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.v2.board.dto.BoardSummary;
+import com.example.v2.board.dto.ListRowDto;
+import com.example.v2.board.dto.PagingDto;
+import com.samskivert.mustache.Mustache;
+
+/**
+ * board/list 템플릿 렌더링 비용 (행 수별).
+ *
+ * BoardController.listPage 와 같은 모델로 TemplateRenderer 를 통해 렌더링한다 (컴파일된 템플릿 재사용).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListTemplateBenchmark {
+
+    @Param({ "10", "50", "100" })
+    public int rows;
+
+    private TemplateRenderer renderer;
+    private Map<String, Object> model;
+
+    @Setup
+    public void setUp() {
+        // Spring Boot 가 구성하는 것과 같은 templates/ 접두어, .mustache 접미어 로더
+        Mustache.Compiler compiler = Mustache.compiler()
+                .defaultValue("")
+                .withLoader(name -> new InputStreamReader(
+                        ListTemplateBenchmark.class.getResourceAsStream("/templates/" + name + ".mustache"),
+                        StandardCharsets.UTF_8));
+        renderer = new TemplateRenderer(compiler);
+
+        List<BoardSummary> summaries = new ArrayList<>();
+        for (long id = rows; id >= 1; id--) {
+            summaries.add(new BoardSummary(id, "게시글 제목 " + id, "작성자" + id % 7, id * 3, LocalDateTime.now()));
+        }
+        model = new HashMap<>();
+        model.put("boards", summaries.stream().map(ListRowDto::new).toList());
+        model.put("totalElements", String.format("%,d", 12_345));
+        model.put("paging", new PagingDto(new PageImpl<>(summaries, PageRequest.of(0, rows), 12_345), "", ""));
+        model.put("searchType", "");
+        model.put("keyword", "");
+        // 첫 렌더링(템플릿 컴파일)은 측정에서 제외
+        renderer.render("board/list", model);
+    }
+
+    @Benchmark
+    public String renderList() {
+        return renderer.render("board/list", model);
+    }
+}
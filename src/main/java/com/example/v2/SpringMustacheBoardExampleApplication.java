@@ -2,8 +2,11 @@ package com.example.v2;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+/** @EnableScheduling : 조회수 일괄 반영(ViewCountBuffer.flush) 등 @Scheduled 작업 활성화 */
 @SpringBootApplication
+@EnableScheduling
 public class SpringMustacheBoardExampleApplication {
 
     /** 애플리케이션 진입점. */
@@ -0,0 +1,70 @@
+package com.example.v2.admin.controller;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.v2.board.cache.BoardDetailCache;
+import com.example.v2.board.cache.ListPageCache;
+import com.example.v2.config.ReadReplicaRouter;
+import com.example.v2.filter.RateLimiter;
+import com.example.v2.metrics.HotPathMetrics;
+import com.example.v2.user.service.UserDetailCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 REST API 컨트롤러.
+ *
+ * /api/admin/** 는 SecurityConfig 에서 ADMIN 권한이 필요하다.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin")
+public class AdminController {
+
+    private final ListPageCache listPageCache;
+    private final BoardDetailCache boardDetailCache;
+    private final UserDetailCache userDetailCache;
+    private final HotPathMetrics metrics;
+    private final ObjectProvider<ReadReplicaRouter> readReplicaRouter;
+    private final RateLimiter rateLimiter;
+
+    /** 애플리케이션 캐시 통계(적중률 등)를 반환한다. */
+    @GetMapping("/cache")
+    public Map<String, Object> cache() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("listPage", listPageCache.stats());
+        stats.put("boardDetail", boardDetailCache.stats());
+        stats.put("userDetails", userDetailCache.stats());
+        return stats;
+    }
+
+    /** 읽기/쓰기 DataSource 라우팅 통계를 반환한다 (datasource.routing.enabled=false 이면 enabled=false 만 반환). */
+    @GetMapping("/datasource")
+    public Map<String, Object> datasource() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        ReadReplicaRouter router = readReplicaRouter.getIfAvailable();
+        stats.put("enabled", router != null);
+        if (router != null) {
+            stats.put("routing", router.stats());
+        }
+        return stats;
+    }
+
+    /** 사용자/IP 별 요청 제한 통계(허용/거절 수, 버킷 수)를 반환한다. */
+    @GetMapping("/rate-limit")
+    public RateLimiter.Stats rateLimit() {
+        return rateLimiter.stats();
+    }
+
+    /** 주요 처리 경로의 소요 시간/크기 백분위와 예외 수를 반환한다. */
+    @GetMapping("/metrics")
+    public Map<String, Object> metrics() {
+        return metrics.snapshot();
+    }
+}
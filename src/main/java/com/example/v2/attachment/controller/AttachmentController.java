@@ -0,0 +1,34 @@
+package com.example.v2.attachment.controller;
+
+import java.io.IOException;
+
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import com.example.v2.attachment.service.AttachmentResourceService;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 이미지 전송 컨트롤러.
+ *
+ * 정적 리소스 핸들러 대신 AttachmentResourceService 로 ETag/Range/캐시 정책을 적용하여 전송한다.
+ * (GET 매핑은 HEAD 요청도 처리한다.)
+ */
+@Controller
+@RequiredArgsConstructor
+public class AttachmentController {
+
+    private final AttachmentResourceService service;
+
+    /** 업로드 디렉토리의 이미지를 전송한다 (w 를 지정하면 해당 너비 이상의 축소본). */
+    @GetMapping("/images/{fileName:.+}")
+    public void image(@PathVariable String fileName, @RequestParam(name = "w", required = false) Integer width,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+        service.send(fileName, width, request, response);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.v2.attachment.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 첨부파일(내용 주소 지정 저장소) 엔티티 클래스.
+ *
+ * 파일 내용의 SHA-256 다이제스트를 PK 로 사용하여 같은 내용의 파일은 한 번만 저장한다.
+ * 게시글은 fileName(다이제스트 + 확장자)으로 첨부파일을 참조하며, refCount 는 참조하는 게시글 수이다.
+ *
+ * PK 를 직접 지정하므로 Persistable 로 새 엔티티임을 알려 save 가 SELECT + UPDATE(merge) 대신 INSERT 하도록 한다.
+ * 같은 다이제스트가 이미 있으면 덮어쓰지 않고 PK 충돌(DataIntegrityViolationException)이 난다.
+ */
+@Entity
+@Table(name = "attachment")
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Getter
+public class Attachment implements Persistable<String> {
+
+    /** 파일 내용의 SHA-256 다이제스트 (소문자 16진수 64자) */
+    @Id
+    @Column(length = 64)
+    private String digest;
+
+    /** 업로드 디렉토리에 저장된 파일명 (다이제스트 + 최초 업로드 확장자) */
+    @Column(name = "file_name", nullable = false, length = 100)
+    private String fileName;
+
+    /** 파일 크기 (바이트) */
+    @Column(nullable = false)
+    private Long size;
+
+    /** 이 파일을 참조하는 게시글 수 */
+    @Column(name = "ref_count", nullable = false)
+    private Long refCount;
+
+    /** 최초 저장 일시 */
+    @Column(name = "create_at")
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    /** 아직 저장되지 않은 엔티티인지 여부 (조회/저장 후 false) */
+    @Transient
+    @Builder.Default
+    private boolean newEntity = true;
+
+    @Override
+    public String getId() {
+        return digest;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.v2.attachment.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.v2.attachment.entity.Attachment;
+
+/**
+ * 첨부파일 JPA 리포지토리.
+ *
+ * 참조 수는 엔티티를 읽어 수정하지 않고 상대 증가 UPDATE 로 변경하여 동시 업로드 시에도 증가분이 유실되지 않는다.
+ */
+public interface AttachmentRepository extends JpaRepository<Attachment, String> {
+
+    /** 참조 수를 1 증가시키고 변경된 행 수를 반환한다 (0 이면 아직 없는 파일). */
+    @Modifying
+    @Query("update Attachment a set a.refCount = a.refCount + 1 where a.digest = :digest")
+    int incrementRefCount(@Param("digest") String digest);
+
+    /** 다이제스트로 저장 파일명을 조회한다. */
+    @Query("select a.fileName from Attachment a where a.digest = :digest")
+    Optional<String> findFileNameByDigest(@Param("digest") String digest);
+}
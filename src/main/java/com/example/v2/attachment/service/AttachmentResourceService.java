@@ -0,0 +1,268 @@
+package com.example.v2.attachment.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.example.v2.exception.exs.FileNotFoundException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 업로드 이미지(첨부파일) 전송 서비스.
+ *
+ * - ETag / Last-Modified 를 설정하고 If-None-Match / If-Modified-Since 조건부 요청에는 304 로 응답한다.
+ * - 다이제스트/UUID 파일명은 내용이 바뀌지 않으므로 1년 immutable 캐시로, 그 외 파일명은 매번 재검증하도록 응답한다.
+ * - ?w= 너비를 지정하면 ThumbnailService 가 만든 축소 이미지를 같은 캐시 정책으로 전송한다.
+ * - Range 요청(단일 / 다중 multipart/byteranges)과 If-Range 를 지원한다.
+ * - 본문은 Tomcat sendfile 을 지원하면 요청 속성으로 커넥터에 위임하여(커널 zero-copy) 전송하고,
+ *   지원하지 않으면 FileChannel.transferTo 로 응답 스트림에 전송한다.
+ */
+@Service
+public class AttachmentResourceService {
+
+    /** Tomcat 커넥터가 sendfile 을 지원하는지 나타내는 요청 속성 */
+    static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    /** sendfile 로 전송할 파일 경로 요청 속성 */
+    static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    /** sendfile 전송 시작 위치 요청 속성 (포함) */
+    static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    /** sendfile 전송 끝 위치 요청 속성 (미포함) */
+    static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    /** 내용이 바뀌지 않는 파일명 (SHA-256 다이제스트 또는 UUID + 확장자) */
+    private static final Pattern IMMUTABLE_NAME = Pattern.compile(
+            "([0-9a-f]{64}|[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12})\\.[A-Za-z0-9]+");
+
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+    /** 파생 이미지 생성 중 원본으로 대신 응답할 때의 캐시 정책 */
+    private static final CacheControl PENDING = CacheControl.maxAge(Duration.ofSeconds(10)).cachePublic();
+
+    private final Path uploadDir;
+    private final ThumbnailService thumbnails;
+
+    public AttachmentResourceService(@Value("${file.upload-dir}") String uploadDir, ThumbnailService thumbnails) {
+        this.uploadDir = Path.of(uploadDir).toAbsolutePath().normalize();
+        this.thumbnails = thumbnails;
+    }
+
+    /**
+     * 업로드 디렉토리의 파일을 응답으로 전송한다.
+     *
+     * width 를 지정하면 해당 너비 이상인 가장 작은 파생 이미지를 전송하고,
+     * 아직 생성되지 않았으면 생성을 예약한 뒤 원본을 짧은 캐시 시간으로 전송한다.
+     *
+     * @param fileName 업로드 디렉토리의 파일명 (하위 경로 불가)
+     * @param width    요청 너비 (null 이면 원본)
+     */
+    public void send(String fileName, Integer width, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        Path file = resolve(fileName);
+        BasicFileAttributes attributes = readAttributes(file, fileName);
+
+        boolean immutable = IMMUTABLE_NAME.matcher(fileName).matches();
+        String tag = immutable
+                ? fileName.substring(0, fileName.indexOf('.'))
+                : Long.toHexString(attributes.size()) + "-" + Long.toHexString(attributes.lastModifiedTime().toMillis());
+        CacheControl cacheControl = immutable ? IMMUTABLE : REVALIDATE;
+
+        if (width != null) {
+            int selected = thumbnails.selectWidth(width);
+            Optional<Path> derivative = thumbnails.derivative(fileName, selected);
+            if (derivative.isPresent()) {
+                file = derivative.get();
+                attributes = readAttributes(file, fileName);
+                tag += "-w" + selected;
+            } else {
+                // 파생 이미지가 준비되면 다시 요청하도록 원본은 짧게 캐시
+                cacheControl = PENDING;
+            }
+        }
+
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = "\"" + tag + "\"";
+
+        // 304 응답에도 캐시 정책이 포함되도록 조건부 요청 확인 전에 설정
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        MediaType contentType = MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        List<HttpRange> ranges;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader == null || !ifRangeMatches(request, etag, lastModified)) {
+            ranges = List.of();
+        } else {
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+                validate(ranges, length);
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+        }
+        boolean head = "HEAD".equals(request.getMethod());
+
+        if (ranges.isEmpty()) {
+            response.setStatus(HttpServletResponse.SC_OK);
+            response.setContentType(contentType.toString());
+            response.setContentLengthLong(length);
+            if (!head) {
+                transfer(file, 0, length, request, response);
+            }
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        if (ranges.size() == 1) {
+            long start = ranges.get(0).getRangeStart(length);
+            long end = ranges.get(0).getRangeEnd(length);
+            response.setContentType(contentType.toString());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            response.setContentLengthLong(end - start + 1);
+            if (!head) {
+                transfer(file, start, end - start + 1, request, response);
+            }
+            return;
+        }
+
+        String boundary = MimeTypeUtils.generateMultipartBoundaryString();
+        response.setContentType("multipart/byteranges; boundary=" + boundary);
+        if (!head) {
+            transferMultipart(file, ranges, length, contentType, boundary, response);
+        }
+    }
+
+    /** 파일명을 업로드 디렉토리 안의 경로로 변환한다 (디렉토리 이탈 방지). */
+    private Path resolve(String fileName) {
+        if (fileName == null || fileName.isEmpty() || fileName.startsWith(".")
+                || fileName.contains("/") || fileName.contains("\\")) {
+            throw new FileNotFoundException("파일을 찾을 수 없습니다. (" + fileName + ")");
+        }
+        Path file = uploadDir.resolve(fileName).normalize();
+        if (!uploadDir.equals(file.getParent())) {
+            throw new FileNotFoundException("파일을 찾을 수 없습니다. (" + fileName + ")");
+        }
+        return file;
+    }
+
+    private static BasicFileAttributes readAttributes(Path file, String fileName) throws IOException {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException("파일을 찾을 수 없습니다. (" + fileName + ")");
+        }
+        if (!attributes.isRegularFile()) {
+            throw new FileNotFoundException("파일을 찾을 수 없습니다. (" + fileName + ")");
+        }
+        return attributes;
+    }
+
+    /** If-Range 가 없거나 현재 ETag / 수정 시각과 정확히 일치하면 true (불일치 시 전체 전송). */
+    private static boolean ifRangeMatches(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // If-Range 는 강한 비교만 허용
+            return ifRange.equals(etag);
+        }
+        try {
+            return request.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == lastModified / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    /** 범위가 파일 안에 있고, 겹치는 범위로 파일보다 많은 바이트를 요구하지 않는지 확인한다. */
+    private static void validate(List<HttpRange> ranges, long length) {
+        if (length == 0) {
+            throw new IllegalArgumentException("빈 파일에는 범위를 지정할 수 없습니다.");
+        }
+        long total = 0;
+        for (HttpRange range : ranges) {
+            // 파일 밖의 범위면 IllegalArgumentException
+            total += range.getRangeEnd(length) - range.getRangeStart(length) + 1;
+        }
+        if (total > length) {
+            throw new IllegalArgumentException("요청 범위의 합이 파일 크기보다 큽니다.");
+        }
+    }
+
+    /** 파일의 한 구간을 전송한다. sendfile 을 지원하면 커넥터에 위임한다. */
+    private static void transfer(Path file, long position, long count, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toString());
+            request.setAttribute(SENDFILE_START_ATTR, position);
+            request.setAttribute(SENDFILE_END_ATTR, position + count);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            transferTo(channel, position, count, Channels.newChannel(response.getOutputStream()));
+        }
+    }
+
+    /** 여러 구간을 multipart/byteranges 본문으로 전송한다. */
+    private static void transferMultipart(Path file, List<HttpRange> ranges, long length, MediaType contentType,
+            String boundary, HttpServletResponse response) throws IOException {
+        OutputStream out = response.getOutputStream();
+        WritableByteChannel target = Channels.newChannel(out);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            for (HttpRange range : ranges) {
+                long start = range.getRangeStart(length);
+                long end = range.getRangeEnd(length);
+                out.write(("\r\n--" + boundary + "\r\n"
+                        + HttpHeaders.CONTENT_TYPE + ": " + contentType + "\r\n"
+                        + HttpHeaders.CONTENT_RANGE + ": bytes " + start + "-" + end + "/" + length + "\r\n\r\n")
+                        .getBytes(StandardCharsets.US_ASCII));
+                transferTo(channel, start, end - start + 1, target);
+            }
+        }
+        out.write(("\r\n--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private static void transferTo(FileChannel channel, long position, long count, WritableByteChannel target)
+            throws IOException {
+        long end = position + count;
+        while (position < end) {
+            long n = channel.transferTo(position, end - position, target);
+            if (n <= 0) {
+                throw new IOException("파일 전송이 중단되었습니다.");
+            }
+            position += n;
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.v2.attachment.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.v2.attachment.entity.Attachment;
+import com.example.v2.attachment.repository.AttachmentRepository;
+import com.example.v2.exception.exs.FileUploadException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 내용 주소 지정(content-addressed) 첨부파일 저장소.
+ *
+ * 업로드 스트림을 임시 파일에 기록하면서 SHA-256 을 함께 계산하고(stage),
+ * 게시글 저장 트랜잭션 안에서 다이제스트 기준으로 등록한다(commit).
+ * - 같은 내용의 파일이 이미 있으면 임시 파일을 버리고 참조 수만 증가시킨다.
+ * - 처음 보는 내용이면 "다이제스트 + 확장자" 파일명으로 이동하고 첨부파일 행을 추가한다.
+ * - 트랜잭션이 롤백되어 참조되지 않는 파일이 남더라도 같은 내용이 다시 업로드되면 그대로 재사용된다.
+ *
+ * 첨부파일 행 추가는 별도 트랜잭션(REQUIRES_NEW)에서 실행한다.
+ * 같은 내용이 동시에 업로드되어 다이제스트 PK 가 충돌해도 게시글 저장 트랜잭션은 롤백 전용이 되지 않고,
+ * 먼저 추가된 행의 참조 수를 증가시키는 것으로 대신한다.
+ * 게시글 저장이 롤백되면 추가된 행의 참조 수가 하나 남지만, 파일이 삭제되지 않는 쪽으로만 어긋난다.
+ */
+@Slf4j
+@Service
+public class AttachmentStore {
+
+    /** 기록 버퍼 크기 */
+    private static final int BUFFER_SIZE = 8192;
+
+    private final AttachmentRepository repository;
+    /** 첨부파일 행 추가용 (REQUIRES_NEW) */
+    private final TransactionOperations insertTransaction;
+    private final String uploadDir;
+
+    @Autowired
+    public AttachmentStore(AttachmentRepository repository, PlatformTransactionManager transactionManager,
+            @Value("${file.upload-dir}") String uploadDir) {
+        this(repository, requiresNew(transactionManager), uploadDir);
+    }
+
+    public AttachmentStore(AttachmentRepository repository, TransactionOperations insertTransaction, String uploadDir) {
+        this.repository = repository;
+        this.insertTransaction = insertTransaction;
+        this.uploadDir = uploadDir;
+    }
+
+    private static TransactionTemplate requiresNew(PlatformTransactionManager transactionManager) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    /**
+     * 임시 저장된 업로드 파일.
+     *
+     * @param tempFile 업로드 디렉토리 안의 임시 파일
+     * @param digest   파일 내용의 SHA-256 (소문자 16진수)
+     * @param size     파일 크기 (바이트)
+     */
+    public record StagedFile(Path tempFile, String digest, long size) {
+
+        /** 내용이 비어 있는지 확인한다. */
+        public boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
+    /**
+     * 입력 스트림을 임시 파일에 기록하면서 SHA-256 을 계산한다.
+     *
+     * @param in       업로드 내용 (호출 측에서 닫는다)
+     * @param maxBytes 최대 허용 크기 (초과 시 FileUploadException)
+     */
+    public StagedFile stage(InputStream in, long maxBytes) throws IOException {
+        Path dir = Files.createDirectories(Path.of(uploadDir));
+        Path tempFile = Files.createTempFile(dir, ".upload-", ".tmp");
+        MessageDigest sha256 = sha256();
+        long size = 0;
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            int n;
+            while ((n = in.read(buffer.array())) != -1) {
+                size += n;
+                if (size > maxBytes) {
+                    throw new FileUploadException("파일 크기가 최대 허용 크기(" + maxBytes + " bytes)를 초과했습니다.");
+                }
+                sha256.update(buffer.array(), 0, n);
+                buffer.clear().limit(n);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(tempFile);
+            throw e;
+        }
+        return new StagedFile(tempFile, HexFormat.of().formatHex(sha256.digest()), size);
+    }
+
+    /**
+     * 임시 파일을 첨부파일로 등록하고 저장 파일명을 반환한다 (게시글 저장 트랜잭션 안에서 호출).
+     *
+     * @param staged           stage() 결과
+     * @param originalFileName 원본 파일명 (처음 저장하는 내용의 확장자 결정에 사용)
+     * @return 업로드 디렉토리의 저장 파일명 (다이제스트 + 확장자)
+     */
+    @Transactional
+    public String commit(StagedFile staged, String originalFileName) throws IOException {
+        if (originalFileName == null || !originalFileName.contains(".")) {
+            throw new FileUploadException("원본 파일명이 없거나 확장자가 누락되었습니다.");
+        }
+
+        // 이미 있는 내용이면 참조 수만 증가
+        if (repository.incrementRefCount(staged.digest()) > 0) {
+            discard(staged);
+            return repository.findFileNameByDigest(staged.digest())
+                    .orElseThrow(() -> new FileUploadException("첨부파일 정보를 찾을 수 없습니다. (" + staged.digest() + ")"));
+        }
+
+        String fileName = staged.digest() + originalFileName.substring(originalFileName.lastIndexOf(".")).toLowerCase();
+        Path target = staged.tempFile().resolveSibling(fileName);
+        if (Files.exists(target)) {
+            // 롤백된 이전 업로드가 남긴 같은 내용의 파일을 재사용
+            discard(staged);
+        } else {
+            try {
+                Files.move(staged.tempFile(), target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // 동시에 업로드된 같은 내용이 먼저 이동됨
+                discard(staged);
+            }
+        }
+
+        try {
+            insertTransaction.executeWithoutResult(status -> repository.saveAndFlush(Attachment.builder()
+                    .digest(staged.digest())
+                    .fileName(fileName)
+                    .size(staged.size())
+                    .refCount(1L)
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 업로드된 같은 내용의 행이 먼저 추가됨 → 참조 수만 증가
+            log.debug("첨부파일 동시 추가, 참조 수 증가로 대체: {}", staged.digest());
+            if (repository.incrementRefCount(staged.digest()) == 0) {
+                throw new FileUploadException("첨부파일 정보를 찾을 수 없습니다. (" + staged.digest() + ")", e);
+            }
+            return repository.findFileNameByDigest(staged.digest())
+                    .orElseThrow(() -> new FileUploadException("첨부파일 정보를 찾을 수 없습니다. (" + staged.digest() + ")"));
+        }
+        return fileName;
+    }
+
+    /** 임시 파일을 삭제한다 (null 이거나 이미 이동된 경우 무시). */
+    public void discard(StagedFile staged) {
+        if (staged != null) {
+            deleteQuietly(staged.tempFile());
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("파일 삭제 실패: {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.v2.attachment.service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 업로드 이미지 축소본(파생 이미지) 생성 서비스.
+ *
+ * 업로드 시 submit() 으로 생성을 예약만 하고 즉시 반환하므로 업로드 응답 시간에 리사이즈 작업이 포함되지 않는다.
+ * - 고정 크기 스레드 풀 + 용량 제한 큐에서 처리하며, 큐가 가득 차면 예약을 버린다 (다음 요청 시 다시 예약).
+ * - 원본을 한 번만 디코딩하여 설정된 너비(기본 320/640/1280)별 축소본을 만든다.
+ * - 축소본은 업로드 디렉토리의 thumbnails/{너비}/{원본 파일명} 에 저장한다.
+ *   원본보다 넓은 너비는 원본을 그대로 복사하여 모든 너비가 항상 존재하도록 한다.
+ * - 디코딩할 수 없거나 너무 큰 이미지는 실패 목록에 기록하고 다시 시도하지 않는다 (원본으로 응답).
+ */
+@Slf4j
+@Service
+public class ThumbnailService {
+
+    /** 업로드 디렉토리 안의 축소본 디렉토리 */
+    static final String DIRECTORY = "thumbnails";
+
+    /** 디코딩을 허용하는 최대 픽셀 수 (압축 폭탄 방지) */
+    private static final long MAX_PIXELS = 40_000_000L;
+
+    private final Path uploadDir;
+    private final Path thumbnailDir;
+    private final int[] widths;
+    private final Executor executor;
+
+    /** 생성 예약/진행 중인 파일명 (중복 예약 방지) */
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    /** 축소본을 만들 수 없는 파일명 */
+    private final Set<String> failed = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public ThumbnailService(@Value("${file.upload-dir}") String uploadDir,
+            @Value("${attachment.thumbnail.widths:320,640,1280}") int[] widths,
+            @Value("${attachment.thumbnail.threads:2}") int threads,
+            @Value("${attachment.thumbnail.queue-capacity:100}") int queueCapacity) {
+        this(uploadDir, widths, new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("thumbnail-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy()));
+    }
+
+    ThumbnailService(String uploadDir, int[] widths, Executor executor) {
+        this.uploadDir = Path.of(uploadDir).toAbsolutePath().normalize();
+        this.thumbnailDir = this.uploadDir.resolve(DIRECTORY);
+        this.widths = Arrays.stream(widths).filter(width -> width > 0).sorted().distinct().toArray();
+        if (this.widths.length == 0) {
+            throw new IllegalArgumentException("attachment.thumbnail.widths 에 1 이상의 너비가 필요합니다.");
+        }
+        this.executor = executor;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService service) {
+            service.shutdownNow();
+        }
+    }
+
+    /**
+     * 업로드된 이미지의 축소본 생성을 예약한다 (즉시 반환).
+     *
+     * @param fileName 업로드 디렉토리의 파일명
+     */
+    public void submit(String fileName) {
+        if (fileName == null || fileName.isEmpty() || failed.contains(fileName) || !pending.add(fileName)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    generate(fileName);
+                } finally {
+                    pending.remove(fileName);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pending.remove(fileName);
+            log.debug("축소본 생성 큐가 가득 차서 예약을 건너뜁니다: {}", fileName);
+        }
+    }
+
+    /** 요청 너비 이상인 가장 작은 설정 너비를 반환한다 (없으면 가장 큰 너비). */
+    public int selectWidth(int requested) {
+        for (int width : widths) {
+            if (width >= requested) {
+                return width;
+            }
+        }
+        return widths[widths.length - 1];
+    }
+
+    /**
+     * 축소본 경로를 반환한다. 아직 없으면 생성을 예약하고 빈 값을 반환한다.
+     *
+     * @param fileName 업로드 디렉토리의 파일명 (검증된 값)
+     * @param width    selectWidth() 로 고른 너비
+     */
+    public Optional<Path> derivative(String fileName, int width) {
+        Path file = thumbnailDir.resolve(Integer.toString(width)).resolve(fileName);
+        if (Files.isRegularFile(file)) {
+            return Optional.of(file);
+        }
+        submit(fileName);
+        return Optional.empty();
+    }
+
+    /** 원본을 한 번 디코딩하여 모든 너비의 축소본을 만든다. */
+    void generate(String fileName) {
+        Path original = uploadDir.resolve(fileName);
+        String format = fileName.substring(fileName.lastIndexOf('.') + 1).toLowerCase();
+        try {
+            BufferedImage image = read(original);
+            if (image == null || !ImageIO.getImageWritersBySuffix(format).hasNext()) {
+                failed.add(fileName);
+                return;
+            }
+            for (int width : widths) {
+                Path target = thumbnailDir.resolve(Integer.toString(width)).resolve(fileName);
+                if (Files.exists(target)) {
+                    continue;
+                }
+                Path dir = Files.createDirectories(target.getParent());
+                Path tempFile = Files.createTempFile(dir, ".thumbnail-", ".tmp");
+                try {
+                    if (width >= image.getWidth()) {
+                        Files.copy(original, tempFile, StandardCopyOption.REPLACE_EXISTING);
+                    } else if (!ImageIO.write(resize(image, width, format), format, tempFile.toFile())) {
+                        failed.add(fileName);
+                        return;
+                    }
+                    Files.move(tempFile, target, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(tempFile);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            failed.add(fileName);
+            log.warn("축소본 생성 실패: {} ({})", fileName, e.getMessage());
+        }
+    }
+
+    /** 이미지 크기를 먼저 확인한 뒤 디코딩한다. 지원하지 않는 형식이거나 너무 크면 null 을 반환한다. */
+    private static BufferedImage read(Path file) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(file.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > MAX_PIXELS) {
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /** 너비에 맞춰 비율을 유지하며 축소한다. 큰 비율은 절반씩 단계적으로 줄여 품질을 유지한다. */
+    private static BufferedImage resize(BufferedImage image, int width, String format) {
+        // JPEG/BMP 는 알파 채널을 저장할 수 없다
+        int type = "jpg".equals(format) || "jpeg".equals(format) || "bmp".equals(format)
+                ? BufferedImage.TYPE_INT_RGB
+                : BufferedImage.TYPE_INT_ARGB;
+        int height = Math.max(1, (int) Math.round((double) image.getHeight() * width / image.getWidth()));
+        BufferedImage current = image;
+        int currentWidth = image.getWidth();
+        int currentHeight = image.getHeight();
+        do {
+            currentWidth = Math.max(width, currentWidth / 2);
+            currentHeight = Math.max(height, currentHeight / 2);
+            BufferedImage scaled = new BufferedImage(currentWidth, currentHeight, type);
+            Graphics2D g = scaled.createGraphics();
+            try {
+                g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                g.drawImage(current, 0, 0, currentWidth, currentHeight, null);
+            } finally {
+                g.dispose();
+            }
+            current = scaled;
+        } while (currentWidth > width);
+        return current;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.v2.board.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.v2.board.event.BoardSavedEvent;
+
+/**
+ * 게시글 수 캐시.
+ *
+ * 목록 페이지마다 COUNT(*) 를 실행하지 않도록 전체 게시글 수와 검색 결과 수를 보관한다.
+ * - 전체 게시글 수: 처음 한 번만 COUNT 로 읽고, 이후에는 게시글 저장 커밋 시(BoardSavedEvent) 1 씩 증가시킨다.
+ *   다른 인스턴스의 저장 등으로 어긋날 수 있으므로 board.count-cache.resync-interval-ms 마다 다시 읽는다.
+ * - 검색 결과 수: (검색 조건) 별로 board.count-cache.search-ttl-ms 동안 보관하며, 게시글이 저장되면 비운다.
+ *   LIKE 검색은 board.count-cache.search-limit 건까지만 세고, 넘으면 "limit + 1" 을 반환한다 (화면에는 "1,000+").
+ */
+@Component
+public class BoardCountCache {
+
+    /** 아직 읽지 않은 상태 */
+    private static final long UNKNOWN = -1;
+
+    /** 검색 결과 수를 보관할 최대 조건 수 (넘으면 전체를 비운다) */
+    private static final int MAX_SEARCH_ENTRIES = 1000;
+
+    private record Entry(long count, long expiresAtNanos) {
+    }
+
+    private final AtomicLong total = new AtomicLong(UNKNOWN);
+
+    /** 게시글 저장 커밋 횟수 (COUNT 조회 도중 저장이 끼어들었는지 확인용) */
+    private final AtomicLong saves = new AtomicLong();
+
+    private final Map<String, Entry> searchCounts = new ConcurrentHashMap<>();
+
+    private final long searchTtlNanos;
+    private final int searchLimit;
+
+    @Autowired
+    public BoardCountCache(@Value("${board.count-cache.search-ttl-ms:30000}") long searchTtlMillis,
+            @Value("${board.count-cache.search-limit:1000}") int searchLimit) {
+        this(Duration.ofMillis(searchTtlMillis), searchLimit);
+    }
+
+    BoardCountCache(Duration searchTtl, int searchLimit) {
+        this.searchTtlNanos = searchTtl.toNanos();
+        this.searchLimit = searchLimit;
+    }
+
+    /**
+     * 전체 게시글 수를 반환한다. 아직 읽지 않았으면 loader(COUNT 쿼리)로 읽어 보관한다.
+     */
+    public long total(LongSupplier loader) {
+        long current = total.get();
+        if (current != UNKNOWN) {
+            return current;
+        }
+        long savesBefore = saves.get();
+        long loaded = loader.getAsLong();
+        // COUNT 도중 저장이 커밋되었으면 반영 여부가 불확실하므로 보관하지 않는다
+        if (saves.get() == savesBefore) {
+            total.compareAndSet(UNKNOWN, loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * 검색 결과 수를 반환한다. 없거나 만료되었으면 loader 로 읽어 보관한다.
+     *
+     * @param key    검색 조건 (필드와 키워드를 포함한 문자열)
+     * @param loader 검색 결과 수 조회 (limit 적용 여부는 호출 측 책임)
+     */
+    public long search(String key, LongSupplier loader) {
+        long now = System.nanoTime();
+        Entry entry = searchCounts.get(key);
+        if (entry != null && now - entry.expiresAtNanos() < 0) {
+            return entry.count();
+        }
+        long savesBefore = saves.get();
+        long loaded = loader.getAsLong();
+        if (saves.get() == savesBefore) {
+            if (searchCounts.size() >= MAX_SEARCH_ENTRIES) {
+                searchCounts.clear();
+            }
+            searchCounts.put(key, new Entry(loaded, now + searchTtlNanos));
+        }
+        return loaded;
+    }
+
+    /** LIKE 검색에서 셀 최대 건수 (넘으면 limit + 1 을 반환한다). */
+    public int searchLimit() {
+        return searchLimit;
+    }
+
+    /** 검색 결과 수를 화면 표시용으로 변환한다 (searchLimit 을 넘으면 "1,000+"). */
+    public String searchLabel(long count) {
+        return count > searchLimit ? String.format("%,d+", searchLimit) : String.format("%,d", count);
+    }
+
+    /** 게시글 저장 트랜잭션이 커밋되면 전체 수를 1 증가시키고 검색 결과 수를 비운다. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardSaved(BoardSavedEvent event) {
+        saves.incrementAndGet();
+        total.updateAndGet(current -> current == UNKNOWN ? UNKNOWN : current + 1);
+        searchCounts.clear();
+    }
+
+    /** 주기적으로 전체 수를 다시 읽도록 초기화한다. */
+    @Scheduled(fixedDelayString = "${board.count-cache.resync-interval-ms:300000}")
+    public void resync() {
+        total.set(UNKNOWN);
+    }
+}
@@ -0,0 +1,271 @@
+package com.example.v2.board.cache;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.v2.board.entity.Board;
+
+/**
+ * 게시글 상세 조회 캐시 (게시글 ID → 게시글 사본).
+ *
+ * 게시글은 저장 후 내용이 바뀌지 않으므로 상세 조회 결과를 보관하여 인기 게시글은 DB 를 조회하지 않는다.
+ * - 조회 결과를 불변 사본으로 보관하고 조회할 때마다 새 Board 를 만들어 반환한다 (호출 측 변경이 캐시에 남지 않음).
+ * - 내용(LOB)은 항목(Entry)과 분리된 맵에 따로 보관하고 용량도 따로 둔다.
+ *   항목은 board.detail-cache.max-bytes, 내용은 board.detail-cache.content-max-bytes 를 넘으면 각각 가장 오래 사용하지 않은 것부터 제거한다 (LRU).
+ *   (긴 내용 몇 건이 들어와도 제목/조회수 등 작은 항목이 함께 밀려나지 않고, 내용만 제거된 게시글은 미스로 처리하여 다시 조회한다)
+ * - 조회수는 ViewCountBuffer 가 DB 에 반영한 증가분만큼 캐시된 값도 함께 올린다 (반영되지 않은 증가분은 호출 측에서 더함).
+ *   반영 중이거나 반영 전에 조회를 시작한 결과는 저장하지 않아 증가분이 두 번 더해지거나 빠지지 않도록 한다.
+ * - 새 게시글 저장은 기존 항목에 영향이 없고, 게시글 행을 직접 고치는 작업(ProfileImageMigration)은 끝난 뒤 전체를 비운다.
+ */
+@Component
+public class BoardDetailCache {
+
+    /** 항목당 키/맵 노드/문자열 헤더 등 추정 메모리 (바이트) */
+    private static final int ENTRY_OVERHEAD = 256;
+    /** 내용당 키/맵 노드/문자열 헤더 추정 메모리 (바이트) */
+    private static final int CONTENT_OVERHEAD = 64;
+
+    /**
+     * 캐시 통계.
+     *
+     * @param hits          적중 횟수
+     * @param misses        미스 횟수
+     * @param evictions     용량 초과로 제거된 횟수 (항목과 내용 합계)
+     * @param invalidations 전체 무효화 횟수
+     * @param size          현재 항목 수
+     * @param bytes         현재 항목 추정 사용량 (바이트)
+     * @param contentBytes  현재 내용 추정 사용량 (바이트)
+     * @param hitRate       적중률 (0 ~ 1)
+     */
+    public record Stats(long hits, long misses, long evictions, long invalidations, int size, long bytes,
+            long contentBytes, double hitRate) {
+    }
+
+    /**
+     * 캐시된 게시글 사본 (내용 제외).
+     *
+     * @param hasContent 내용이 있는지 여부 (있으면 contents 맵에서 찾는다)
+     */
+    private record Entry(Long id, String title, boolean hasContent, String writer, String fileName,
+            String originalFileName, long viewCount, LocalDateTime createdAt) {
+
+        static Entry of(Board board) {
+            return new Entry(board.getId(), board.getTitle(), board.getContent() != null, board.getWriter(),
+                    board.getFileName(), board.getOriginalFileName(),
+                    board.getViewCount() == null ? 0 : board.getViewCount(), board.getCreatedAt());
+        }
+
+        Entry plusViewCount(long delta) {
+            return new Entry(id, title, hasContent, writer, fileName, originalFileName, viewCount + delta,
+                    createdAt);
+        }
+
+        Board toBoard(String content) {
+            return Board.builder()
+                    .id(id)
+                    .title(title)
+                    .content(content)
+                    .writer(writer)
+                    .fileName(fileName)
+                    .originalFileName(originalFileName)
+                    .viewCount(viewCount)
+                    .createdAt(createdAt)
+                    .build();
+        }
+
+        /** 문자열은 UTF-16 (문자당 2 바이트) 으로 추정한다. */
+        long weight() {
+            return ENTRY_OVERHEAD + 2L * (length(title) + length(writer) + length(fileName)
+                    + length(originalFileName));
+        }
+
+        private static int length(String value) {
+            return value == null ? 0 : value.length();
+        }
+    }
+
+    /** 접근 순서 LinkedHashMap (가장 오래 사용하지 않은 항목이 앞) */
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    /** 게시글 ID → 내용 (접근 순서, 항목과 별도 용량) */
+    private final LinkedHashMap<Long, String> contents = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private final long maxBytes;
+    private final long contentMaxBytes;
+
+    /** 현재 항목 추정 사용량 (lock 으로 보호) */
+    private long bytes;
+
+    /** 현재 내용 추정 사용량 (lock 으로 보호) */
+    private long contentBytes;
+
+    /** 무효화/조회수 반영마다 증가하는 세대 번호 (lock 으로 보호) */
+    private long generation;
+
+    /** 조회수 반영 진행 중 여부 (lock 으로 보호) */
+    private boolean flushing;
+
+    public BoardDetailCache(@Value("${board.detail-cache.max-bytes:4194304}") long maxBytes,
+            @Value("${board.detail-cache.content-max-bytes:33554432}") long contentMaxBytes) {
+        this.maxBytes = maxBytes;
+        this.contentMaxBytes = contentMaxBytes;
+    }
+
+    /** 캐시된 게시글의 새 사본을 반환한다. 없거나 내용이 제거되었으면 null. */
+    public Board get(Long id) {
+        Entry entry;
+        String content = null;
+        lock.lock();
+        try {
+            entry = entries.get(id);
+            if (entry != null && entry.hasContent()) {
+                content = contents.get(id);
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (entry == null || entry.hasContent() && content == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.toBoard(content);
+    }
+
+    /** DB 조회를 시작하기 전에 현재 세대 번호를 얻는다 (put 에 전달). */
+    public long generation() {
+        lock.lock();
+        try {
+            return generation;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * DB 에서 조회한 게시글을 저장한다.
+     *
+     * @param board      조회한 게시글 (반영되지 않은 조회수 증가분을 더하기 전의 값)
+     * @param generation 조회 전에 얻은 세대 번호 (그 사이 무효화/조회수 반영이 있었으면 저장하지 않는다)
+     */
+    public void put(Board board, long generation) {
+        Entry entry = Entry.of(board);
+        String content = board.getContent();
+        if (entry.weight() > maxBytes || content != null && contentWeight(content) > contentMaxBytes) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (flushing || generation != this.generation) {
+                return;
+            }
+            Entry previous = entries.put(entry.id(), entry);
+            if (previous != null) {
+                bytes -= previous.weight();
+            }
+            bytes += entry.weight();
+            String previousContent = content != null
+                    ? contents.put(entry.id(), content)
+                    : contents.remove(entry.id());
+            if (previousContent != null) {
+                contentBytes -= contentWeight(previousContent);
+            }
+            if (content != null) {
+                contentBytes += contentWeight(content);
+            }
+
+            Iterator<Map.Entry<Long, Entry>> it = entries.entrySet().iterator();
+            while (bytes > maxBytes && it.hasNext()) {
+                Map.Entry<Long, Entry> eldest = it.next();
+                bytes -= eldest.getValue().weight();
+                it.remove();
+                String removed = contents.remove(eldest.getKey());
+                if (removed != null) {
+                    contentBytes -= contentWeight(removed);
+                }
+                evictions.increment();
+            }
+            // 내용만 제거된 항목은 get 에서 미스로 처리된다
+            Iterator<String> contentIt = contents.values().iterator();
+            while (contentBytes > contentMaxBytes && contentIt.hasNext()) {
+                contentBytes -= contentWeight(contentIt.next());
+                contentIt.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 내용은 UTF-16 (문자당 2 바이트) 으로 추정한다. */
+    private static long contentWeight(String content) {
+        return CONTENT_OVERHEAD + 2L * content.length();
+    }
+
+    /** ViewCountBuffer 가 조회수 증가분을 DB 에 반영하기 직전에 호출한다. */
+    public void viewCountsFlushing() {
+        lock.lock();
+        try {
+            flushing = true;
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * ViewCountBuffer 가 조회수 반영을 마친 뒤 호출한다.
+     *
+     * @param flushed DB 에 반영된 게시글 ID 별 증가분 (실패했으면 빈 맵)
+     */
+    public void viewCountsFlushed(Map<Long, Long> flushed) {
+        lock.lock();
+        try {
+            flushed.forEach((id, delta) -> entries.computeIfPresent(id, (key, entry) -> entry.plusViewCount(delta)));
+            flushing = false;
+            generation++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 모든 항목을 제거한다. */
+    public void invalidate() {
+        lock.lock();
+        try {
+            generation++;
+            entries.clear();
+            contents.clear();
+            bytes = 0;
+            contentBytes = 0;
+            invalidations.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 캐시 통계를 반환한다. */
+    public Stats stats() {
+        lock.lock();
+        try {
+            long hitCount = hits.sum();
+            long total = hitCount + misses.sum();
+            return new Stats(hitCount, total - hitCount, evictions.sum(), invalidations.sum(), entries.size(), bytes,
+                    contentBytes, total == 0 ? 0 : (double) hitCount / total);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.example.v2.board.cache;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.v2.board.event.BoardSavedEvent;
+
+/**
+ * 게시글 목록 페이지 렌더링 결과(HTML) 캐시.
+ *
+ * (page, size, searchType, keyword) 별로 렌더링된 HTML 바이트를 보관하여
+ * 목록/COUNT 쿼리, DTO 변환, Mustache 렌더링을 생략한다.
+ * - 전체 HTML 바이트 수가 board.list-cache.max-bytes 를 넘으면 가장 오래 사용하지 않은 항목부터 제거한다 (LRU).
+ * - 항목은 board.list-cache.ttl-ms 동안 유지되며, 이 시간만큼 조회수 표시가 늦게 반영될 수 있다.
+ * - 게시글 저장 트랜잭션이 커밋되면(BoardSavedEvent) 전체를 비운다.
+ *   세대 번호를 함께 올려, 무효화 이전에 조회를 시작한 렌더링 결과가 무효화 이후에 저장되지 않도록 한다.
+ */
+@Component
+public class ListPageCache {
+
+    /** 항목당 키/맵 노드 등 HTML 외 추정 메모리 (바이트) */
+    private static final int ENTRY_OVERHEAD = 128;
+
+    /**
+     * 캐시 키.
+     *
+     * @param page       페이지 번호 (0-indexed)
+     * @param size       페이지 크기
+     * @param searchType 검색 유형
+     * @param keyword    검색 키워드
+     */
+    public record Key(int page, int size, String searchType, String keyword) {
+    }
+
+    /**
+     * 캐시 통계.
+     *
+     * @param hits          적중 횟수
+     * @param misses        미스 횟수 (없거나 만료됨)
+     * @param evictions     제거 횟수 (TTL 만료, 용량 초과)
+     * @param invalidations 게시글 저장으로 인한 전체 무효화 횟수
+     * @param size          현재 항목 수
+     * @param bytes         현재 추정 사용량 (바이트)
+     * @param hitRate       적중률 (0 ~ 1)
+     */
+    public record Stats(long hits, long misses, long evictions, long invalidations, int size, long bytes,
+            double hitRate) {
+    }
+
+    private record Entry(byte[] html, long expiresAtNanos) {
+
+        long weight() {
+            return html.length + ENTRY_OVERHEAD;
+        }
+    }
+
+    /** 접근 순서 LinkedHashMap (가장 오래 사용하지 않은 항목이 앞) */
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private final long ttlNanos;
+    private final long maxBytes;
+
+    /** 현재 추정 사용량 (lock 으로 보호) */
+    private long bytes;
+
+    @Autowired
+    public ListPageCache(@Value("${board.list-cache.ttl-ms:5000}") long ttlMillis,
+            @Value("${board.list-cache.max-bytes:4194304}") long maxBytes) {
+        this(Duration.ofMillis(ttlMillis), maxBytes);
+    }
+
+    ListPageCache(Duration ttl, long maxBytes) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxBytes = maxBytes;
+    }
+
+    /** 캐시된 HTML 을 반환한다. 없거나 만료되었으면 null. */
+    public byte[] get(Key key) {
+        lock.lock();
+        try {
+            Entry entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.expiresAtNanos() >= 0) {
+                remove(key, entry);
+                entry = null;
+            }
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.html();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 렌더링을 시작하기 전에 현재 세대 번호를 얻는다 (put 에 전달). */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * 렌더링된 HTML 을 저장한다.
+     *
+     * @param generation 렌더링 전에 얻은 세대 번호 (그 사이 무효화되었으면 저장하지 않는다)
+     */
+    public void put(Key key, long generation, byte[] html) {
+        Entry entry = new Entry(html, System.nanoTime() + ttlNanos);
+        if (entry.weight() > maxBytes) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (generation != this.generation.get()) {
+                return;
+            }
+            Entry previous = entries.put(key, entry);
+            if (previous != null) {
+                bytes -= previous.weight();
+            }
+            bytes += entry.weight();
+            Iterator<Entry> it = entries.values().iterator();
+            while (bytes > maxBytes && it.hasNext()) {
+                bytes -= it.next().weight();
+                it.remove();
+                evictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 게시글 저장 트랜잭션이 커밋되면 목록 캐시를 비운다. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardSaved(BoardSavedEvent event) {
+        invalidate();
+    }
+
+    /** 모든 항목을 제거하고 세대 번호를 올린다. */
+    public void invalidate() {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            entries.clear();
+            bytes = 0;
+            invalidations.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** 캐시 통계를 반환한다. */
+    public Stats stats() {
+        lock.lock();
+        try {
+            long hitCount = hits.sum();
+            long total = hitCount + misses.sum();
+            return new Stats(hitCount, total - hitCount, evictions.sum(), invalidations.sum(), entries.size(), bytes,
+                    total == 0 ? 0 : (double) hitCount / total);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void remove(Key key, Entry entry) {
+        if (entries.remove(key, entry)) {
+            bytes -= entry.weight();
+            evictions.increment();
+        }
+    }
+}
@@ -1,11 +1,19 @@
 package com.example.v2.board.controller;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
@@ -14,13 +22,20 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.example.v2.board.cache.BoardCountCache;
+import com.example.v2.board.cache.ListPageCache;
+import com.example.v2.board.dto.BoardSummary;
+import com.example.v2.board.dto.CursorSlice;
+import com.example.v2.board.dto.ListRowDto;
 import com.example.v2.board.dto.PagingDto;
 import com.example.v2.board.dto.RequestDto;
 import com.example.v2.board.dto.ResponseDto;
 import com.example.v2.board.entity.Board;
 import com.example.v2.board.service.BoardService;
+import com.example.v2.util.TemplateRenderer;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -28,39 +43,133 @@ import lombok.RequiredArgsConstructor;
  *
  * @Controller 어노테이션으로 뷰 이름(Mustache 템플릿 경로)을 반환한다.
  *             @RequestMapping("/board") 로 모든 핸들러의 공통 경로를 /board 로 설정한다.
- * @RequiredArgsConstructor 로 final 필드(BoardService)의 생성자 주입을 자동 생성한다.
+ * @RequiredArgsConstructor 로 final 필드(BoardService, ListPageCache, TemplateRenderer, BoardCountCache)의 생성자 주입을 자동 생성한다.
+ *
+ * board.render.streaming=true 이면 목록/상세 페이지를 head 와 본문 템플릿으로 나누어 응답에 직접 쓴다.
+ * head(스타일, 검색폼)를 먼저 flush 하고 본문 데이터를 조회하여 이어서 보낸다 (TemplateRenderer.stream 참고).
  */
 @Controller
 @RequiredArgsConstructor
 public class BoardController {
 
     private final BoardService service;
+    private final ListPageCache listPageCache;
+    private final TemplateRenderer renderer;
+    private final BoardCountCache countCache;
+
+    /** 목록/상세 페이지를 스트리밍 렌더링할지 여부 */
+    @Value("${board.render.streaming:true}")
+    private boolean streaming;
 
-    /** 게시글 목록 페이지를 조회한다. */
+    /**
+     * 게시글 목록 페이지를 조회한다.
+     *
+     * cursor 파라미터가 전달되면(빈 값 포함) 검색어가 없을 때 커서(키셋) 페이징 모드로 조회한다.
+     * 페이지 번호 모드는 렌더링된 HTML 을 ListPageCache 에 보관하여 같은 조건의 요청에 그대로 응답한다.
+     * 스트리밍 모드에서는 응답에 직접 쓰고 null 을 반환한다 (HttpServletResponse 인자가 있어 처리 완료로 본다).
+     */
     @GetMapping("/")
-    public String listPage(@PageableDefault(size = 10, sort = "id", direction = Direction.DESC) Pageable pageable,
+    public ResponseEntity<byte[]> listPage(
+            @PageableDefault(size = 10, sort = "id", direction = Direction.DESC) Pageable pageable,
             @RequestParam(required = false, defaultValue = "") String searchType,
-            @RequestParam(required = false, defaultValue = "") String keyword, HttpServletRequest req) {
-        // 서비스에서 페이징된 게시글 조회
-        Page<Board> boards = service.boardList(searchType, keyword, pageable);
-        // Board 엔티티 → ResponseDto 변환 (날짜 포맷팅 등 뷰에 맞게 가공)
-        List<ResponseDto> dtos = boards.getContent().stream().map(b -> new ResponseDto(b)).toList();
-
-        // Mustache 템플릿에 전달할 데이터를 request attribute 에 세팅
-        req.setAttribute("boards", dtos); // 게시글 목록
-        req.setAttribute("totalElements", boards.getTotalElements()); // 전체 게시글 수
-        req.setAttribute("paging", new PagingDto(boards, searchType, keyword)); // 페이징 네비게이션 정보
-        req.setAttribute("searchType", searchType); // 검색 유형 (검색폼 복원용)
-        req.setAttribute("keyword", keyword); // 검색 키워드 (검색폼 복원용)
-        return "/board/list";
+            @RequestParam(required = false, defaultValue = "") String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "next") String direction,
+            HttpServletResponse response) throws IOException {
+        if (cursor != null && keyword.isBlank()) {
+            if (streaming) {
+                renderer.stream(response, "board/list-head", searchModel("", ""), "board/list-body",
+                        () -> cursorListModel(cursor, direction, pageable.getPageSize()), null);
+                return null;
+            }
+            return html(renderer.render("board/list", cursorListModel(cursor, direction, pageable.getPageSize()))
+                    .getBytes(StandardCharsets.UTF_8));
+        }
+
+        ListPageCache.Key key = new ListPageCache.Key(pageable.getPageNumber(), pageable.getPageSize(), searchType,
+                keyword);
+        byte[] cached = listPageCache.get(key);
+        if (cached != null) {
+            return html(cached);
+        }
+        // 렌더링 도중 게시글이 저장되면 이 결과는 캐시에 저장되지 않는다
+        long generation = listPageCache.generation();
+
+        if (streaming) {
+            // 응답으로 보내는 내용을 함께 모아 두었다가 끝까지 렌더링되면 캐시에 저장한다
+            StringWriter copy = new StringWriter();
+            renderer.stream(response, "board/list-head", searchModel(searchType, keyword), "board/list-body",
+                    () -> listModel(searchType, keyword, pageable), copy);
+            listPageCache.put(key, generation, copy.toString().getBytes(StandardCharsets.UTF_8));
+            return null;
+        }
+
+        byte[] html = renderer.render("board/list", listModel(searchType, keyword, pageable))
+                .getBytes(StandardCharsets.UTF_8);
+        listPageCache.put(key, generation, html);
+        return html(html);
+    }
+
+    /** 페이지 번호 모드의 목록 템플릿 데이터를 만든다. */
+    private Map<String, Object> listModel(String searchType, String keyword, Pageable pageable) {
+        // 서비스에서 페이징된 게시글 요약 조회 (LOB 컬럼 제외)
+        Page<BoardSummary> boards = service.boardSummaryList(searchType, keyword, pageable);
+        // BoardSummary → ListRowDto 변환 (날짜 포맷팅 등 뷰에 맞게 가공)
+        List<ListRowDto> dtos = boards.getContent().stream().map(ListRowDto::new).toList();
+
+        // Mustache 템플릿에 전달할 데이터
+        Map<String, Object> model = searchModel(searchType, keyword);
+        model.put("boards", dtos); // 게시글 목록
+        // 전체 게시글 수 (검색 결과가 많으면 "1,000+" 처럼 추정치로 표시)
+        model.put("totalElements", keyword.isBlank()
+                ? String.format("%,d", boards.getTotalElements())
+                : countCache.searchLabel(boards.getTotalElements()));
+        // 검색 건수가 상한에 걸리면 전체 페이지 수를 모르므로 다음 페이지 여부로만 이동한다
+        boolean totalKnown = keyword.isBlank() || boards.getTotalElements() <= countCache.searchLimit();
+        model.put("paging", new PagingDto(boards, searchType, keyword, totalKnown)); // 페이징 네비게이션 정보
+        return model;
+    }
+
+    /** 커서(키셋) 페이징 모드의 목록 템플릿 데이터를 만든다. COUNT 쿼리를 실행하지 않는다. */
+    private Map<String, Object> cursorListModel(String cursor, String direction, int size) {
+        CursorSlice<ListRowDto> slice = service.boardCursorList(cursor, direction, size).map(ListRowDto::new);
+
+        Map<String, Object> model = searchModel("", "");
+        model.put("boards", slice.content()); // 게시글 목록
+        model.put("paging", new PagingDto(slice, size)); // 이전/다음 커서 정보
+        return model;
+    }
+
+    /** 목록 head(검색폼)에 필요한 데이터. 조회 없이 요청 파라미터만으로 만든다. */
+    private static Map<String, Object> searchModel(String searchType, String keyword) {
+        Map<String, Object> model = new HashMap<>();
+        model.put("searchType", searchType); // 검색 유형 (검색폼 복원용)
+        model.put("keyword", keyword); // 검색 키워드 (검색폼 복원용)
+        return model;
+    }
+
+    private static ResponseEntity<byte[]> html(byte[] body) {
+        return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .body(body);
     }
 
-    /** 게시글 상세 페이지를 조회한다. */
+    /**
+     * 게시글 상세 페이지를 조회한다.
+     *
+     * 없는 게시글은 404 페이지로 응답해야 하므로 게시글을 먼저 조회한 뒤 스트리밍한다.
+     */
     @GetMapping("/board/detail/{id}")
-    public String detailPage(@PathVariable("id") Long id, HttpServletRequest req) {
+    public String detailPage(@PathVariable("id") Long id, HttpServletRequest req, HttpServletResponse response)
+            throws IOException {
         Board board = service.board(id);
         // Board 엔티티 → ResponseDto 변환
         ResponseDto dto = new ResponseDto(board);
+        if (streaming) {
+            renderer.stream(response, "board/detail-head", Map.of(), "board/detail-body",
+                    () -> Map.of("board", dto), null);
+            return null;
+        }
         req.setAttribute("board", dto);
         return "/board/detail";
     }
@@ -1,15 +1,26 @@
 package com.example.v2.board.controller;
 
+import java.io.InputStream;
 import java.net.URI;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.example.v2.board.dto.Base64Dto;
+import com.example.v2.board.dto.BulkResult;
+import com.example.v2.board.dto.CursorSlice;
+import com.example.v2.board.dto.ListRowDto;
+import com.example.v2.board.service.BoardBulkService;
 import com.example.v2.board.service.BoardService;
 
 import lombok.RequiredArgsConstructor;
@@ -29,6 +40,7 @@ import lombok.RequiredArgsConstructor;
 public class BoardRestController {
 
     private final BoardService boardService;
+    private final BoardBulkService bulkService;
 
     /** 게시글을 저장하고 303 리다이렉트 응답을 반환한다. */
     @PostMapping("/write")
@@ -40,4 +52,39 @@ public class BoardRestController {
                 .location(URI.create("/"))
                 .build();
     }
+
+    /**
+     * 게시글을 저장하고 303 리다이렉트 응답을 반환한다 (스트리밍 업로드).
+     *
+     * 요청 본문을 DTO 로 바인딩하지 않고 InputStream 그대로 서비스에 전달하여
+     * Base64 이미지를 메모리에 올리지 않고 디코딩하며 파일로 기록한다. JSON 형식은 /write 와 같다.
+     */
+    @PostMapping(value = "/write/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Void> writeStream(InputStream body) {
+        boardService.saveStream(body);
+
+        return ResponseEntity.status(HttpStatus.SEE_OTHER)
+                .location(URI.create("/"))
+                .build();
+    }
+
+    /**
+     * 게시글을 일괄 등록하고 항목별 결과를 반환한다 (데이터 이전/가져오기용, ADMIN 권한 필요).
+     *
+     * Content-Type 이 application/x-ndjson 이면 줄마다 객체 하나, application/json 이면 객체 배열로 읽는다.
+     * 각 객체는 title, content, writer 필드를 가지며 일부 항목이 실패해도 나머지는 등록된다.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping(value = "/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    public BulkResult bulk(InputStream body, @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType) {
+        return bulkService.importBoards(body, MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType));
+    }
+
+    /** 커서(키셋) 페이징으로 게시글 목록을 조회한다. 응답의 nextCursor/prevCursor 로 이어서 조회한다. */
+    @GetMapping("/list")
+    public CursorSlice<ListRowDto> list(@RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "next") String direction,
+            @RequestParam(required = false, defaultValue = "10") int size) {
+        return boardService.boardCursorList(cursor, direction, size).map(ListRowDto::new);
+    }
 }
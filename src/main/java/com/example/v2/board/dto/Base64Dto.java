@@ -32,7 +32,6 @@ public class Base64Dto {
                 .title(this.title)
                 .content(this.content)
                 .writer(this.writer)
-                .profileImage(imageBase64)
                 .build();
     }
 }
@@ -0,0 +1,42 @@
+package com.example.v2.board.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋(커서) 페이징 위치 레코드.
+ *
+ * 마지막으로 조회한 게시글의 (작성일시, ID) 쌍을 커서로 사용한다.
+ * OFFSET 을 사용하지 않으므로 페이지 깊이와 무관하게 인덱스 범위 스캔으로 다음 페이지를 조회할 수 있다.
+ * URL 파라미터로 전달하기 위해 "작성일시_ID" 문자열을 URL-safe Base64 로 인코딩한다.
+ *
+ * @param createdAt 기준 게시글의 작성일시
+ * @param id        기준 게시글의 ID (작성일시가 같을 때의 정렬 보조 키)
+ */
+public record BoardCursor(LocalDateTime createdAt, Long id) {
+
+    /** 커서를 URL 파라미터용 문자열로 인코딩한다. */
+    public String encode() {
+        String raw = createdAt + "_" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 커서 문자열을 디코딩한다. 비어 있거나 형식이 잘못되었으면 null(첫 페이지)을 반환한다. */
+    public static BoardCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('_');
+            if (sep < 0) {
+                return null;
+            }
+            return new BoardCursor(LocalDateTime.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.v2.board.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 조회용 요약 프로젝션 레코드.
+ *
+ * JPQL 생성자 표현식(select new ...)으로 목록 화면에 필요한 컬럼만 조회한다.
+ * content 같은 LOB 컬럼을 읽지 않으며, 영속성 컨텍스트가 관리하지 않는 객체이므로
+ * 변경 감지용 스냅샷도 만들어지지 않는다.
+ *
+ * @param id        게시글 ID
+ * @param title     제목
+ * @param writer    작성자
+ * @param viewCount 조회수
+ * @param createdAt 작성일시
+ */
+public record BoardSummary(Long id, String title, String writer, Long viewCount, LocalDateTime createdAt) {
+}
@@ -0,0 +1,55 @@
+package com.example.v2.board.dto;
+
+import java.util.List;
+
+/**
+ * 게시글 일괄 등록 결과 DTO.
+ *
+ * 요청 순서대로 항목별 결과를 담는다. 묶음(batch) 단위로 커밋하므로
+ * 중간에 JSON 형식 오류가 나면 그 앞까지 등록된 결과와 오류 항목 하나로 끝난다.
+ *
+ * @param created 등록된 건수
+ * @param failed  등록하지 못한 건수
+ * @param items   항목별 결과 (요청 순서)
+ */
+public record BulkResult(int created, int failed, List<Item> items) {
+
+    /** 항목별 처리 상태 */
+    public enum Status {
+        /** 등록됨 */
+        CREATED,
+        /** 이미 있거나 요청 안에서 중복된 제목 */
+        DUPLICATE,
+        /** 필수 값 누락, 길이 초과, JSON 형식 오류 */
+        INVALID
+    }
+
+    /**
+     * 항목별 결과.
+     *
+     * @param index   요청에서의 순번 (0 부터)
+     * @param status  처리 상태
+     * @param id      등록된 게시글 ID (등록되지 않았으면 null)
+     * @param message 실패 사유 (등록되었으면 null)
+     */
+    public record Item(int index, Status status, Long id, String message) {
+
+        public static Item created(int index, Long id) {
+            return new Item(index, Status.CREATED, id, null);
+        }
+
+        public static Item duplicate(int index, String message) {
+            return new Item(index, Status.DUPLICATE, null, message);
+        }
+
+        public static Item invalid(int index, String message) {
+            return new Item(index, Status.INVALID, null, message);
+        }
+    }
+
+    /** 항목별 결과로 등록/실패 건수를 계산한다. */
+    public static BulkResult of(List<Item> items) {
+        int created = (int) items.stream().filter(item -> item.status() == Status.CREATED).count();
+        return new BulkResult(created, items.size() - created, items);
+    }
+}
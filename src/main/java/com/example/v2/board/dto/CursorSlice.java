@@ -0,0 +1,33 @@
+package com.example.v2.board.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반(키셋) 목록 조회 결과 레코드.
+ *
+ * Page 와 달리 전체 건수(COUNT 쿼리)를 포함하지 않고,
+ * 이전/다음 페이지로 이동하기 위한 커서 문자열만 담는다.
+ *
+ * @param content    현재 페이지의 데이터 목록
+ * @param nextCursor 다음 페이지 커서 (다음 페이지가 없으면 null)
+ * @param prevCursor 이전 페이지 커서 (이전 페이지가 없으면 null)
+ */
+public record CursorSlice<T>(List<T> content, String nextCursor, String prevCursor) {
+
+    /** 다음 페이지 존재 여부 */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /** 이전 페이지 존재 여부 */
+    public boolean hasPrev() {
+        return prevCursor != null;
+    }
+
+    /** 커서 정보는 유지한 채 데이터 목록만 변환한다. */
+    public <R> CursorSlice<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorSlice<>(mapped, nextCursor, prevCursor);
+    }
+}
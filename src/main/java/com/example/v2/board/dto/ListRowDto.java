@@ -0,0 +1,33 @@
+package com.example.v2.board.dto;
+
+import java.time.format.DateTimeFormatter;
+
+import lombok.Getter;
+
+/**
+ * 게시글 목록 행 DTO.
+ *
+ * list.mustache 가 렌더링하는 컬럼(번호/제목/작성자/조회수/작성일)만 담는다.
+ * BoardSummary 프로젝션을 뷰에 맞게 가공하며, createdAt 을 "yyyy-MM-dd HH:mm" 포맷 문자열로 변환한다.
+ */
+@Getter
+public class ListRowDto {
+    Long id;
+    String title;
+    String writer;
+    Long viewCount;
+    /** 포맷팅된 작성일시 문자열 (예: "2025-01-15 14:30") */
+    String createdAt;
+
+    /** 날짜 포맷터: "yyyy-MM-dd HH:mm" 형식으로 출력 */
+    private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    /** BoardSummary 를 ListRowDto로 변환한다. */
+    public ListRowDto(BoardSummary summary) {
+        this.id = summary.id();
+        this.title = summary.title();
+        this.writer = summary.writer();
+        this.viewCount = summary.viewCount();
+        this.createdAt = summary.createdAt().format(formatter);
+    }
+}
@@ -16,7 +16,9 @@ import lombok.Getter;
  * 기능:
  * - 처음/이전/다음/마지막 페이지 네비게이션
  * - 10개 단위의 페이지 번호 블록 생성
- * - 검색 조건(searchType, keyword)을 페이징 링크에 유지
+ * - 검색 조건(searchType, keyword)과 페이지 크기(size)를 페이징 링크에 유지
+ * - 커서(키셋) 모드에서는 페이지 번호 대신 이전/다음 커서를 제공
+ * - 검색 건수가 상한을 넘어 전체 페이지 수를 모르면 마지막 버튼을 표시하지 않고 다음 페이지 여부로만 이동
  */
 @Getter
 public class PagingDto {
@@ -38,19 +40,40 @@ public class PagingDto {
     private final int currentPage;
     /** 전체 페이지 수 */
     private final int totalPages;
+    /** 전체 페이지 수를 알고 있는지 여부 (false 면 totalPages 는 다음 페이지까지만 센 값) */
+    private final boolean totalKnown;
     /** 페이지 번호 목록 (현재 블록에 해당하는 페이지들) */
     private final List<PageNumberItem> pageNumbers;
+    /** 페이지 크기 (링크의 size 파라미터) */
+    private final int size;
     /** 검색 유형 (title / writer / titleContent) */
     private final String searchType;
     /** 검색 키워드 */
     private final String keyword;
+    /** 커서(키셋) 페이징 모드 여부 */
+    private final boolean cursorMode;
+    /** 다음 페이지 커서 (커서 모드 전용, 없으면 null) */
+    private final String nextCursor;
+    /** 이전 페이지 커서 (커서 모드 전용, 없으면 null) */
+    private final String prevCursor;
 
     /** Page 객체와 검색 조건으로 PagingDto를 생성한다. */
     public PagingDto(Page<?> page, String searchType, String keyword) {
+        this(page, searchType, keyword, true);
+    }
+
+    /**
+     * Page 객체와 검색 조건으로 PagingDto를 생성한다.
+     *
+     * @param totalKnown 전체 건수가 정확한 값인지 여부 (상한에서 잘린 검색 건수면 false)
+     */
+    public PagingDto(Page<?> page, String searchType, String keyword, boolean totalKnown) {
+        this.totalKnown = totalKnown;
         this.first = page.isFirst();
         this.last = page.isLast();
         this.currentPage = page.getNumber();
         this.totalPages = Math.max(page.getTotalPages(), 1);
+        this.size = page.getSize();
         this.searchType = searchType != null ? searchType : "";
         this.keyword = keyword != null ? keyword : "";
 
@@ -61,6 +84,29 @@ public class PagingDto {
 
         // 현재 블록에 해당하는 페이지 번호 목록 생성
         this.pageNumbers = buildPageNumbers();
+
+        this.cursorMode = false;
+        this.nextCursor = null;
+        this.prevCursor = null;
+    }
+
+    /** 커서 기반 목록(CursorSlice)으로 PagingDto를 생성한다. 전체 페이지 수는 계산하지 않는다. */
+    public PagingDto(CursorSlice<?> slice, int size) {
+        this.cursorMode = true;
+        this.size = size;
+        this.nextCursor = slice.nextCursor();
+        this.prevCursor = slice.prevCursor();
+        this.first = !slice.hasPrev();
+        this.last = !slice.hasNext();
+        this.currentPage = 0;
+        this.totalPages = 1;
+        this.totalKnown = false;
+        this.prevPage = 0;
+        this.nextPage = 0;
+        this.lastPage = 0;
+        this.pageNumbers = List.of();
+        this.searchType = "";
+        this.keyword = "";
     }
 
     /** 현재 페이지 블록의 페이지 번호 목록을 생성한다. */
@@ -23,7 +23,6 @@ public class ResponseDto {
     String writer;
     String fileName;
     String originalFileName;
-    String profileImage;
     Long viewCount;
     /** 포맷팅된 작성일시 문자열 (예: "2025-01-15 14:30") */
     String createdAt;
@@ -38,7 +37,6 @@ public class ResponseDto {
         this.content = board.getContent();
         this.writer = board.getWriter();
         this.fileName = board.getFileName();
-        this.profileImage = board.getProfileImage();
         this.originalFileName = board.getOriginalFileName();
         this.viewCount = board.getViewCount();
         this.createdAt = board.getCreatedAt().format(formatter);
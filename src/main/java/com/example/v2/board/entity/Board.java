@@ -9,7 +9,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,18 +28,26 @@ import lombok.NoArgsConstructor;
  * - @NoArgsConstructor : 기본 생성자 자동 생성 (JPA 스펙에서 필수)
  * - @Builder : 빌더 패턴을 사용한 객체 생성 지원
  * - @Getter : 모든 필드의 getter 메서드 자동 생성
+ *
+ * (create_at, id) 복합 인덱스는 키셋(커서) 페이징의 범위 스캔에 사용된다.
  */
 @Entity
-@Table(name = "board")
+@Table(name = "board", indexes = @Index(name = "idx_board_create_at_id", columnList = "create_at, id"))
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
 @Getter
 public class Board {
 
-    /** 게시글 고유 ID (PK) */
+    /**
+     * 게시글 고유 ID (PK).
+     *
+     * board_seq 시퀀스를 한 번 조회할 때마다 ID 50개를 할당받는다 (pooled).
+     * IDENTITY 는 INSERT 마다 생성 키를 돌려받아야 해서 Hibernate 가 INSERT 를 JDBC 배치로 묶지 못한다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq")
+    @SequenceGenerator(name = "board_seq", sequenceName = "board_seq", allocationSize = 50)
     private Long id;
 
     /** 게시글 제목 */
@@ -53,7 +63,7 @@ public class Board {
     @Column(nullable = false, length = 50)
     private String writer;
 
-    /** 서버에 저장된 파일명 (UUID + 확장자) */
+    /** 서버에 저장된 파일명 (첨부파일 SHA-256 다이제스트 + 확장자) */
     @Column(name = "file_name", length = 500)
     private String fileName;
 
@@ -66,19 +76,33 @@ public class Board {
     @Column(name = "view_count")
     private Long viewCount = 0L;
 
-    /** Base64 인코딩된 프로필/첨부 이미지 문자열 */
-    @Column(name = "profile_image")
-    @Lob
-    private String profileImage;
-
     /** 게시글 작성 일시 */
     @Column(name = "create_at")
     @CreationTimestamp
     private LocalDateTime createdAt;
 
-    /** 조회수를 1 증가시킨다. */
-    public void increaseViewCount() {
-        this.viewCount++;
+    /**
+     * 아직 DB 에 반영되지 않은 조회수 증가분을 더한다.
+     *
+     * 화면 표시용이다 (실제 반영은 ViewCountBuffer). 영속 상태 엔티티에 호출하면 이후 flush 에서 증가분이 UPDATE 되므로
+     * 상세 캐시가 돌려준 객체나 copy() 로 만든 사본에만 호출한다.
+     */
+    public void addPendingViewCount(long delta) {
+        this.viewCount += delta;
+    }
+
+    /** 영속성 컨텍스트와 무관한 사본을 만든다 (화면 표시용 값을 바꿔도 flush 되지 않는다). */
+    public Board copy() {
+        return Board.builder()
+                .id(id)
+                .title(title)
+                .content(content)
+                .writer(writer)
+                .fileName(fileName)
+                .originalFileName(originalFileName)
+                .viewCount(viewCount)
+                .createdAt(createdAt)
+                .build();
     }
 
     /** 파일 정보를 설정한다. */
@@ -0,0 +1,23 @@
+package com.example.v2.board.event;
+
+import com.example.v2.board.entity.Board;
+
+/**
+ * 게시글 저장 이벤트.
+ *
+ * BoardService.save / save2 에서 게시글을 저장한 뒤 발행한다.
+ * 수신 측은 @TransactionalEventListener(phase = AFTER_COMMIT) 로 구독하여
+ * 트랜잭션이 커밋된 경우에만 검색 인덱스 등 인메모리 구조를 갱신한다.
+ *
+ * @param id      게시글 ID
+ * @param title   제목
+ * @param content 내용
+ * @param writer  작성자
+ */
+public record BoardSavedEvent(Long id, String title, String content, String writer) {
+
+    /** 저장된 Board 엔티티로 이벤트를 생성한다. */
+    public static BoardSavedEvent from(Board board) {
+        return new BoardSavedEvent(board.getId(), board.getTitle(), board.getContent(), board.getWriter());
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.v2.board.repository;
 
-import org.springframework.data.domain.Page;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import com.example.v2.board.dto.BoardSummary;
 import com.example.v2.board.entity.Board;
 
 /**
@@ -14,18 +20,44 @@ import com.example.v2.board.entity.Board;
  *
  * 아래 메서드들은 Spring Data JPA 의 '쿼리 메서드' 기능을 활용하여
  * 메서드명만으로 자동으로 JPQL 쿼리를 생성한다.
+ *
+ * 전체 목록 및 제목/내용/작성자 검색은 BoardRepositoryCustom(인메모리 검색 인덱스)에서 제공한다.
  */
-public interface BoardRepository extends JpaRepository<Board, Long> {
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
+
+    /** 목록 요약 프로젝션의 JPQL 생성자 표현식 */
+    String SUMMARY = "new com.example.v2.board.dto.BoardSummary(b.id, b.title, b.writer, b.viewCount, b.createdAt)";
+
+    /** 정확히 같은 제목의 게시글이 있는지 확인한다 (title 유니크 인덱스 사용). */
+    boolean existsByTitle(String title);
+
+    /** 주어진 제목 중 이미 저장된 제목을 한 번에 조회한다 (일괄 등록용, title 유니크 인덱스 사용). */
+    @Query("select b.title from Board b where b.title in :titles")
+    List<String> findExistingTitles(@Param("titles") Collection<String> titles);
 
-    /** 전체 게시글을 작성일 내림차순으로 페이징 조회한다. */
-    Page<Board> findAllByOrderByCreatedAtDesc(Pageable pageable);
+    /*
+     * 키셋(커서) 페이징 쿼리 (목록 화면용 요약 프로젝션).
+     * - 생성자 표현식으로 id/title/writer/viewCount/createdAt 만 조회하며 LOB 컬럼(content)은 읽지 않는다.
+     * - 조회 결과는 엔티티가 아니므로 영속성 컨텍스트의 변경 감지 대상이 아니다.
+     * - OFFSET/COUNT 없이 (create_at, id) 인덱스 범위 스캔만으로 페이지를 조회한다.
+     * - Pageable 은 LIMIT 용도로만 사용하며 (PageRequest.of(0, size)), 반환 타입이 List 이므로 COUNT 쿼리가 실행되지 않는다.
+     */
 
-    /** 제목에 키워드가 포함된 게시글을 페이징 조회한다. */
-    Page<Board> findByTitleContaining(String title, Pageable pageable);
+    /** 첫 페이지를 작성일시, ID 내림차순으로 조회한다. */
+    @Query("select " + SUMMARY + " from Board b order by b.createdAt desc, b.id desc")
+    List<BoardSummary> findFirstByCursor(Pageable pageable);
 
-    /** 작성자에 키워드가 포함된 게시글을 페이징 조회한다. */
-    Page<Board> findByWriterContaining(String writer, Pageable pageable);
+    /** 커서보다 오래된 게시글을 작성일시, ID 내림차순으로 조회한다 (다음 페이지). */
+    @Query("select " + SUMMARY + " from Board b"
+            + " where b.createdAt <= :createdAt and (b.createdAt < :createdAt or b.id < :id)"
+            + " order by b.createdAt desc, b.id desc")
+    List<BoardSummary> findNextByCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            Pageable pageable);
 
-    /** 제목 또는 내용에 키워드가 포함된 게시글을 페이징 조회한다. */
-    Page<Board> findByTitleContainingOrContentContaining(String title, String content, Pageable pageable);
+    /** 커서보다 최신인 게시글을 작성일시, ID 오름차순으로 조회한다 (이전 페이지, 호출 측에서 역순 정렬). */
+    @Query("select " + SUMMARY + " from Board b"
+            + " where b.createdAt >= :createdAt and (b.createdAt > :createdAt or b.id > :id)"
+            + " order by b.createdAt asc, b.id asc")
+    List<BoardSummary> findPrevByCursor(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            Pageable pageable);
 }
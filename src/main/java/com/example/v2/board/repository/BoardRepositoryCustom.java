@@ -3,22 +3,31 @@ package com.example.v2.board.repository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import com.example.v2.board.dto.BoardSummary;
 import com.example.v2.board.entity.Board;
 
 /**
  * 게시판 커스텀 리포지토리 인터페이스.
  *
- * Spring Data JPA 의 쿼리 메서드만으로 구현하기 어려운
- * 복잡한 동적 쿼리를 정의하기 위한 인터페이스이다.
+ * Spring Data JPA 의 쿼리 메서드만으로 구현하기 어려운 검색 기능을 정의한다.
+ * 구현체(BoardRepositoryCustomImpl)는 인메모리 n-gram 역색인(BoardSearchIndex)으로
+ * 제목/내용/작성자 검색을 처리하고, 인덱스를 사용할 수 없을 때만 LIKE 검색으로 대체한다.
  *
- * 향후 QueryDSL 또는 Criteria API 등으로 구현체를 작성하여
- * 복합 검색(제목+내용+작성자 동시 검색) 등을 처리할 수 있다.
+ * 검색 조건(title, content, writer)은 null 또는 빈 값이면 무시하며, 나머지 조건은 OR 로 결합한다.
+ * 검색 결과는 인덱스/LIKE 어느 경로든 같은 부분 문자열 조건(대소문자 구분)으로 거르고 ID 내림차순으로 정렬한다.
+ * (ID 는 저장 순서대로 증가하므로 최신순이며, 후보 ID 를 순서대로 확인하는 인덱스 경로와 같은 순서를 쓰기 위해 작성일 대신 ID 를 쓴다)
  */
 public interface BoardRepositoryCustom {
 
     /** 전체 게시글을 작성일 내림차순으로 페이징 조회한다. */
     Page<Board> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
-    /** 제목, 내용, 작성자 조건으로 게시글을 검색한다. */
+    /** 전체 게시글 요약(LOB 제외)을 작성일 내림차순으로 페이징 조회한다 (전체 건수는 BoardCountCache 사용). */
+    Page<BoardSummary> findSummaryAll(Pageable pageable);
+
+    /** 제목, 내용, 작성자 조건으로 게시글을 검색한다 (ID 내림차순). */
     Page<Board> findAllByOrderByCreatedAtDesc(String title, String content, String writer, Pageable pageable);
+
+    /** 제목, 내용, 작성자 조건으로 게시글 요약(LOB 제외)을 검색한다 (ID 내림차순). */
+    Page<BoardSummary> findSummaries(String title, String content, String writer, Pageable pageable);
 }
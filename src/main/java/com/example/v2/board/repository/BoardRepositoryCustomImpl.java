@@ -0,0 +1,274 @@
+package com.example.v2.board.repository;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import com.example.v2.board.cache.BoardCountCache;
+import com.example.v2.board.dto.BoardSummary;
+import com.example.v2.board.entity.Board;
+import com.example.v2.board.search.BoardSearchIndex;
+import com.example.v2.board.search.BoardSearchIndex.Field;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * BoardRepositoryCustom 구현체.
+ *
+ * Spring Data JPA 가 "인터페이스명 + Impl" 규칙으로 찾아 BoardRepository 에 조합한다.
+ * - 검색: BoardSearchIndex 가 메모리에서 일치 여부까지 확인한 게시글 ID(최신순)로 현재 페이지의 ID 만 조회한다.
+ * - 인덱스가 아직 구축 중이거나 검색어에 색인 가능한 문자가 없으면 기존과 같은 LIKE 검색으로 대체한다.
+ * - 전체/LIKE 검색 건수는 BoardCountCache 로 COUNT(*) 를 생략한다.
+ * - 검색은 (페이지 크기 + 1) 건을 읽어 다음 페이지 여부를 판단하므로, 건수가 상한(searchLimit)에 걸려도 끝까지 넘겨 볼 수 있다.
+ */
+@RequiredArgsConstructor
+public class BoardRepositoryCustomImpl implements BoardRepositoryCustom {
+
+    private final EntityManager em;
+    /** 검색 인덱스 (JPA 테스트 슬라이스 등 빈이 없는 환경에서는 LIKE 검색만 사용) */
+    private final ObjectProvider<BoardSearchIndex> searchIndex;
+    /** 게시글 수 캐시 (빈이 없는 환경에서는 매번 COUNT 조회) */
+    private final ObjectProvider<BoardCountCache> countCache;
+
+    @Override
+    public Page<Board> findAllByOrderByCreatedAtDesc(Pageable pageable) {
+        TypedQuery<Board> query = em.createQuery(
+                "select b from Board b order by b.createdAt desc, b.id desc", Board.class);
+        return PageableExecutionUtils.getPage(paged(query, pageable).getResultList(), pageable, this::countAll);
+    }
+
+    @Override
+    public Page<BoardSummary> findSummaryAll(Pageable pageable) {
+        TypedQuery<BoardSummary> query = em.createQuery(
+                "select " + BoardRepository.SUMMARY + " from Board b order by b.createdAt desc, b.id desc",
+                BoardSummary.class);
+        return PageableExecutionUtils.getPage(paged(query, pageable).getResultList(), pageable, this::countAll);
+    }
+
+    /** 전체 게시글 수 (캐시가 있으면 캐시 값). */
+    private long countAll() {
+        LongSupplier count = () -> em.createQuery("select count(b) from Board b", Long.class).getSingleResult();
+        BoardCountCache cache = countCache.getIfAvailable();
+        return cache != null ? cache.total(count) : count.getAsLong();
+    }
+
+    @Override
+    public Page<Board> findAllByOrderByCreatedAtDesc(String title, String content, String writer,
+            Pageable pageable) {
+        return search(title, content, writer, pageable, "b", Board.class, Board::getId);
+    }
+
+    @Override
+    public Page<BoardSummary> findSummaries(String title, String content, String writer, Pageable pageable) {
+        return search(title, content, writer, pageable, BoardRepository.SUMMARY, BoardSummary.class,
+                BoardSummary::id);
+    }
+
+    /**
+     * 인덱스 검색을 우선 시도하고, 불가능하면 LIKE 검색으로 대체한다.
+     *
+     * 검색어는 NFC 로 정규화하여 두 경로에 같은 값을 사용하고, 결과는 두 경로 모두 ID 내림차순이다.
+     *
+     * @param select JPQL select 절 (엔티티 별칭 또는 생성자 표현식)
+     * @param type   조회 결과 타입
+     * @param idOf   조회 결과에서 게시글 ID 를 꺼내는 함수 (인덱스 순서로 재정렬할 때 사용)
+     */
+    private <T> Page<T> search(String title, String content, String writer, Pageable pageable,
+            String select, Class<T> type, Function<T, Long> idOf) {
+        title = nfc(title);
+        content = nfc(content);
+        writer = nfc(writer);
+        LikeCondition like = LikeCondition.of(title, content, writer);
+        String keyword = firstNonBlank(title, content, writer);
+        BoardSearchIndex index = searchIndex.getIfAvailable();
+        if (keyword != null && index != null && sameKeyword(keyword, title, content, writer)) {
+            long[] ids = index.search(keyword, fields(title, content, writer));
+            if (ids != null) {
+                return indexSearch(ids, pageable, select, type, idOf);
+            }
+        }
+        return likeSearch(like, pageable, select, type);
+    }
+
+    /**
+     * 인덱스 검색 결과 ID(최신순) 중 현재 페이지에 해당하는 ID 만 조회한다.
+     *
+     * 인덱스가 원문까지 확인한 결과이므로 DB 는 페이지 조회(where id in) 한 번만 하고, 건수는 결과 ID 수를 그대로 쓴다.
+     */
+    private <T> Page<T> indexSearch(long[] ids, Pageable pageable, String select, Class<T> type,
+            Function<T, Long> idOf) {
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), ids.length) : 0;
+        // 다음 페이지 여부 확인을 위해 1건 더 포함
+        int to = pageable.isPaged() ? (int) Math.min((long) from + pageable.getPageSize() + 1, ids.length) : ids.length;
+        if (from == to) {
+            return searchPage(List.of(), pageable, () -> ids.length);
+        }
+        List<Long> pageIds = Arrays.stream(ids, from, to).boxed().toList();
+
+        List<T> rows = em.createQuery("select " + select + " from Board b where b.id in :ids", type)
+                .setParameter("ids", pageIds)
+                .getResultList();
+
+        // IN 조회 결과는 순서가 보장되지 않으므로 ID 내림차순(최신순)으로 재정렬
+        Map<Long, T> byId = new HashMap<>();
+        rows.forEach(row -> byId.put(idOf.apply(row), row));
+        List<T> content = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            T row = byId.get(id);
+            if (row != null) {
+                content.add(row);
+            }
+        }
+        return searchPage(content, pageable, () -> ids.length);
+    }
+
+    /** 인덱스를 사용할 수 없을 때의 LIKE 검색. 조건이 모두 비어 있으면 전체 목록을 조회한다. */
+    private <T> Page<T> likeSearch(LikeCondition like, Pageable pageable, String select, Class<T> type) {
+        TypedQuery<T> query = em.createQuery(
+                "select " + select + " from Board b" + like.where() + " order by b.id desc", type);
+        like.params().forEach(query::setParameter);
+        if (pageable.isPaged()) {
+            // 다음 페이지 여부 확인을 위해 1건 더 조회
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize() + 1);
+        }
+
+        return searchPage(query.getResultList(), pageable, () -> likeCount(like));
+    }
+
+    /**
+     * 검색 결과 페이지를 만든다.
+     *
+     * rows 는 (페이지 크기 + 1) 건까지 조회한 결과이며, 넘친 1건으로 다음 페이지 여부를 정한다.
+     * 건수(count)는 캐시가 있으면 (limit + 1) 에서 잘린 값이라 화면의 "1,000+" 표시에만 쓰고,
+     * 페이지 이동은 잘린 건수와 무관하게 동작하도록 전체 건수를 최소 (현재 위치 + 다음 페이지 1건) 으로 둔다.
+     */
+    private static <T> Page<T> searchPage(List<T> rows, Pageable pageable, LongSupplier count) {
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(rows, pageable, rows.size());
+        }
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        long seen = pageable.getOffset() + content.size();
+        if (!hasNext && (!content.isEmpty() || pageable.getOffset() == 0)) {
+            // 마지막 페이지면 건수를 세지 않아도 정확한 전체 건수를 안다
+            return new PageImpl<>(content, pageable, seen);
+        }
+        long total = hasNext ? Math.max(count.getAsLong(), seen + 1) : count.getAsLong();
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    /**
+     * LIKE 검색 결과 수.
+     *
+     * 캐시가 있으면 COUNT(*) 대신 ID 를 최대 (limit + 1) 건까지만 조회하여 세고, 조건별로 짧게 보관한다.
+     */
+    private long likeCount(LikeCondition like) {
+        BoardCountCache cache = countCache.getIfAvailable();
+        if (cache == null) {
+            TypedQuery<Long> count = em.createQuery("select count(b) from Board b" + like.where(), Long.class);
+            like.params().forEach(count::setParameter);
+            return count.getSingleResult();
+        }
+        return cache.search(like.key(), () -> {
+            TypedQuery<Long> ids = em.createQuery("select b.id from Board b" + like.where(), Long.class);
+            like.params().forEach(ids::setParameter);
+            return ids.setMaxResults(cache.searchLimit() + 1).getResultList().size();
+        });
+    }
+
+    /**
+     * 검색 조건의 LIKE 절 (OR 결합).
+     *
+     * @param condition JPQL 조건식 (조건이 없으면 빈 문자열)
+     * @param params    조건식의 파라미터
+     */
+    private record LikeCondition(String condition, Map<String, String> params) {
+
+        static LikeCondition of(String title, String content, String writer) {
+            Map<String, String> params = new HashMap<>();
+            List<String> conditions = new ArrayList<>();
+            addLike(conditions, params, "title", title);
+            addLike(conditions, params, "content", content);
+            addLike(conditions, params, "writer", writer);
+            return new LikeCondition(String.join(" or ", conditions), params);
+        }
+
+        String where() {
+            return condition.isEmpty() ? "" : " where " + condition;
+        }
+
+        /** 건수 캐시 키 */
+        String key() {
+            return where() + params;
+        }
+    }
+
+    private static void addLike(List<String> conditions, Map<String, String> params, String field,
+            String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return;
+        }
+        conditions.add("b." + field + " like :" + field + " escape '\\'");
+        params.put(field, "%" + keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%");
+    }
+
+    private static <T> TypedQuery<T> paged(TypedQuery<T> query, Pageable pageable) {
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return query;
+    }
+
+    /** 값이 있는 조건에 해당하는 인덱스 필드 목록을 반환한다. */
+    private static Field[] fields(String title, String content, String writer) {
+        List<Field> fields = new ArrayList<>(3);
+        if (title != null && !title.isBlank()) {
+            fields.add(Field.TITLE);
+        }
+        if (content != null && !content.isBlank()) {
+            fields.add(Field.CONTENT);
+        }
+        if (writer != null && !writer.isBlank()) {
+            fields.add(Field.WRITER);
+        }
+        return fields.toArray(Field[]::new);
+    }
+
+    private static String nfc(String value) {
+        return value == null ? null : Normalizer.normalize(value, Normalizer.Form.NFC);
+    }
+
+    private static String firstNonBlank(String... values) {
+        for (String value : values) {
+            if (value != null && !value.isBlank()) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /** 인덱스 검색은 모든 조건이 같은 키워드일 때만 사용한다 (화면의 검색 유형은 항상 이 형태). */
+    private static boolean sameKeyword(String keyword, String... values) {
+        for (String value : values) {
+            if (value != null && !value.isBlank() && !value.equals(keyword)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
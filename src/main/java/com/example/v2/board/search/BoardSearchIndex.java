@@ -0,0 +1,269 @@
+package com.example.v2.board.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.v2.board.event.BoardSavedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 인메모리 역색인 (n-gram 검색 인덱스).
+ *
+ * 제목/내용/작성자 필드별로 그램 → 압축 포스팅 리스트(게시글 ID 목록)를 유지하여
+ * LIKE '%keyword%' 전체 테이블 스캔 없이 검색 결과 ID 를 계산한다.
+ *
+ * 그램을 모두 포함한다고 부분 문자열이 일치하는 것은 아니므로 ("게시판" 은 "게시글 시판" 에도 모든 바이그램이 있다)
+ * 필드별 원문(NFC 정규화)도 함께 보관하여, 후보가 키워드를 실제로 포함하는지 메모리에서 확인한다.
+ * 확인은 LIKE 와 같이 대소문자를 구분하므로 검색 결과와 건수는 DB 조회 없이 LIKE 검색과 같다.
+ *
+ * - 애플리케이션 기동 완료(ApplicationReadyEvent) 후 별도 스레드에서 board 테이블을 읽어 인덱스를 구축한다.
+ * - 구축이 끝나기 전에는 isReady() 가 false 이며, 호출 측은 DB 검색으로 대체한다.
+ * - 게시글 저장은 트랜잭션 커밋 후(BoardSavedEvent) 증분 반영하며, 구축 중에 저장된 글은 모아 두었다가 구축 완료 시 반영한다.
+ * - 검색 결과는 ID 내림차순(= 등록 순서상 최신순)으로 정렬한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndex {
+
+    /** 색인 대상 필드 */
+    public enum Field {
+        TITLE, CONTENT, WRITER
+    }
+
+    /** 구축 시 한 번에 가져올 행 수 */
+    private static final int FETCH_SIZE = 1000;
+
+    private static final long[] NO_HITS = new long[0];
+
+    private final DataSource dataSource;
+
+    /** application.yml 의 board.search.index.enabled 값 (false 면 항상 DB 검색 사용) */
+    @Value("${board.search.index.enabled:true}")
+    private boolean enabled;
+
+    /** 필드별 그램 → 포스팅 리스트 */
+    private final Map<Field, Map<Integer, PostingList>> postings = createPostings();
+
+    /** 필드별 게시글 ID → 원문 (NFC 정규화, 후보 확인용) */
+    private final Map<Field, Map<Long, String>> texts = createTexts();
+
+    /** 쓰기(문서 추가)와 구축 완료 전환을 직렬화하는 락 */
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    /** 구축 중에 저장된 게시글 (구축 완료 시 반영) */
+    private final List<BoardSavedEvent> pending = new ArrayList<>();
+
+    /** 인덱스 구축 완료 여부 */
+    private volatile boolean ready;
+
+    /** 기동 완료 후 별도 스레드에서 인덱스를 구축한다. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            log.info("게시글 검색 인덱스가 비활성화되어 DB 검색을 사용합니다.");
+            return;
+        }
+        Thread.ofPlatform().name("board-search-index").daemon(true).start(this::build);
+    }
+
+    /** 게시글 저장 트랜잭션이 커밋되면 인덱스에 반영한다. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardSaved(BoardSavedEvent event) {
+        writeLock.lock();
+        try {
+            if (ready) {
+                add(event.id(), event.title(), event.content(), event.writer());
+            } else {
+                pending.add(event);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** 인덱스 사용 가능 여부 */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 주어진 필드 중 하나라도 키워드를 포함하는 게시글 ID 를 최신순(ID 내림차순)으로 반환한다.
+     *
+     * 그램 교집합으로 구한 후보를 원문의 부분 문자열 일치(대소문자 구분)로 확인한 결과이다.
+     *
+     * @return 게시글 ID 배열. 인덱스가 준비되지 않았거나 키워드에 색인 가능한 문자가 없으면 null
+     */
+    public long[] search(String keyword, Field... fields) {
+        if (!ready) {
+            return null;
+        }
+        int[] grams = NgramTokenizer.queryGrams(keyword);
+        if (grams.length == 0) {
+            return null;
+        }
+        String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFC);
+        long[] result = NO_HITS;
+        for (Field field : fields) {
+            result = union(result, matching(searchField(postings.get(field), grams), texts.get(field), normalized));
+        }
+        // 오름차순 → 내림차순(최신순)
+        for (int i = 0, j = result.length - 1; i < j; i++, j--) {
+            long tmp = result[i];
+            result[i] = result[j];
+            result[j] = tmp;
+        }
+        return result;
+    }
+
+    /** board 테이블 전체를 읽어 인덱스를 구축한다. */
+    void build() {
+        long start = System.nanoTime();
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setFetchSize(FETCH_SIZE);
+            jdbcTemplate.query("select id, title, content, writer from board order by id",
+                    (RowCallbackHandler) rs -> add(rs.getLong("id"), rs.getString("title"),
+                            rs.getString("content"), rs.getString("writer")));
+            completeBuild();
+            log.info("게시글 검색 인덱스 구축 완료: {}개 그램, {}ms", gramCount(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("게시글 검색 인덱스 구축 실패, DB 검색을 계속 사용합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    /** 구축 중 저장된 게시글을 반영하고 인덱스를 사용 가능 상태로 전환한다. */
+    void completeBuild() {
+        writeLock.lock();
+        try {
+            for (BoardSavedEvent event : pending) {
+                add(event.id(), event.title(), event.content(), event.writer());
+            }
+            pending.clear();
+            ready = true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** 게시글 한 건을 모든 필드 인덱스에 추가한다. */
+    void add(long id, String title, String content, String writer) {
+        addField(Field.TITLE, id, title);
+        addField(Field.CONTENT, id, content);
+        addField(Field.WRITER, id, writer);
+    }
+
+    private void addField(Field field, long id, String text) {
+        if (text != null) {
+            // 포스팅보다 먼저 넣어 검색 중에 원문 없는 후보가 보이지 않게 한다
+            texts.get(field).put(id, Normalizer.normalize(text, Normalizer.Form.NFC));
+        }
+        Map<Integer, PostingList> index = postings.get(field);
+        for (int gram : NgramTokenizer.documentGrams(text)) {
+            index.computeIfAbsent(gram, key -> new PostingList()).add(id);
+        }
+    }
+
+    /** 한 필드에서 모든 그램을 포함하는 게시글 ID 를 오름차순으로 반환한다. */
+    private static long[] searchField(Map<Integer, PostingList> index, int[] grams) {
+        PostingList[] lists = new PostingList[grams.length];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = index.get(grams[i]);
+            if (lists[i] == null) {
+                return NO_HITS;
+            }
+        }
+        // 가장 짧은 리스트부터 교집합을 구해 디코딩량을 최소화한다
+        Arrays.sort(lists, Comparator.comparingInt(PostingList::size));
+        long[] result = lists[0].toArray();
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            result = lists[i].retainAll(result);
+        }
+        return result;
+    }
+
+    /** 후보 중 원문이 키워드를 포함하는 ID 만 순서를 유지하여 반환한다. */
+    private static long[] matching(long[] candidates, Map<Long, String> texts, String keyword) {
+        long[] out = new long[candidates.length];
+        int n = 0;
+        for (long id : candidates) {
+            String text = texts.get(id);
+            if (text != null && text.contains(keyword)) {
+                out[n++] = id;
+            }
+        }
+        return n == candidates.length ? candidates : Arrays.copyOf(out, n);
+    }
+
+    /** 오름차순 배열 두 개의 합집합을 오름차순으로 반환한다. */
+    private static long[] union(long[] a, long[] b) {
+        if (a.length == 0) {
+            return b;
+        }
+        if (b.length == 0) {
+            return a;
+        }
+        long[] out = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                out[n++] = a[i++];
+            } else if (a[i] > b[j]) {
+                out[n++] = b[j++];
+            } else {
+                out[n++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) {
+            out[n++] = a[i++];
+        }
+        while (j < b.length) {
+            out[n++] = b[j++];
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private long gramCount() {
+        return postings.values().stream().mapToLong(Map::size).sum();
+    }
+
+    private static Map<Field, Map<Integer, PostingList>> createPostings() {
+        Map<Field, Map<Integer, PostingList>> map = new EnumMap<>(Field.class);
+        for (Field field : Field.values()) {
+            map.put(field, new ConcurrentHashMap<>());
+        }
+        return map;
+    }
+
+    private static Map<Field, Map<Long, String>> createTexts() {
+        Map<Field, Map<Long, String>> map = new EnumMap<>(Field.class);
+        for (Field field : Field.values()) {
+            map.put(field, new ConcurrentHashMap<>());
+        }
+        return map;
+    }
+}
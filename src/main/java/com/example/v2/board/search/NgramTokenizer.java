@@ -0,0 +1,105 @@
+package com.example.v2.board.search;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+
+/**
+ * 검색 인덱스용 n-gram 토크나이저.
+ *
+ * 텍스트를 NFC 로 정규화한 뒤 문자/숫자 연속 구간(토큰)마다 유니그램과 바이그램을 생성한다.
+ * - NFC 정규화로 조합형(NFD) 자모 입력도 완성형 한글 음절로 합쳐 동일하게 색인된다.
+ * - 한글 음절은 한 글자가 하나의 문자이므로 "게시판" → "게", "시", "판", "게시", "시판" 으로 분해된다.
+ * - 영문은 소문자로 변환한다 (그램은 후보를 넓게 찾는 용도이고, 대소문자 구분은 BoardSearchIndex 의 원문 확인에서 한다).
+ *
+ * 그램은 int 키로 표현한다. 유니그램은 문자 코드(0 ~ 0xFFFF), 바이그램은 (앞 문자 << 16 | 뒷 문자) 이며
+ * 앞 문자가 0 이 될 수 없으므로 두 값의 범위는 겹치지 않는다.
+ */
+final class NgramTokenizer {
+
+    private static final int[] EMPTY = new int[0];
+
+    private NgramTokenizer() {
+    }
+
+    /** 문서 텍스트의 모든 유니그램/바이그램을 중복 없이 반환한다. */
+    static int[] documentGrams(String text) {
+        if (text == null || text.isEmpty()) {
+            return EMPTY;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFC);
+        int[] buf = new int[normalized.length() * 2];
+        int n = 0;
+        char prev = 0;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!isIndexable(c)) {
+                prev = 0;
+                continue;
+            }
+            c = Character.toLowerCase(c);
+            buf[n++] = c;
+            if (prev != 0) {
+                buf[n++] = bigram(prev, c);
+            }
+            prev = c;
+        }
+        return distinct(buf, n);
+    }
+
+    /**
+     * 검색어의 그램을 반환한다.
+     *
+     * 한 글자 토큰은 유니그램, 두 글자 이상 토큰은 바이그램만 사용한다 (모든 그램을 포함하는 문서가 결과).
+     * 색인 가능한 문자가 없으면 빈 배열을 반환한다.
+     */
+    static int[] queryGrams(String keyword) {
+        if (keyword == null || keyword.isEmpty()) {
+            return EMPTY;
+        }
+        String normalized = Normalizer.normalize(keyword, Normalizer.Form.NFC);
+        int[] buf = new int[normalized.length()];
+        int n = 0;
+        int tokenStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean indexable = i < normalized.length() && isIndexable(normalized.charAt(i));
+            if (indexable && tokenStart < 0) {
+                tokenStart = i;
+            } else if (!indexable && tokenStart >= 0) {
+                if (i - tokenStart == 1) {
+                    buf[n++] = Character.toLowerCase(normalized.charAt(tokenStart));
+                } else {
+                    for (int j = tokenStart + 1; j < i; j++) {
+                        buf[n++] = bigram(Character.toLowerCase(normalized.charAt(j - 1)),
+                                Character.toLowerCase(normalized.charAt(j)));
+                    }
+                }
+                tokenStart = -1;
+            }
+        }
+        return distinct(buf, n);
+    }
+
+    /** 색인 대상 문자인지 확인한다 (문자/숫자, 서로게이트 쌍 제외). */
+    private static boolean isIndexable(char c) {
+        return !Character.isSurrogate(c) && Character.isLetterOrDigit(c);
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    /** 앞에서 n 개의 값을 정렬하고 중복을 제거한다. */
+    private static int[] distinct(int[] values, int n) {
+        if (n == 0) {
+            return EMPTY;
+        }
+        Arrays.sort(values, 0, n);
+        int size = 1;
+        for (int i = 1; i < n; i++) {
+            if (values[i] != values[size - 1]) {
+                values[size++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, size);
+    }
+}
@@ -0,0 +1,242 @@
+package com.example.v2.board.search;
+
+import java.util.Arrays;
+
+/**
+ * 압축 포스팅 리스트.
+ *
+ * 하나의 그램을 포함하는 게시글 ID 목록을 오름차순으로 저장한다.
+ * - ID 는 직전 ID 와의 차이(delta)를 가변 길이 정수(varint)로 인코딩하여 보통 1 ~ 2 바이트만 사용한다.
+ * - 128 건마다 블록을 나누고 블록 시작 ID 는 절대값으로 기록하여, 블록 단위로 건너뛰며 탐색(skip)할 수 있다.
+ * - 마지막 ID 보다 작은 ID(여러 트랜잭션/인스턴스의 커밋 순서가 ID 순서와 다를 때)는 작은 정렬 배열(extra)에 모아 두고,
+ *   EXTRA_LIMIT 건이 쌓이면 한 번에 본문에 병합한다 (추가마다 전체를 다시 인코딩하지 않는다).
+ *
+ * 동시성: 쓰기는 호출 측(BoardSearchIndex)이 락으로 직렬화하고, 읽기는 락 없이 volatile 스냅샷을 사용한다.
+ * 쓰기는 배열의 공개된 길이 이후 영역에만 기록한 뒤 새 스냅샷을 발행하므로 읽기 측은 항상 일관된 상태를 본다.
+ */
+final class PostingList {
+
+    /** 블록당 ID 수 */
+    private static final int BLOCK_SIZE = 128;
+    /** varint 로 인코딩한 long 의 최대 바이트 수 */
+    private static final int MAX_VARLONG_BYTES = 10;
+    /** 본문에 병합하기 전까지 모아 둘 순서가 뒤바뀐 ID 수 */
+    static final int EXTRA_LIMIT = 64;
+    private static final long[] NO_EXTRA = new long[0];
+
+    /**
+     * 불변 스냅샷.
+     *
+     * @param data         varint 인코딩 데이터
+     * @param length       data 중 유효한 바이트 수
+     * @param count        ID 수
+     * @param lastId       마지막(가장 큰) ID
+     * @param blockIds     블록별 첫 ID
+     * @param blockOffsets 블록별 data 시작 위치
+     * @param blocks       블록 수
+     * @param extra        본문에 아직 병합하지 않은 순서가 뒤바뀐 ID (오름차순, 본문과 겹치지 않음)
+     */
+    private record Snapshot(byte[] data, int length, int count, long lastId,
+            long[] blockIds, int[] blockOffsets, int blocks, long[] extra) {
+    }
+
+    private volatile Snapshot snapshot = empty(16, 4);
+
+    /** 저장된 ID 수를 반환한다. */
+    int size() {
+        Snapshot s = snapshot;
+        return s.count() + s.extra().length;
+    }
+
+    /** 인코딩된 데이터 크기(바이트)를 반환한다. */
+    int byteSize() {
+        return snapshot.length();
+    }
+
+    /** ID 를 추가한다. 이미 존재하면 무시한다. 호출 측에서 쓰기를 직렬화해야 한다. */
+    void add(long id) {
+        Snapshot s = snapshot;
+        if (s.count() > 0 && id <= s.lastId()) {
+            if (id == s.lastId() || contains(s, id)) {
+                return;
+            }
+            int at = Arrays.binarySearch(s.extra(), id);
+            if (at >= 0) {
+                return;
+            }
+            long[] extra = insert(s.extra(), -(at + 1), id);
+            Snapshot added = new Snapshot(s.data(), s.length(), s.count(), s.lastId(), s.blockIds(),
+                    s.blockOffsets(), s.blocks(), extra);
+            snapshot = extra.length >= EXTRA_LIMIT ? merge(added) : added;
+            return;
+        }
+        snapshot = append(s, id);
+    }
+
+    /** 모든 ID 를 오름차순 배열로 반환한다. */
+    long[] toArray() {
+        Snapshot s = snapshot;
+        long[] out = new long[s.count()];
+        int n = 0;
+        for (int b = 0; b < s.blocks(); b++) {
+            n = decodeBlock(s, b, out, n);
+        }
+        return s.extra().length == 0 ? out : mergeSorted(out, s.extra());
+    }
+
+    /** 오름차순 후보 ID 중 이 리스트에 포함된 ID 만 오름차순으로 반환한다 (블록 건너뛰기 탐색). */
+    long[] retainAll(long[] candidates) {
+        Snapshot s = snapshot;
+        long[] out = new long[Math.min(candidates.length, s.count() + s.extra().length)];
+        int n = 0;
+        long[] block = new long[BLOCK_SIZE];
+        int loadedBlock = -1;
+        int blockLength = 0;
+        for (long id : candidates) {
+            if (s.extra().length > 0 && Arrays.binarySearch(s.extra(), id) >= 0) {
+                out[n++] = id;
+                continue;
+            }
+            int b = findBlock(s, id);
+            if (b < 0) {
+                continue;
+            }
+            if (b != loadedBlock) {
+                blockLength = decodeBlock(s, b, block, 0);
+                loadedBlock = b;
+            }
+            if (Arrays.binarySearch(block, 0, blockLength, id) >= 0) {
+                out[n++] = id;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static boolean contains(Snapshot s, long id) {
+        int b = findBlock(s, id);
+        if (b < 0) {
+            return false;
+        }
+        long[] block = new long[BLOCK_SIZE];
+        int length = decodeBlock(s, b, block, 0);
+        return Arrays.binarySearch(block, 0, length, id) >= 0;
+    }
+
+    /** id 가 속할 수 있는 블록(첫 ID 가 id 이하인 마지막 블록)을 찾는다. 없으면 -1. */
+    private static int findBlock(Snapshot s, long id) {
+        int low = 0;
+        int high = s.blocks() - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (s.blockIds()[mid] <= id) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return found;
+    }
+
+    /** 블록 하나를 디코딩하여 out[outPos] 부터 채우고 다음 위치를 반환한다. */
+    private static int decodeBlock(Snapshot s, int block, long[] out, int outPos) {
+        byte[] data = s.data();
+        int pos = s.blockOffsets()[block];
+        int n = Math.min(BLOCK_SIZE, s.count() - block * BLOCK_SIZE);
+        long value = 0;
+        for (int i = 0; i < n; i++) {
+            long v = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[pos++];
+                v |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            // 블록의 첫 값은 절대값, 이후는 직전 값과의 차이
+            value = i == 0 ? v : value + v;
+            out[outPos++] = value;
+        }
+        return outPos;
+    }
+
+    private static Snapshot append(Snapshot s, long id) {
+        byte[] data = s.data();
+        long[] blockIds = s.blockIds();
+        int[] blockOffsets = s.blockOffsets();
+        int blocks = s.blocks();
+
+        boolean newBlock = s.count() % BLOCK_SIZE == 0;
+        if (newBlock) {
+            if (blocks == blockIds.length) {
+                blockIds = Arrays.copyOf(blockIds, blocks * 2);
+                blockOffsets = Arrays.copyOf(blockOffsets, blocks * 2);
+            }
+            blockIds[blocks] = id;
+            blockOffsets[blocks] = s.length();
+            blocks++;
+        }
+        if (s.length() + MAX_VARLONG_BYTES > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, s.length() + MAX_VARLONG_BYTES));
+        }
+        int length = writeVarLong(data, s.length(), newBlock ? id : id - s.lastId());
+        return new Snapshot(data, length, s.count() + 1, id, blockIds, blockOffsets, blocks, s.extra());
+    }
+
+    /** 본문과 extra 를 합쳐 다시 인코딩한다 (EXTRA_LIMIT 건마다 한 번). */
+    private static Snapshot merge(Snapshot s) {
+        long[] main = new long[s.count()];
+        int n = 0;
+        for (int b = 0; b < s.blocks(); b++) {
+            n = decodeBlock(s, b, main, n);
+        }
+        long[] ids = mergeSorted(main, s.extra());
+        Snapshot merged = empty(Math.max(16, s.length() + s.extra().length * MAX_VARLONG_BYTES),
+                Math.max(4, ids.length / BLOCK_SIZE + 1));
+        for (long id : ids) {
+            merged = append(merged, id);
+        }
+        return merged;
+    }
+
+    /** 겹치지 않는 오름차순 배열 두 개를 합친다. */
+    private static long[] mergeSorted(long[] a, long[] b) {
+        long[] out = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            out[n++] = a[i] < b[j] ? a[i++] : b[j++];
+        }
+        while (i < a.length) {
+            out[n++] = a[i++];
+        }
+        while (j < b.length) {
+            out[n++] = b[j++];
+        }
+        return out;
+    }
+
+    private static long[] insert(long[] values, int at, long value) {
+        long[] out = new long[values.length + 1];
+        System.arraycopy(values, 0, out, 0, at);
+        out[at] = value;
+        System.arraycopy(values, at, out, at + 1, values.length - at);
+        return out;
+    }
+
+    private static Snapshot empty(int dataCapacity, int blockCapacity) {
+        return new Snapshot(new byte[dataCapacity], 0, 0, 0L, new long[blockCapacity], new int[blockCapacity], 0,
+                NO_EXTRA);
+    }
+
+    private static int writeVarLong(byte[] data, int pos, long value) {
+        while ((value & ~0x7FL) != 0) {
+            data[pos++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[pos++] = (byte) value;
+        return pos;
+    }
+}
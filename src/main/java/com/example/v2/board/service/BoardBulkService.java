@@ -0,0 +1,207 @@
+package com.example.v2.board.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.v2.board.dto.BulkResult;
+import com.example.v2.board.dto.BulkResult.Item;
+import com.example.v2.board.entity.Board;
+import com.example.v2.board.event.BoardSavedEvent;
+import com.example.v2.board.repository.BoardRepository;
+import com.example.v2.exception.exs.InvalidRequestException;
+import com.example.v2.util.JsonStreamReader;
+import com.example.v2.util.JsonStreamReader.MalformedJsonException;
+
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 일괄 등록 서비스.
+ *
+ * JSON 배열 또는 NDJSON(줄마다 JSON 객체 하나) 본문을 JsonStreamReader 로 한 건씩 읽어
+ * batch-size 건씩 묶어 각각 한 트랜잭션으로 등록한다. 본문 전체를 메모리에 올리지 않는다.
+ * - 제목 중복은 묶음 단위로 확인한다: 요청 안의 중복은 메모리에서, 기존 게시글과의 중복은
+ *   블룸 필터를 통과한 제목만 모아 IN 쿼리 한 번으로 확인한다.
+ * - board_seq 시퀀스(allocationSize 50)로 ID 를 미리 받아 INSERT 를 JDBC 배치(batch-size)로 실행한다.
+ * - 확인 이후 다른 요청이 같은 제목을 먼저 저장하여 유니크 제약 조건을 위반하면 그 묶음만 한 번 다시 확인하여 등록한다.
+ * - 저장한 게시글마다 BoardSavedEvent 를 발행하므로 묶음이 커밋되면 검색 인덱스/캐시에 반영된다.
+ * 이미지 첨부는 지원하지 않는다 (title, content, writer 외의 필드는 무시).
+ */
+@Slf4j
+@Service
+public class BoardBulkService {
+
+    /** 제목/작성자 최대 길이 (board 테이블 컬럼 길이) */
+    private static final int MAX_LENGTH = 50;
+
+    private final EntityManager em;
+    private final BoardRepository repository;
+    private final TitleBloomFilter titleFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxItems;
+
+    public BoardBulkService(EntityManager em, BoardRepository repository, TitleBloomFilter titleFilter,
+            ApplicationEventPublisher eventPublisher, PlatformTransactionManager transactionManager,
+            @Value("${board.bulk.batch-size:500}") int batchSize,
+            @Value("${board.bulk.max-items:100000}") int maxItems) {
+        if (batchSize < 1 || maxItems < 1) {
+            throw new IllegalArgumentException("board.bulk.batch-size 와 board.bulk.max-items 는 1 이상이어야 합니다.");
+        }
+        this.em = em;
+        this.repository = repository;
+        this.titleFilter = titleFilter;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.maxItems = maxItems;
+    }
+
+    /** 요청 본문에서 읽은 게시글 한 건 (error 가 있으면 등록하지 않는다). */
+    private record Row(int index, String title, String content, String writer, Item error) {
+    }
+
+    /**
+     * 게시글을 일괄 등록한다.
+     *
+     * @param body   JSON 배열 또는 NDJSON 본문
+     * @param ndjson true 이면 NDJSON, false 이면 JSON 배열로 읽는다
+     * @return 항목별 결과 (요청 순서)
+     */
+    public BulkResult importBoards(InputStream body, boolean ndjson) {
+        List<Item> results = new ArrayList<>();
+        List<Row> chunk = new ArrayList<>(batchSize);
+        Set<String> seenTitles = new HashSet<>();
+        int index = 0;
+        try (JsonStreamReader json = new JsonStreamReader(body)) {
+            if (!ndjson) {
+                json.beginArray();
+            }
+            while (ndjson ? json.hasNextDocument() : json.hasNext()) {
+                if (index == maxItems) {
+                    throw new InvalidRequestException("한 번에 등록할 수 있는 게시글은 최대 " + maxItems + "건입니다.");
+                }
+                Row row = read(json, index);
+                index++;
+                chunk.add(validate(row, seenTitles));
+                if (chunk.size() == batchSize) {
+                    results.addAll(save(chunk));
+                    chunk.clear();
+                }
+            }
+            if (!ndjson) {
+                json.endArray();
+            }
+        } catch (MalformedJsonException e) {
+            // 형식 오류 이후는 다시 맞출 수 없으므로 앞까지만 등록하고 오류 항목으로 끝낸다
+            results.addAll(save(chunk));
+            chunk.clear();
+            results.add(Item.invalid(index, e.getMessage()));
+        } catch (IOException e) {
+            throw new InvalidRequestException("요청 본문을 읽을 수 없습니다.", e);
+        }
+        results.addAll(save(chunk));
+        return BulkResult.of(results);
+    }
+
+    /** 객체 하나를 읽는다. */
+    private static Row read(JsonStreamReader json, int index) throws IOException {
+        String title = null;
+        String content = null;
+        String writer = null;
+        json.beginObject();
+        while (json.hasNext()) {
+            switch (json.nextName()) {
+                case "title" -> title = json.nextString();
+                case "content" -> content = json.nextString();
+                case "writer" -> writer = json.nextString();
+                default -> json.skipValue();
+            }
+        }
+        json.endObject();
+        return new Row(index, title, content, writer, null);
+    }
+
+    /** 필수 값/길이와 요청 안의 제목 중복을 확인한다. */
+    private static Row validate(Row row, Set<String> seenTitles) {
+        String error = null;
+        if (row.title() == null || row.title().isBlank() || row.writer() == null || row.writer().isBlank()) {
+            error = "제목과 작성자는 필수입니다.";
+        } else if (row.title().length() > MAX_LENGTH || row.writer().length() > MAX_LENGTH) {
+            error = "제목과 작성자는 " + MAX_LENGTH + "자 이하여야 합니다.";
+        }
+        if (error != null) {
+            return new Row(row.index(), row.title(), row.content(), row.writer(), Item.invalid(row.index(), error));
+        }
+        if (!seenTitles.add(row.title())) {
+            return new Row(row.index(), row.title(), row.content(), row.writer(),
+                    Item.duplicate(row.index(), "요청 안에서 중복된 제목입니다. (title: " + row.title() + ")"));
+        }
+        return row;
+    }
+
+    /** 묶음 하나를 한 트랜잭션으로 등록한다. */
+    private List<Item> save(List<Row> chunk) {
+        if (chunk.isEmpty()) {
+            return List.of();
+        }
+        try {
+            return transactionTemplate.execute(status -> insert(chunk));
+        } catch (DataIntegrityViolationException e) {
+            // 확인 이후 다른 요청이 같은 제목을 먼저 저장한 경우: 롤백된 묶음을 다시 확인하여 등록
+            log.debug("일괄 등록 중 제목 충돌, 묶음을 다시 등록합니다: {}", e.getMessage());
+            return transactionTemplate.execute(status -> insert(chunk));
+        }
+    }
+
+    private List<Item> insert(List<Row> chunk) {
+        Set<String> existing = existingTitles(chunk);
+        em.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        List<Item> items = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            if (row.error() != null) {
+                items.add(row.error());
+            } else if (existing.contains(row.title())) {
+                items.add(Item.duplicate(row.index(), "이미 존재하는 제목입니다. (title: " + row.title() + ")"));
+            } else {
+                Board board = Board.builder()
+                        .title(row.title())
+                        .content(row.content())
+                        .writer(row.writer())
+                        .build();
+                // SEQUENCE 전략이므로 persist 시점에 ID 가 정해지고 INSERT 는 flush 때 배치로 실행된다
+                em.persist(board);
+                items.add(Item.created(row.index(), board.getId()));
+                // 커밋 후 검색 인덱스 등에 반영
+                eventPublisher.publishEvent(BoardSavedEvent.from(board));
+            }
+        }
+        // 리포지토리를 거쳐 flush 해야 유니크 제약 조건 위반이 DataIntegrityViolationException 으로 변환된다
+        repository.flush();
+        // 영속성 컨텍스트가 요청 전체 건수만큼 커지지 않도록 묶음마다 비운다
+        em.clear();
+        return items;
+    }
+
+    /** 묶음의 제목 중 이미 저장된 제목을 조회한다 (블룸 필터가 "없음"으로 판단한 제목은 조회하지 않음). */
+    private Set<String> existingTitles(List<Row> chunk) {
+        List<String> candidates = chunk.stream()
+                .filter(row -> row.error() == null && titleFilter.mightContain(row.title()))
+                .map(Row::title)
+                .toList();
+        return candidates.isEmpty() ? Set.of() : new HashSet<>(repository.findExistingTitles(candidates));
+    }
+}
@@ -1,27 +1,48 @@
 package com.example.v2.board.service;
 
-import java.io.File;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.example.v2.attachment.service.AttachmentStore;
+import com.example.v2.attachment.service.AttachmentStore.StagedFile;
+import com.example.v2.attachment.service.ThumbnailService;
+import com.example.v2.board.cache.BoardDetailCache;
 import com.example.v2.board.dto.Base64Dto;
+import com.example.v2.board.dto.BoardCursor;
+import com.example.v2.board.dto.BoardSummary;
+import com.example.v2.board.dto.CursorSlice;
 import com.example.v2.board.dto.RequestDto;
 import com.example.v2.board.entity.Board;
+import com.example.v2.board.event.BoardSavedEvent;
 import com.example.v2.board.repository.BoardRepository;
+import com.example.v2.config.ReadReplicaRouter;
 import com.example.v2.exception.exs.BoardNotFoundException;
 import com.example.v2.exception.exs.DuplicateTitleException;
 import com.example.v2.exception.exs.FileUploadException;
+import com.example.v2.exception.exs.InvalidRequestException;
+import com.example.v2.metrics.HotPathMetrics;
+import com.example.v2.util.JsonStreamReader;
+import com.example.v2.util.JsonStreamReader.MalformedJsonException;
 
 import lombok.RequiredArgsConstructor;
 
@@ -29,166 +50,464 @@ import lombok.RequiredArgsConstructor;
  * 게시판 비즈니스 로직 서비스.
  *
  * 게시글 CRUD 및 파일 업로드 처리를 담당한다.
+ * 목록/상세/저장/업로드의 소요 시간은 HotPathMetrics 에 기록한다.
  *
- * @RequiredArgsConstructor 로 final 필드(BoardRepository)의 생성자 주입을 자동 생성한다.
+ * @RequiredArgsConstructor 로 final 필드(BoardRepository, ApplicationEventPublisher, ViewCountBuffer, TitleBloomFilter, AttachmentStore, ThumbnailService, HotPathMetrics, BoardDetailCache)의 생성자 주입을 자동 생성한다.
  */
 @Service
 @RequiredArgsConstructor
 public class BoardService {
 
+    /** 커서 기반 목록 조회 시 한 번에 조회할 수 있는 최대 건수 */
+    private static final int MAX_CURSOR_SIZE = 100;
+
+    /** Data URL 접두어("data:image/png;base64,")를 찾을 최대 길이 */
+    private static final int DATA_URL_PREFIX_LIMIT = 256;
+
+    /** 유니크 제약 조건 위반 SQLSTATE (SQL 표준, H2/PostgreSQL) */
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final BoardRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ViewCountBuffer viewCountBuffer;
+    private final TitleBloomFilter titleFilter;
+    private final AttachmentStore attachmentStore;
+    private final ThumbnailService thumbnailService;
+    private final HotPathMetrics metrics;
+    private final BoardDetailCache detailCache;
+    /** saveStream 에서 본문을 다 읽은 뒤에만 트랜잭션을 열기 위해 사용 */
+    private final TransactionOperations transactionOperations;
 
-    /** application.properties 의 file.upload-dir 값 (파일 업로드 경로) */
-    @Value("${file.upload-dir}")
-    private String uploadDir;
+    /** 스트리밍 업로드 이미지 최대 크기 (multipart 단일 파일 최대 크기와 동일) */
+    @Value("${spring.servlet.multipart.max-file-size:10MB}")
+    private DataSize maxImageSize;
 
-    /** 게시글 목록을 조회한다. */
+    /** 스트리밍 업로드에서 이미지 외 문자열 값(제목, 내용 등)의 최대 길이 (넘으면 400) */
+    @Value("${board.json.max-string-length:1048576}")
+    private int maxStringLength = JsonStreamReader.DEFAULT_MAX_STRING_LENGTH;
+
+    /**
+     * 게시글 목록을 조회한다.
+     *
+     * 검색은 BoardRepositoryCustom 의 인메모리 검색 인덱스를 사용한다 (구축 전에는 LIKE 검색으로 대체).
+     */
     public Page<Board> boardList(String searchType, String keyword, Pageable pageable) {
-        Page<Board> boards;
-        if (keyword == null || keyword.isBlank()) {
-            // 키워드가 없으면 전체 목록 조회
-            boards = repository.findAllByOrderByCreatedAtDesc(pageable);
-        } else {
-            // 검색 유형에 따른 조건 분기 (Java 14+ switch expression)
-            boards = switch (searchType) {
-                case "title" -> repository.findByTitleContaining(keyword, pageable);
-                case "writer" -> repository.findByWriterContaining(keyword, pageable);
-                case "titleContent" -> repository.findByTitleContainingOrContentContaining(keyword, keyword, pageable);
-                default -> repository.findAllByOrderByCreatedAtDesc(pageable);
+        long start = System.nanoTime();
+        try {
+            Page<Board> boards;
+            if (keyword == null || keyword.isBlank()) {
+                // 키워드가 없으면 전체 목록 조회
+                boards = repository.findAllByOrderByCreatedAtDesc(pageable);
+            } else {
+                // 검색 유형에 따른 조건 분기 (Java 14+ switch expression)
+                boards = switch (searchType) {
+                    case "title" -> repository.findAllByOrderByCreatedAtDesc(keyword, null, null, pageable);
+                    case "writer" -> repository.findAllByOrderByCreatedAtDesc(null, null, keyword, pageable);
+                    case "titleContent" -> repository.findAllByOrderByCreatedAtDesc(keyword, keyword, null, pageable);
+                    default -> repository.findAllByOrderByCreatedAtDesc(pageable);
+                };
+            }
+            return Optional.ofNullable(boards).orElseThrow();
+        } finally {
+            metrics.boardList(searchType, keyword).record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 목록 화면용 게시글 요약을 조회한다.
+     *
+     * LOB 컬럼을 제외한 요약 프로젝션만 조회하며, 읽기 전용 트랜잭션으로 실행한다.
+     */
+    @Transactional(readOnly = true)
+    public Page<BoardSummary> boardSummaryList(String searchType, String keyword, Pageable pageable) {
+        long start = System.nanoTime();
+        try {
+            if (keyword == null || keyword.isBlank()) {
+                return repository.findSummaryAll(pageable);
+            }
+            return switch (searchType) {
+                case "title" -> repository.findSummaries(keyword, null, null, pageable);
+                case "writer" -> repository.findSummaries(null, null, keyword, pageable);
+                case "titleContent" -> repository.findSummaries(keyword, keyword, null, pageable);
+                default -> repository.findSummaryAll(pageable);
             };
+        } finally {
+            metrics.boardList(searchType, keyword).record(System.nanoTime() - start);
         }
-        return Optional.ofNullable(boards).orElseThrow();
     }
 
-    /** 게시글 단건 조회 및 조회수 증가. */
-    @Transactional
+    /**
+     * 커서 기반(키셋) 게시글 목록을 조회한다.
+     *
+     * OFFSET 과 COUNT(*) 를 사용하지 않으므로 페이지 깊이와 무관하게 일정한 응답 시간을 유지한다.
+     *
+     * @param cursor    기준 커서 (null 또는 빈 값이면 첫 페이지)
+     * @param direction "prev" 이면 커서 이전(최신) 페이지, 그 외에는 다음(과거) 페이지
+     * @param size      페이지 크기 (1 ~ 100)
+     */
+    @Transactional(readOnly = true)
+    public CursorSlice<BoardSummary> boardCursorList(String cursor, String direction, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_SIZE);
+        BoardCursor position = BoardCursor.decode(cursor);
+        boolean backward = position != null && "prev".equals(direction);
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        Pageable fetch = PageRequest.of(0, limit + 1);
+        List<BoardSummary> rows;
+        if (position == null) {
+            rows = repository.findFirstByCursor(fetch);
+        } else if (backward) {
+            rows = repository.findPrevByCursor(position.createdAt(), position.id(), fetch);
+        } else {
+            rows = repository.findNextByCursor(position.createdAt(), position.id(), fetch);
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<BoardSummary> content = new ArrayList<>(hasMore ? rows.subList(0, limit) : rows);
+        if (backward) {
+            // 이전 페이지는 오름차순으로 조회되므로 화면 정렬(최신순)에 맞게 뒤집는다
+            Collections.reverse(content);
+        }
+        if (content.isEmpty()) {
+            return new CursorSlice<>(content, null, null);
+        }
+
+        // 뒤로 이동했다면 다음 페이지는 항상 존재하고, 앞으로 이동했다면 커서가 있을 때만 이전 페이지가 존재한다
+        boolean hasNext = backward || hasMore;
+        boolean hasPrev = backward ? hasMore : position != null;
+        BoardSummary firstRow = content.get(0);
+        BoardSummary lastRow = content.get(content.size() - 1);
+        return new CursorSlice<>(content,
+                hasNext ? new BoardCursor(lastRow.createdAt(), lastRow.id()).encode() : null,
+                hasPrev ? new BoardCursor(firstRow.createdAt(), firstRow.id()).encode() : null);
+    }
+
+    /**
+     * 게시글 단건 조회 및 조회수 증가.
+     *
+     * BoardDetailCache 에 있으면 DB 를 조회하지 않는다 (트랜잭션도 시작하지 않으므로 커넥션을 얻지 않음).
+     * 조회수는 ViewCountBuffer 에 누적했다가 주기적으로 일괄 반영하며,
+     * 화면에는 DB(캐시) 값에 아직 반영되지 않은 증가분을 더해 표시한다.
+     * 캐시 미스는 주 DB 에서 읽는다 (복제본의 지연된 조회수를 캐시에 저장하면 반영된 증가분이 빠진 값이 계속 보인다).
+     * 미스일 때도 조회한 엔티티가 아닌 사본을 반환하여, 화면용 조회수 증가분이 open-in-view 의 flush 로 기록되지 않게 한다.
+     */
     public Board board(Long id) {
-        Board board = repository.findById(id)
-                .orElseThrow(() -> new BoardNotFoundException(id));
-        board.increaseViewCount();
-        return board;
+        long start = System.nanoTime();
+        try {
+            Board board = detailCache.get(id);
+            if (board == null) {
+                long generation = detailCache.generation();
+                Board loaded = ReadReplicaRouter.primary(() -> repository.findById(id))
+                        .orElseThrow(() -> new BoardNotFoundException(id));
+                detailCache.put(loaded, generation);
+                board = loaded.copy();
+            }
+            board.addPendingViewCount(viewCountBuffer.increment(id));
+            return board;
+        } finally {
+            metrics.boardDetail.record(System.nanoTime() - start);
+        }
     }
 
     /** 게시글을 저장한다 (폼 전송 + MultipartFile 업로드). */
     @Transactional
     public Optional<Void> save(RequestDto dto, MultipartFile file) {
-        // 중복 제목 검증
-        if (repository.findByTitleContaining(dto.getTitle(), Pageable.unpaged()).hasContent()) {
-            // 정확히 동일한 제목이 존재하는지 확인
-            repository.findByTitleContaining(dto.getTitle(), Pageable.unpaged())
-                    .getContent().stream()
-                    .filter(b -> b.getTitle().equals(dto.getTitle()))
-                    .findFirst()
-                    .ifPresent(b -> {
-                        throw new DuplicateTitleException(dto.getTitle());
-                    });
-        }
-
-        Board board = dto.toEntity();
-
-        // 첨부파일이 존재하면 업로드 처리
-        if (file != null && !file.isEmpty()) {
-            FileUploadResult result = fileUpload(file);
-            board.setFileInfo(result.filename, result.originalFileName);
+        long start = System.nanoTime();
+        try {
+            // 중복 제목 검증
+            checkDuplicateTitle(dto.getTitle());
+
+            Board board = dto.toEntity();
+
+            // 첨부파일이 존재하면 업로드 처리
+            if (file != null && !file.isEmpty()) {
+                FileUploadResult result = fileUpload(file);
+                board.setFileInfo(result.filename, result.originalFileName);
+            }
+
+            persist(board);
+            // 커밋 후 검색 인덱스 등에 반영
+            eventPublisher.publishEvent(BoardSavedEvent.from(board));
+            return Optional.empty();
+        } finally {
+            metrics.boardSave.record(System.nanoTime() - start);
         }
+    }
 
-        repository.save(board);
-        return Optional.empty();
+    /**
+     * 동일한 제목의 게시글이 있으면 DuplicateTitleException 을 던진다.
+     *
+     * 제목 블룸 필터가 "없음"으로 판단하면 DB 를 조회하지 않고, 그 외에는 title 유니크 인덱스로 정확히 일치하는지 확인한다.
+     */
+    private void checkDuplicateTitle(String title) {
+        if (titleFilter.mightContain(title) && repository.existsByTitle(title)) {
+            throw new DuplicateTitleException(title);
+        }
     }
 
-    /** MultipartFile을 디스크에 저장한다. */
-    public FileUploadResult fileUpload(MultipartFile file) {
-        // 원본 파일명에서 확장자 추출
-        String original = file.getOriginalFilename();
-        if (original == null || !original.contains(".")) {
-            throw new FileUploadException("파일명이 없거나 확장자가 누락되었습니다.");
+    /**
+     * 게시글을 저장하고 즉시 flush 한다.
+     *
+     * 사전 검사 이후 다른 요청이 같은 제목으로 먼저 저장한 경우 title 유니크 제약 조건 위반을 DuplicateTitleException 으로 변환한다.
+     */
+    private void persist(Board board) {
+        try {
+            repository.saveAndFlush(board);
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) {
+                throw new DuplicateTitleException("이미 존재하는 제목입니다. (title: " + board.getTitle() + ")", e);
+            }
+            throw e;
         }
-        String ext = original.substring(original.lastIndexOf("."));
-        // UUID + 확장자로 저장 파일명 생성 (예: "550e8400-e29b-41d4-a716-446655440000.png")
-        String saved = UUID.randomUUID() + ext;
+    }
 
-        // 업로드 디렉토리가 없으면 생성
-        File dir = new File(uploadDir);
-        if (!dir.exists())
-            dir.mkdirs();
+    /** 예외 원인 중 유니크 제약 조건 위반(SQLSTATE 23505)이 있는지 확인한다. */
+    private static boolean isUniqueViolation(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        // 파일을 디스크에 저장
+    /** MultipartFile을 첨부파일 저장소에 저장한다 (같은 내용의 파일이 있으면 재사용). */
+    public FileUploadResult fileUpload(MultipartFile file) {
+        long start = System.nanoTime();
         try {
-            file.transferTo(new File(dir, saved));
-        } catch (IllegalStateException | IOException e) {
-            throw new FileUploadException("파일 저장에 실패했습니다. (" + original + ")", e);
-        }
+            // 원본 파일명에서 확장자 추출
+            String original = file.getOriginalFilename();
+            if (original == null || !original.contains(".")) {
+                throw new FileUploadException("파일명이 없거나 확장자가 누락되었습니다.");
+            }
 
-        return new FileUploadResult(saved, original);
+            StagedFile staged = null;
+            try (InputStream in = file.getInputStream()) {
+                staged = attachmentStore.stage(in, Long.MAX_VALUE);
+                metrics.fileUploadBytes.record(staged.size());
+                // 다이제스트 + 확장자 저장 파일명 (예: "185f8db3...81969.png")
+                String saved = attachmentStore.commit(staged, original);
+                // 축소본은 백그라운드에서 생성 (업로드 응답을 기다리게 하지 않음)
+                thumbnailService.submit(saved);
+                return new FileUploadResult(saved, original);
+            } catch (IOException e) {
+                attachmentStore.discard(staged);
+                throw new FileUploadException("파일 저장에 실패했습니다. (" + original + ")", e);
+            } catch (RuntimeException e) {
+                attachmentStore.discard(staged);
+                throw e;
+            }
+        } finally {
+            metrics.fileUpload.record(System.nanoTime() - start);
+        }
     }
 
     /** 게시글을 저장한다 (REST API + Base64 이미지 업로드). */
     @Transactional
     public Optional<Void> save2(Base64Dto dto) {
-        // 중복 제목 검증
-        repository.findByTitleContaining(dto.getTitle(), Pageable.unpaged())
-                .getContent().stream()
-                .filter(b -> b.getTitle().equals(dto.getTitle()))
-                .findFirst()
-                .ifPresent(b -> {
-                    throw new DuplicateTitleException(dto.getTitle());
-                });
+        long start = System.nanoTime();
+        try {
+            // 중복 제목 검증
+            checkDuplicateTitle(dto.getTitle());
 
-        Board board = dto.toEntity();
-        FileUploadResult result = base64FileUpload(dto.getImageBase64(), dto.getImageFileName());
-        board.setFileInfo(result.filename, result.originalFileName);
+            Board board = dto.toEntity();
+            FileUploadResult result = base64FileUpload(dto.getImageBase64(), dto.getImageFileName());
+            board.setFileInfo(result.filename, result.originalFileName);
 
-        repository.save(board);
-        return Optional.empty();
+            persist(board);
+            // 커밋 후 검색 인덱스 등에 반영
+            eventPublisher.publishEvent(BoardSavedEvent.from(board));
+            return Optional.empty();
+        } finally {
+            metrics.boardSave2.record(System.nanoTime() - start);
+        }
     }
 
-    /** Base64 인코딩된 이미지를 디코딩하여 파일로 저장한다. */
+    /** Base64 인코딩된 이미지를 디코딩하며 첨부파일 저장소에 저장한다. */
     public FileUploadResult base64FileUpload(String base64File, String originalFileName) {
-        if (base64File == null || base64File.isEmpty()) {
-            return new FileUploadResult("", "");
+        long start = System.nanoTime();
+        try {
+            if (base64File == null || base64File.isEmpty()) {
+                return new FileUploadResult("", "");
+            }
+
+            if (originalFileName == null || !originalFileName.contains(".")) {
+                throw new FileUploadException("원본 파일명이 없거나 확장자가 누락되었습니다.");
+            }
+
+            // "data:image/png;base64,AAAA..." 형식에서 "," 뒤의 순수 Base64 데이터부터 읽는다 (부분 문자열을 만들지 않음)
+            int from = base64File.indexOf(',') + 1;
+
+            // byte 배열로 복사/디코딩하지 않고 문자열을 바로 읽는 스트리밍 디코더로 해시와 파일 기록을 동시에 처리
+            StagedFile staged;
+            try (InputStream decoded = Base64.getDecoder().wrap(new AsciiCharSequenceInputStream(base64File, from))) {
+                staged = attachmentStore.stage(decoded, Long.MAX_VALUE);
+                metrics.base64UploadBytes.record(staged.size());
+            } catch (IOException | IllegalArgumentException e) {
+                throw new FileUploadException("Base64 디코딩에 실패했습니다.", e);
+            }
+
+            try {
+                String saved = attachmentStore.commit(staged, originalFileName);
+                // 축소본은 백그라운드에서 생성 (업로드 응답을 기다리게 하지 않음)
+                thumbnailService.submit(saved);
+                return new FileUploadResult(saved, originalFileName);
+            } catch (IOException e) {
+                attachmentStore.discard(staged);
+                throw new FileUploadException("Base64 이미지 저장에 실패했습니다. (" + originalFileName + ")", e);
+            } catch (RuntimeException e) {
+                attachmentStore.discard(staged);
+                throw e;
+            }
+        } finally {
+            metrics.base64Upload.record(System.nanoTime() - start);
         }
+    }
 
-        if (originalFileName == null || !originalFileName.contains(".")) {
-            throw new FileUploadException("원본 파일명이 없거나 확장자가 누락되었습니다.");
+    /**
+     * 게시글을 저장한다 (REST API + 스트리밍 Base64 이미지 업로드).
+     *
+     * save2 와 같은 JSON 을 받지만 본문 전체를 DTO 로 바인딩하지 않고 JsonStreamReader 로 토큰 단위로 읽는다.
+     * imageBase64 값은 스트리밍 Base64 디코더를 거쳐 첨부파일 저장소의 임시 파일에 바로 기록하므로
+     * 이미지 크기와 무관하게 요청당 고정 크기 버퍼만 사용한다.
+     * (필드 순서에 상관없이 처리하기 위해 이미지를 임시 파일에 먼저 기록하고, 제목 검증 후 저장소에 등록한다.)
+     * 본문을 읽는 동안에는 트랜잭션을 열지 않으므로 느린 클라이언트가 업로드하는 동안 DB 커넥션을 잡고 있지 않으며,
+     * 본문을 다 읽은 뒤 제목 검증/첨부파일 등록/게시글 저장만 짧은 트랜잭션으로 실행한다.
+     */
+    public Optional<Void> saveStream(InputStream body) {
+        long start = System.nanoTime();
+        try {
+            String title = null;
+            String content = null;
+            String writer = null;
+            String imageFileName = null;
+            StagedFile staged = null;
+            try (JsonStreamReader json = new JsonStreamReader(body, maxStringLength)) {
+                json.beginObject();
+                while (json.hasNext()) {
+                    switch (json.nextName()) {
+                        case "title" -> title = json.nextString();
+                        case "content" -> content = json.nextString();
+                        case "writer" -> writer = json.nextString();
+                        case "imageFileName" -> imageFileName = json.nextString();
+                        case "imageBase64" -> {
+                            InputStream base64 = json.nextStringStream();
+                            if (base64 != null) {
+                                attachmentStore.discard(staged);
+                                staged = attachmentStore.stage(Base64.getDecoder().wrap(skipDataUrlPrefix(base64)),
+                                        maxImageSize.toBytes());
+                            }
+                        }
+                        default -> json.skipValue();
+                    }
+                }
+                json.endObject();
+                if (title == null || writer == null) {
+                    throw new InvalidRequestException("제목과 작성자는 필수입니다.");
+                }
+
+                Board board = new Base64Dto(title, content, writer, null, imageFileName).toEntity();
+                StagedFile image = staged;
+                String originalFileName = imageFileName;
+                transactionOperations.executeWithoutResult(status -> register(board, image, originalFileName));
+                return Optional.empty();
+            } catch (MalformedJsonException e) {
+                throw new InvalidRequestException(e.getMessage(), e);
+            } catch (IOException e) {
+                throw new FileUploadException("Base64 이미지 저장에 실패했습니다. (" + imageFileName + ")", e);
+            } finally {
+                // 등록된 경우 임시 파일은 이미 이동/삭제되어 있다
+                attachmentStore.discard(staged);
+            }
+        } finally {
+            metrics.boardSaveStream.record(System.nanoTime() - start);
         }
+    }
 
-        // "data:image/png;base64,AAAA..." 형식에서 "," 뒤의 순수 Base64 데이터만 추출
-        String pureBase64File = base64File;
-        if (base64File.contains(",")) {
-            pureBase64File = base64File.substring(base64File.indexOf(",") + 1);
+    /** saveStream 의 트랜잭션 구간: 중복 제목 검증, 첨부파일 등록, 게시글 저장. */
+    private void register(Board board, StagedFile staged, String imageFileName) {
+        // 중복 제목 검증
+        checkDuplicateTitle(board.getTitle());
+
+        if (staged != null && !staged.isEmpty()) {
+            try {
+                String saved = attachmentStore.commit(staged, imageFileName);
+                board.setFileInfo(saved, imageFileName);
+            } catch (IOException e) {
+                throw new FileUploadException("Base64 이미지 저장에 실패했습니다. (" + imageFileName + ")", e);
+            }
+            // 축소본은 백그라운드에서 생성 (업로드 응답을 기다리게 하지 않음)
+            thumbnailService.submit(board.getFileName());
         }
 
-        // Base64 디코딩 → byte 배열 변환
-        byte[] imageByte;
-        try {
-            imageByte = Base64.getDecoder().decode(pureBase64File);
-        } catch (IllegalArgumentException e) {
-            throw new FileUploadException("Base64 디코딩에 실패했습니다.", e);
+        persist(board);
+        // 커밋 후 검색 인덱스 등에 반영
+        eventPublisher.publishEvent(BoardSavedEvent.from(board));
+    }
+
+    /** "data:image/png;base64," 형식의 접두어가 있으면 건너뛴다. */
+    static InputStream skipDataUrlPrefix(InputStream base64) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(base64, DATA_URL_PREFIX_LIMIT);
+        byte[] head = new byte[DATA_URL_PREFIX_LIMIT];
+        int n = 0;
+        int c;
+        while (n < head.length && (c = in.read()) != -1) {
+            head[n++] = (byte) c;
+            if (c == ',') {
+                break;
+            }
+        }
+        boolean hasPrefix = n > 5 && head[n - 1] == ',' && new String(head, 0, 5, StandardCharsets.US_ASCII).equals("data:");
+        if (!hasPrefix) {
+            in.unread(head, 0, n);
         }
+        return in;
+    }
 
-        // 원본 파일명에서 확장자 추출 후 UUID 파일명 생성
-        String ext = originalFileName.substring(originalFileName.lastIndexOf("."));
-        String fileName = UUID.randomUUID() + ext;
+    /** 문자열(ASCII)을 복사하지 않고 바이트로 흘려주는 스트림 (Base64 디코더 입력용). */
+    static final class AsciiCharSequenceInputStream extends InputStream {
 
-        // 업로드 디렉토리가 없으면 생성
-        File dir = new File(uploadDir);
-        if (!dir.exists())
-            dir.mkdir();
+        private final CharSequence chars;
+        private int pos;
 
-        // byte 배열을 파일로 저장
-        try {
-            Files.write(Path.of(uploadDir, fileName), imageByte);
-        } catch (IOException e) {
-            throw new FileUploadException("Base64 이미지 저장에 실패했습니다. (" + originalFileName + ")", e);
+        AsciiCharSequenceInputStream(CharSequence chars, int from) {
+            this.chars = chars;
+            this.pos = from;
         }
 
-        return new FileUploadResult(fileName, originalFileName);
+        @Override
+        public int read() throws IOException {
+            return pos < chars.length() ? ascii(chars.charAt(pos++)) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            int n = Math.min(len, chars.length() - pos);
+            if (n <= 0) {
+                return -1;
+            }
+            for (int i = 0; i < n; i++) {
+                b[off + i] = (byte) ascii(chars.charAt(pos++));
+            }
+            return n;
+        }
+
+        /** ASCII 가 아닌 문자를 하위 바이트로 잘라 다른 Base64 문자로 바꾸지 않도록 거부한다. */
+        private static int ascii(char c) throws IOException {
+            if (c > 0x7F) {
+                throw new IOException("Base64 값에 ASCII 가 아닌 문자가 포함되어 있습니다.");
+            }
+            return c;
+        }
     }
 
     /**
      * 파일 업로드 결과를 담는 레코드.
      *
-     * @param filename         서버에 저장된 파일명 (UUID + 확장자)
+     * @param filename         서버에 저장된 파일명 (SHA-256 다이제스트 + 확장자)
      * @param originalFileName 사용자가 업로드한 원본 파일명
      */
     public record FileUploadResult(String filename, String originalFileName) {
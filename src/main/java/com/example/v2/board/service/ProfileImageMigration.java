@@ -0,0 +1,128 @@
+package com.example.v2.board.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.Base64;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.v2.attachment.service.AttachmentStore;
+import com.example.v2.attachment.service.AttachmentStore.StagedFile;
+import com.example.v2.board.cache.BoardDetailCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * board.profile_image(Base64 LOB) → 첨부파일 저장소 일회성 이전 작업.
+ *
+ * board.profile-image-migration.enabled=true 로 한 번 기동하면 profile_image 값이 있는 게시글마다
+ * - file_name 이 없으면 Base64 를 스트리밍 디코딩하여 첨부파일 저장소에 등록하고 file_name 을 설정한다.
+ * - file_name 이 있으면 (Base64 API 는 디스크에도 저장했으므로) 값만 비운다.
+ * 게시글 단위 트랜잭션으로 처리하므로 중간에 실패해도 다시 실행하면 남은 게시글부터 이어서 이전한다.
+ * 모든 값을 이전하면 profile_image 컬럼을 삭제하고 게시글 상세 캐시를 비운다. 컬럼이 없으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class ProfileImageMigration implements ApplicationRunner {
+
+    /** 원본 파일명이 없거나 확장자가 없을 때 사용할 파일명 (기존 화면은 PNG 로 표시했다) */
+    private static final String DEFAULT_FILE_NAME = "image.png";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AttachmentStore attachmentStore;
+    private final BoardDetailCache detailCache;
+
+    /** application.yml 의 board.profile-image-migration.enabled 값 */
+    @Value("${board.profile-image-migration.enabled:false}")
+    private boolean enabled;
+
+    public ProfileImageMigration(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            AttachmentStore attachmentStore, BoardDetailCache detailCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.attachmentStore = attachmentStore;
+        this.detailCache = detailCache;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled || !hasProfileImageColumn()) {
+            return;
+        }
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM board WHERE profile_image IS NOT NULL ORDER BY id", Long.class);
+        log.info("profile_image 이전 시작: {}개 게시글", ids.size());
+        try {
+            for (Long id : ids) {
+                transactionTemplate.executeWithoutResult(status -> migrate(id));
+            }
+        } finally {
+            // 이전 중에 캐시된 게시글의 첨부파일 정보가 바뀌었을 수 있다
+            detailCache.invalidate();
+        }
+        jdbcTemplate.execute("ALTER TABLE board DROP COLUMN profile_image");
+        log.info("profile_image 이전 완료, 컬럼을 삭제했습니다.");
+    }
+
+    /** 게시글 하나의 profile_image 를 첨부파일 저장소로 옮기고 값을 비운다. */
+    void migrate(Long id) {
+        jdbcTemplate.query("SELECT file_name, original_file_name, profile_image FROM board WHERE id = ?",
+                (ResultSet rs) -> {
+                    if (!rs.next()) {
+                        return null;
+                    }
+                    String fileName = rs.getString("file_name");
+                    String originalFileName = rs.getString("original_file_name");
+                    if (fileName == null || fileName.isEmpty()) {
+                        if (originalFileName == null || !originalFileName.contains(".")) {
+                            originalFileName = DEFAULT_FILE_NAME;
+                        }
+                        fileName = store(rs.getAsciiStream("profile_image"), originalFileName);
+                    }
+                    jdbcTemplate.update("UPDATE board SET file_name = ?, original_file_name = ?, profile_image = NULL"
+                            + " WHERE id = ?", fileName, fileName.isEmpty() ? "" : originalFileName, id);
+                    return null;
+                }, id);
+    }
+
+    /** LOB 스트림을 디코딩하며 첨부파일 저장소에 등록한다. 내용이 비어 있으면 빈 문자열을 반환한다. */
+    private String store(InputStream base64, String originalFileName) {
+        StagedFile staged = null;
+        try (InputStream decoded = Base64.getDecoder().wrap(BoardService.skipDataUrlPrefix(base64))) {
+            staged = attachmentStore.stage(decoded, Long.MAX_VALUE);
+            return staged.isEmpty() ? "" : attachmentStore.commit(staged, originalFileName);
+        } catch (IOException e) {
+            throw new UncheckedIOException("profile_image 이전 실패", e);
+        } finally {
+            attachmentStore.discard(staged);
+        }
+    }
+
+    private boolean hasProfileImageColumn() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> {
+            DatabaseMetaData meta = con.getMetaData();
+            for (String column : new String[] { "PROFILE_IMAGE", "profile_image" }) {
+                for (String table : new String[] { "BOARD", "board" }) {
+                    try (ResultSet rs = meta.getColumns(null, null, table, column)) {
+                        if (rs.next()) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        }));
+    }
+}
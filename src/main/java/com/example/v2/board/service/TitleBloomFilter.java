@@ -0,0 +1,139 @@
+package com.example.v2.board.service;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.v2.board.event.BoardSavedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 제목 블룸 필터.
+ *
+ * 게시글 저장 시 중복 제목 검사의 사전 필터로 사용한다.
+ * - mightContain() 이 false 면 해당 제목은 확실히 존재하지 않으므로 DB 조회를 생략한다.
+ * - true 면 (오탐 가능) title 유니크 인덱스로 존재 여부를 확인한다.
+ * - 동시 저장 경합은 DB 유니크 제약 조건이 최종적으로 막는다 (BoardService 에서 DuplicateTitleException 으로 변환).
+ *
+ * 비트 배열은 AtomicLongArray 에 OR 로만 기록하므로 락 없이 동시에 추가/조회할 수 있다.
+ * 제목 전체를 보관하는 Set 대신 제목당 약 10비트(오탐률 1%)만 사용한다.
+ * 기동 완료 후 별도 스레드에서 기존 제목을 적재하며, 적재 전에는 항상 true 를 반환한다.
+ */
+@Slf4j
+@Component
+public class TitleBloomFilter {
+
+    private final DataSource dataSource;
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /** 기존 제목 적재 완료 여부 */
+    private volatile boolean ready;
+
+    @Autowired
+    public TitleBloomFilter(DataSource dataSource,
+            @Value("${board.title-filter.expected-titles:100000}") long expectedTitles,
+            @Value("${board.title-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.dataSource = dataSource;
+        // 최적 비트 수 m = -n ln p / (ln 2)^2, 해시 함수 수 k = m / n ln 2
+        long m = (long) Math.ceil(-expectedTitles * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bitCount = Math.max(64, (m + 63) / 64 * 64);
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedTitles * Math.log(2)));
+        this.bits = new AtomicLongArray((int) (bitCount / 64));
+    }
+
+    /** 기동 완료 후 별도 스레드에서 기존 제목을 적재한다. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread.ofPlatform().name("board-title-filter").daemon(true).start(this::load);
+    }
+
+    /** 게시글 저장 트랜잭션이 커밋되면 제목을 추가한다. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBoardSaved(BoardSavedEvent event) {
+        put(event.title());
+    }
+
+    /** 제목이 존재할 수 있으면 true, 확실히 없으면 false 를 반환한다. */
+    public boolean mightContain(String title) {
+        if (!ready) {
+            return true;
+        }
+        long hash = hash(title);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** 제목을 추가한다. */
+    void put(String title) {
+        long hash = hash(title);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    /** board 테이블의 모든 제목을 적재한다. */
+    void load() {
+        long start = System.nanoTime();
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setFetchSize(1000);
+            jdbcTemplate.query("select title from board", (RowCallbackHandler) rs -> put(rs.getString(1)));
+            ready = true;
+            log.info("게시글 제목 필터 적재 완료: {}비트, 해시 {}개, {}ms", bitCount, hashCount,
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("게시글 제목 필터 적재 실패, 중복 검사는 DB 조회를 계속 사용합니다: {}", e.getMessage(), e);
+        }
+    }
+
+    /** 적재 완료 상태로 전환한다 (테스트용). */
+    void markReady() {
+        ready = true;
+    }
+
+    private long index(int combined) {
+        return (combined & 0x7FFF_FFFFL) % bitCount;
+    }
+
+    /** 제목의 64비트 해시 (FNV-1a + 비트 혼합). */
+    private static long hash(String title) {
+        long h = 0xcbf29ce484222325L;
+        for (int i = 0; i < title.length(); i++) {
+            h ^= title.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        // 상위/하위 32비트를 독립적인 두 해시로 쓰기 위해 비트를 섞는다
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
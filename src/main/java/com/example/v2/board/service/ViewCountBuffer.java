@@ -0,0 +1,151 @@
+package com.example.v2.board.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.v2.board.cache.BoardDetailCache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게시글 조회수 쓰기 지연(write-behind) 버퍼.
+ *
+ * 상세 조회마다 UPDATE 를 실행하지 않고 게시글 ID 별 LongAdder 에 증가분을 누적한 뒤,
+ * 주기적으로 "view_count = view_count + ?" 배치 UPDATE 로 한 번에 반영한다.
+ * - LongAdder 는 스레드별 셀에 나누어 더하므로 인기 게시글에 조회가 몰려도 락/CAS 경합이 적다.
+ * - DB 에서는 상대 증가 UPDATE 를 사용하므로 읽기-수정-쓰기 경합으로 증가분이 유실되지 않는다.
+ *
+ * 세대 교체 방식으로 맵을 비운다. flush 시 현재 세대를 은퇴시키고 새 세대를 만든 뒤,
+ * 은퇴한 세대는 한 주기 더 보관하여 교체 직전에 참조를 얻은 스레드의 늦은 증가분도 다음 flush 에서 반영한다.
+ * 애플리케이션 종료 시(@PreDestroy) 두 세대를 모두 반영한다.
+ * 반영한 증가분은 BoardDetailCache 에 캐시된 조회수에도 더한다.
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE board SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardDetailCache detailCache;
+
+    /** flush 동시 실행(스케줄러 / 종료 훅) 방지 락 */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /** 현재 증가분을 받는 세대 */
+    private volatile Map<Long, LongAdder> current = new ConcurrentHashMap<>();
+
+    /** 직전 flush 에서 은퇴한 세대 (늦은 증가분 수집용) */
+    private volatile Map<Long, LongAdder> retired = new ConcurrentHashMap<>();
+
+    public ViewCountBuffer(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            BoardDetailCache detailCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.detailCache = detailCache;
+    }
+
+    /**
+     * 게시글 조회수를 1 증가시킨다.
+     *
+     * @return 아직 DB 에 반영되지 않은 해당 게시글의 증가분 (이번 조회 포함)
+     */
+    public long increment(Long id) {
+        current.computeIfAbsent(id, key -> new LongAdder()).increment();
+        return pending(id);
+    }
+
+    /** 아직 DB 에 반영되지 않은 해당 게시글의 증가분을 반환한다. */
+    public long pending(Long id) {
+        return sum(current.get(id)) + sum(retired.get(id));
+    }
+
+    /** 누적된 증가분을 주기적으로 DB 에 반영한다. */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            Map<Long, LongAdder> previous = retired;
+            retired = current;
+            current = new ConcurrentHashMap<>();
+            write(drain(previous, retired));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** 종료 시 남은 증가분을 모두 반영한다. */
+    @PreDestroy
+    public void flushAll() {
+        flushLock.lock();
+        try {
+            Map<Long, LongAdder> previous = retired;
+            Map<Long, LongAdder> last = current;
+            retired = new ConcurrentHashMap<>();
+            current = new ConcurrentHashMap<>();
+            write(drain(previous, last));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /** 세대들의 증가분을 꺼내(0 으로 초기화) ID 오름차순으로 합산한다. */
+    @SafeVarargs
+    private static Map<Long, Long> drain(Map<Long, LongAdder>... generations) {
+        // ID 순으로 UPDATE 하여 여러 인스턴스가 동시에 flush 해도 행 락 순서가 같도록 한다
+        Map<Long, Long> deltas = new TreeMap<>();
+        for (Map<Long, LongAdder> generation : generations) {
+            generation.forEach((id, adder) -> {
+                long delta = adder.sumThenReset();
+                if (delta != 0) {
+                    deltas.merge(id, delta, Long::sum);
+                }
+            });
+        }
+        return deltas;
+    }
+
+    /**
+     * 증가분을 배치 UPDATE 로 반영한다. 실패하면 다음 flush 에서 재시도하도록 현재 세대에 되돌린다.
+     *
+     * 반영 중에는 상세 캐시가 새 조회 결과를 저장하지 않고, 커밋 후 캐시된 조회수에 증가분을 더한다.
+     */
+    private void write(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((id, delta) -> args.add(new Object[] { delta, id }));
+        Map<Long, Long> flushed = Map.of();
+        detailCache.viewCountsFlushing();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, args));
+            flushed = deltas;
+            log.debug("조회수 반영: {}개 게시글", deltas.size());
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("조회수 반영 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+            deltas.forEach((id, delta) -> current.computeIfAbsent(id, key -> new LongAdder()).add(delta));
+        } finally {
+            detailCache.viewCountsFlushed(flushed);
+        }
+    }
+
+    private static long sum(LongAdder adder) {
+        return adder == null ? 0 : adder.sum();
+    }
+}
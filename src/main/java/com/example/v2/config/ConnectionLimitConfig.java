@@ -0,0 +1,41 @@
+package com.example.v2.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * DB 커넥션 동시 사용 제한 설정 (datasource.limiter.enabled=true 일 때만 적용).
+ *
+ * 가상 스레드 모드(vt 프로파일)에서 켜며, 애플리케이션의 DataSource 를 ConnectionLimitingDataSource 로 감싼다.
+ * 한도는 기본적으로 커넥션 풀 크기와 같게 두어, 풀에 들어가지 못한 스레드가 풀 내부가 아닌 세마포어에서 대기하게 한다.
+ * (Java 21 에서는 JDBC 드라이버 내부의 synchronized 구간이 가상 스레드를 캐리어 스레드에 고정하므로,
+ * 드라이버에 동시에 들어가는 스레드 수를 제한하는 역할도 한다)
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.limiter.enabled", havingValue = "true")
+public class ConnectionLimitConfig {
+
+    /** BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록한다. */
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(
+            @Value("${datasource.limiter.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${datasource.limiter.acquire-timeout-ms:5000}") long acquireTimeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    return new ConnectionLimitingDataSource(dataSource, maxConcurrent,
+                            Duration.ofMillis(acquireTimeoutMs));
+                }
+                return bean;
+            }
+        };
+    }
+}
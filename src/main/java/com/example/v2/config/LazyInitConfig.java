@@ -0,0 +1,50 @@
+package com.example.v2.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.v2.board.cache.BoardCountCache;
+import com.example.v2.board.cache.BoardDetailCache;
+import com.example.v2.board.cache.ListPageCache;
+import com.example.v2.board.controller.BoardController;
+import com.example.v2.board.service.BoardService;
+import com.example.v2.board.service.TitleBloomFilter;
+import com.example.v2.board.service.ViewCountBuffer;
+import com.example.v2.filter.RateLimiter;
+import com.example.v2.metrics.HotPathMetrics;
+import com.example.v2.user.service.UserDetailCache;
+import com.example.v2.user.service.UserDetailService;
+import com.example.v2.util.TemplateRenderer;
+
+/**
+ * 지연 초기화 설정 (spring.main.lazy-initialization=true 일 때만 적용, fast-start 프로파일).
+ *
+ * 나머지 빈은 처음 사용할 때 만들고, 아래 빈은 기동 시 만든다.
+ * - 목록/상세/저장 요청 경로 (첫 요청이 빈 생성과 템플릿 컴파일을 떠안지 않게 한다)
+ * - @Scheduled 작업이 있는 빈 (빈이 만들어질 때 작업이 등록되므로 지연되면 실행되지 않는다)
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.main.lazy-initialization", havingValue = "true")
+public class LazyInitConfig {
+
+    /** BeanFactoryPostProcessor 단계에서 조회되므로 static 으로 등록한다. */
+    @Bean
+    public static LazyInitializationExcludeFilter hotPathEagerInit() {
+        return LazyInitializationExcludeFilter.forBeanTypes(
+                BoardController.class,
+                BoardService.class,
+                ListPageCache.class,
+                BoardDetailCache.class,
+                BoardCountCache.class,
+                ViewCountBuffer.class,
+                TitleBloomFilter.class,
+                TemplateRenderer.class,
+                UserDetailService.class,
+                UserDetailCache.class,
+                HotPathMetrics.class,
+                RateLimiter.class,
+                ReplicaLagMonitor.class);
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.v2.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 읽기 복제본(replica)으로 보내는 라우팅 상태.
+ *
+ * routingDataSource() 가 만드는 LazyConnectionDataSourceProxy 는 첫 SQL 실행 시점에 커넥션을 얻는다.
+ * 이때 커넥션이 읽기 전용(@Transactional(readOnly = true))이면 복제본 쪽 DataSource 를, 그 외에는 주 DB 를 사용한다.
+ * 복제본 쪽 DataSource 는 다음 경우에 주 DB 로 대신 보낸다.
+ * - 복제 지연: ReplicaLagMonitor 가 측정한 지연이 허용치를 넘었거나 아직 측정되지 않았거나 복제본에 연결할 수 없을 때
+ * - 자기 쓰기 읽기(read-your-writes): 현재 사용자가 최근 sticky 시간 안에 쓰기 트랜잭션을 실행했을 때
+ *   (글을 저장한 직후 목록/상세로 이동했는데 아직 복제되지 않아 글이 보이지 않는 일을 막는다)
+ * - 주 DB 힌트: primary() 로 실행한 조회 (캐시에 저장할 값처럼 복제 지연으로 오래된 값을 읽으면 안 되는 조회)
+ */
+public class ReadReplicaRouter implements AutoCloseable {
+
+    /** 지연을 아직 측정하지 못했거나 복제본에 연결할 수 없음 */
+    private static final long UNKNOWN_LAG = -1;
+
+    /**
+     * 라우팅 통계.
+     *
+     * @param replicaReads   복제본으로 보낸 읽기 전용 커넥션 수
+     * @param primaryReads   주 DB 로 대신 보낸 읽기 전용 커넥션 수
+     * @param lagMillis      마지막으로 측정한 복제 지연 (밀리초, 측정 실패 시 -1)
+     * @param maxLagMillis   복제 지연 허용치 (밀리초)
+     * @param replicaUsable  현재 복제본 사용 여부
+     * @param stickyUsers    자기 쓰기 읽기 대상 사용자 수
+     */
+    public record Stats(long replicaReads, long primaryReads, long lagMillis, long maxLagMillis,
+            boolean replicaUsable, int stickyUsers) {
+    }
+
+    /** 현재 스레드의 읽기 전용 커넥션도 주 DB 에서 얻도록 하는 힌트 (primary() 실행 중에만 설정) */
+    private static final ThreadLocal<Boolean> PRIMARY_HINT = new ThreadLocal<>();
+
+    private final DataSource replica;
+    private final long maxLagMillis;
+    private final long stickyNanos;
+
+    /** 사용자명 → 주 DB 로 읽을 기한 (System.nanoTime 기준) */
+    private final Map<String, Long> stickyUntil = new ConcurrentHashMap<>();
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+
+    private volatile long lagMillis = UNKNOWN_LAG;
+
+    /**
+     * @param replica 읽기 복제본 DataSource
+     * @param maxLag  복제 지연 허용치 (넘으면 읽기 전용 트랜잭션도 주 DB 로 보낸다)
+     * @param sticky  쓰기 후 해당 사용자의 읽기를 주 DB 로 보내는 시간
+     */
+    public ReadReplicaRouter(DataSource replica, Duration maxLag, Duration sticky) {
+        this.replica = replica;
+        this.maxLagMillis = maxLag.toMillis();
+        this.stickyNanos = sticky.toNanos();
+    }
+
+    /**
+     * 주 DB 를 감싸 읽기/쓰기를 나누는 DataSource 를 만든다.
+     *
+     * @param primary 주 DB DataSource
+     */
+    public DataSource routingDataSource(DataSource primary) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(new WriteTrackingDataSource(primary));
+        proxy.setReadOnlyDataSource(new ReadOnlyDataSource(primary));
+        return proxy;
+    }
+
+    /** 읽기 복제본 DataSource (복제 지연 측정용). */
+    public DataSource replica() {
+        return replica;
+    }
+
+    /** 측정한 복제 지연을 반영한다. */
+    public void updateLag(long lagMillis) {
+        this.lagMillis = Math.max(lagMillis, 0);
+    }
+
+    /** 복제본에 연결할 수 없거나 지연을 측정할 수 없으면 복제본 사용을 멈춘다. */
+    public void replicaUnavailable() {
+        this.lagMillis = UNKNOWN_LAG;
+    }
+
+    /** 현재 복제본으로 읽을 수 있는지 확인한다 (복제 지연 기준). */
+    public boolean replicaUsable() {
+        long lag = lagMillis;
+        return lag != UNKNOWN_LAG && lag <= maxLagMillis;
+    }
+
+    /** 현재 사용자가 쓰기를 실행했음을 기록한다 (sticky 시간 동안 주 DB 에서 읽는다). */
+    public void markWrite() {
+        String user = currentUser();
+        if (user != null) {
+            stickyUntil.put(user, System.nanoTime() + stickyNanos);
+        }
+    }
+
+    /** 기한이 지난 자기 쓰기 읽기 항목을 정리한다. */
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        stickyUntil.values().removeIf(until -> now - until >= 0);
+    }
+
+    /** 라우팅 통계를 반환한다. */
+    public Stats stats() {
+        return new Stats(replicaReads.sum(), primaryReads.sum(), lagMillis, maxLagMillis, replicaUsable(),
+                stickyUntil.size());
+    }
+
+    /** 읽기 복제본 커넥션 풀을 닫는다. */
+    @Override
+    public void close() throws Exception {
+        if (replica instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * 작업 안의 읽기 전용 조회를 주 DB 에서 실행한다 (라우팅을 사용하지 않으면 그대로 실행).
+     *
+     * 쓰기 트랜잭션으로 바꾸면 현재 사용자가 자기 쓰기 읽기 대상으로 기록되므로,
+     * 트랜잭션은 읽기 전용 그대로 두고 커넥션만 주 DB 에서 얻는다.
+     * 작업 밖에서 이미 커넥션을 얻은 트랜잭션에 참여하는 조회에는 적용되지 않는다.
+     */
+    public static <T> T primary(Supplier<T> work) {
+        if (PRIMARY_HINT.get() != null) {
+            return work.get();
+        }
+        PRIMARY_HINT.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            PRIMARY_HINT.remove();
+        }
+    }
+
+    /** 읽기 전용 커넥션을 복제본으로 보낼지 결정한다. */
+    boolean routeToReplica() {
+        if (PRIMARY_HINT.get() != null || !replicaUsable()) {
+            return false;
+        }
+        String user = currentUser();
+        if (user == null) {
+            return true;
+        }
+        Long until = stickyUntil.get(user);
+        if (until == null) {
+            return true;
+        }
+        if (System.nanoTime() - until >= 0) {
+            stickyUntil.remove(user, until);
+            return true;
+        }
+        return false;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken
+                || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    /** 쓰기 트랜잭션이 주 DB 커넥션을 얻으면 현재 사용자를 자기 쓰기 읽기 대상으로 기록한다. */
+    private final class WriteTrackingDataSource extends DelegatingDataSource {
+
+        WriteTrackingDataSource(DataSource primary) {
+            super(primary);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            track();
+            return super.getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            track();
+            return super.getConnection(username, password);
+        }
+
+        private void track() {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                markWrite();
+            }
+        }
+    }
+
+    /** 읽기 전용 커넥션을 복제본 또는 주 DB 에서 얻는다. */
+    private final class ReadOnlyDataSource extends AbstractDataSource {
+
+        private final DataSource primary;
+
+        ReadOnlyDataSource(DataSource primary) {
+            this.primary = primary;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return target().getConnection();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return target().getConnection(username, password);
+        }
+
+        private DataSource target() {
+            if (routeToReplica()) {
+                replicaReads.increment();
+                return replica;
+            }
+            primaryReads.increment();
+            return primary;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.v2.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * 읽기/쓰기 DataSource 라우팅 설정 (datasource.routing.enabled=true 일 때만 적용).
+ *
+ * 애플리케이션의 DataSource(주 DB)를 ReadReplicaRouter 의 라우팅 DataSource 로 감싼다.
+ * - @Transactional(readOnly = true) 작업은 datasource.routing.replica.* 로 만든 복제본 커넥션 풀을 사용한다.
+ * - 쓰기와 트랜잭션 밖의 SQL 은 주 DB 를 사용한다.
+ * - 복제 지연이 max-lag-ms 를 넘거나 사용자가 sticky-ms 안에 쓰기를 했으면 읽기도 주 DB 를 사용한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.routing.enabled", havingValue = "true")
+public class ReadWriteRoutingConfig {
+
+    @Bean
+    public ReadReplicaRouter readReplicaRouter(
+            @Value("${datasource.routing.replica.url}") String url,
+            @Value("${datasource.routing.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.routing.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${datasource.routing.replica.maximum-pool-size:10}") int maximumPoolSize,
+            @Value("${datasource.routing.max-lag-ms:3000}") long maxLagMs,
+            @Value("${datasource.routing.sticky-ms:5000}") long stickyMs) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("replica");
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMaximumPoolSize(maximumPoolSize);
+        config.setReadOnly(true);
+        return new ReadReplicaRouter(new HikariDataSource(config), Duration.ofMillis(maxLagMs),
+                Duration.ofMillis(stickyMs));
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(ReadReplicaRouter router, DataSource dataSource) {
+        return new ReplicaLagMonitor(router, dataSource);
+    }
+
+    /**
+     * BeanPostProcessor 는 다른 빈보다 먼저 만들어지므로 static 으로 등록하고,
+     * ReadReplicaRouter 는 DataSource 를 감쌀 때 꺼내 일반 빈으로 만들어지게 한다.
+     */
+    @Bean
+    public static BeanPostProcessor readWriteRoutingPostProcessor(ObjectProvider<ReadReplicaRouter> router) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && "dataSource".equals(beanName)) {
+                    return router.getObject().routingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
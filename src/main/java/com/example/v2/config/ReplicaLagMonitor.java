@@ -0,0 +1,61 @@
+package com.example.v2.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 복제본 지연 측정기 (heartbeat 방식).
+ *
+ * 주기마다 주 DB 의 replica_heartbeat 행에 현재 시각을 기록하고, 복제본에서 같은 행을 읽어
+ * "현재 시각 - 복제본에 보이는 마지막 기록 시각" 을 지연으로 본다 (측정 주기만큼의 오차 포함).
+ * 복제본을 읽지 못하면 측정 실패로 보고 ReadReplicaRouter 가 주 DB 로 읽게 한다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final ReadReplicaRouter router;
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+
+    /**
+     * @param router  라우팅 상태
+     * @param primary 주 DB DataSource (heartbeat 기록용)
+     */
+    public ReplicaLagMonitor(ReadReplicaRouter router, DataSource primary) {
+        this.router = router;
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(router.replica());
+        this.primary.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+    }
+
+    /** heartbeat 를 기록하고 복제본에서 읽어 지연을 갱신한다. */
+    @Scheduled(fixedDelayString = "${datasource.routing.lag-check-interval-ms:1000}")
+    public void check() {
+        long now = System.currentTimeMillis();
+        try {
+            if (primary.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", now) == 0) {
+                primary.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)", now);
+            }
+        } catch (DataAccessException e) {
+            log.warn("replica heartbeat 기록 실패: {}", e.getMessage());
+        }
+        try {
+            Long beatAt = replica.query("SELECT beat_at FROM replica_heartbeat WHERE id = 1",
+                    rs -> rs.next() ? rs.getLong(1) : null);
+            if (beatAt == null) {
+                router.replicaUnavailable();
+            } else {
+                router.updateLag(System.currentTimeMillis() - beatAt);
+            }
+        } catch (DataAccessException e) {
+            router.replicaUnavailable();
+            log.warn("replica 지연 측정 실패, 주 DB 에서 읽습니다: {}", e.getMessage());
+        }
+        router.purgeExpired();
+    }
+}
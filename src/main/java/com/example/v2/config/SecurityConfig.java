@@ -1,5 +1,6 @@
 package com.example.v2.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -18,6 +19,9 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
 import com.example.v2.filter.JwtAuthenticationFilter;
+import com.example.v2.filter.RateLimitFilter;
+import com.example.v2.filter.RateLimiter;
+import com.example.v2.metrics.HotPathMetrics;
 import com.example.v2.util.JwtUtil;
 
 import lombok.RequiredArgsConstructor;
@@ -30,6 +34,12 @@ public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final HotPathMetrics metrics;
+    private final RateLimiter rateLimiter;
+
+    // 사용자/IP 별 요청 제한 사용 여부
+    @Value("${rate-limit.enabled:true}")
+    private boolean rateLimitEnabled;
 
     /**
      * 비밀번호 암호화를 위한 인코더 빈 등록
@@ -98,13 +108,18 @@ public class SecurityConfig {
                 // JWT 인증 필터를 UsernamePasswordAuthenticationFilter 이전에 추가
                 // JWT 필터를 @Bean으로 등록하지 않고 인라인으로 생성하여
                 // Spring Boot의 서블릿 필터 자동 등록(이중 등록) 방지
-                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, userDetailsService),
+                .addFilterBefore(new JwtAuthenticationFilter(jwtUtil, userDetailsService, metrics),
                         UsernamePasswordAuthenticationFilter.class)
 
                 // H2 콘솔 사용을 위한 설정
                 .headers(headers -> headers
                         .frameOptions(frame -> frame.sameOrigin()));
 
+        // 요청 제한 필터를 JWT 인증 필터 이전에 추가 (한도를 넘은 요청은 사용자 조회 전에 429 로 응답)
+        if (rateLimitEnabled) {
+            http.addFilterBefore(new RateLimitFilter(rateLimiter, jwtUtil), JwtAuthenticationFilter.class);
+        }
+
         return http.build();
     }
 }
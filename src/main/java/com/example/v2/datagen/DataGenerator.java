@@ -0,0 +1,307 @@
+package com.example.v2.datagen;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import javax.imageio.ImageIO;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.v2.attachment.service.AttachmentStore;
+import com.example.v2.attachment.service.AttachmentStore.StagedFile;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대량 테스트 데이터 생성기 (datagen.enabled=true 일 때 기동 시 한 번 실행).
+ *
+ * 운영 규모의 게시글/사용자를 JDBC 배치 INSERT 로 빠르게 적재하여 규모에 따른 문제를 재현하는 용도이다.
+ * - 제목/내용: 한국어 단어를 이어 붙인 문장, 길이는 설정 범위 안에서 짧은 글이 많도록 치우친 분포
+ * - 작성자: writers 명의 한국어 이름, 일부 작성자가 글을 많이 쓰도록 치우친 분포
+ * - 첨부파일: attachment-ratio 비율의 게시글이 attachment-pool 개의 생성 이미지 중 하나를 참조 (첨부파일 저장소에 등록)
+ * - 작성일시: 최근 days 일에 고르게 분포
+ * - 사용자: "datagen{ID}" / user-password 계정 (ROLE_USER), 비밀번호 해시는 한 번만 계산하여 재사용
+ * 기존 데이터 뒤에 이어서 추가하며, 끝나면 board_seq 시퀀스와 users ID 를 생성한 ID 다음으로 옮긴다.
+ * 검색 인덱스/제목 블룸 필터는 기동 완료 후 생성된 데이터까지 포함하여 구축된다.
+ */
+@Slf4j
+@Component
+public class DataGenerator implements ApplicationRunner {
+
+    private static final String[] WORDS = {
+            "스프링", "게시판", "데이터베이스", "트랜잭션", "인덱스", "캐시", "성능", "검색", "페이징", "업로드",
+            "이미지", "서버", "클라이언트", "요청", "응답", "배포", "설정", "테스트", "코드", "리뷰",
+            "정리", "방법", "사용", "구현", "개선", "문제", "해결", "질문", "답변", "공유",
+            "오늘", "처음", "다시", "정말", "조금", "많이", "빠르게", "안전하게", "간단한", "새로운",
+            "자바", "가상", "스레드", "메모리", "쿼리", "로그", "보안", "인증", "토큰", "세션",
+            "프로젝트", "기능", "화면", "목록", "상세", "작성", "수정", "삭제", "조회", "통계" };
+
+    private static final String[] SURNAMES = {
+            "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권", "황" };
+
+    private static final String[] GIVEN_NAMES = {
+            "민준", "서연", "도윤", "지우", "하준", "서윤", "시우", "하은", "지호", "민서",
+            "예준", "수아", "주원", "지유", "건우", "채원", "우진", "지민", "선우", "윤서" };
+
+    /** 제목/작성자 최대 길이 (board 테이블 컬럼 길이) */
+    private static final int MAX_TITLE_LENGTH = 50;
+
+    /** board_seq 할당 크기 (Board 엔티티의 allocationSize) */
+    private static final int BOARD_SEQ_ALLOCATION = 50;
+
+    private static final String INSERT_BOARD = "INSERT INTO board"
+            + " (id, title, content, writer, file_name, original_file_name, view_count, create_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AttachmentStore attachmentStore;
+    private final PasswordEncoder passwordEncoder;
+
+    @Value("${datagen.enabled:false}")
+    private boolean enabled;
+
+    @Value("${datagen.boards:100000}")
+    private int boards;
+
+    @Value("${datagen.users:1000}")
+    private int users;
+
+    @Value("${datagen.writers:500}")
+    private int writers;
+
+    @Value("${datagen.title-min-length:8}")
+    private int titleMinLength;
+
+    @Value("${datagen.title-max-length:40}")
+    private int titleMaxLength;
+
+    @Value("${datagen.content-min-length:20}")
+    private int contentMinLength;
+
+    @Value("${datagen.content-max-length:2000}")
+    private int contentMaxLength;
+
+    @Value("${datagen.attachment-ratio:0.1}")
+    private double attachmentRatio;
+
+    @Value("${datagen.attachment-pool:20}")
+    private int attachmentPool;
+
+    @Value("${datagen.days:365}")
+    private int days;
+
+    @Value("${datagen.batch-size:5000}")
+    private int batchSize;
+
+    @Value("${datagen.seed:42}")
+    private long seed;
+
+    @Value("${datagen.user-password:password}")
+    private String userPassword;
+
+    public DataGenerator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            AttachmentStore attachmentStore, PasswordEncoder passwordEncoder) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.attachmentStore = attachmentStore;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    /** 생성할 게시글 한 건 */
+    private record BoardRow(long id, String title, String content, String writer, String fileName, long viewCount,
+            Timestamp createdAt) {
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        Random random = new Random(seed);
+        long start = System.nanoTime();
+        List<String> attachments = attachmentRatio > 0 ? createAttachments(random) : List.of();
+        long[] refCounts = new long[attachments.size()];
+        generateBoards(random, attachments, refCounts);
+        for (int i = 0; i < attachments.size(); i++) {
+            if (refCounts[i] > 0) {
+                jdbcTemplate.update("UPDATE attachment SET ref_count = ref_count + ? WHERE file_name = ?",
+                        refCounts[i], attachments.get(i));
+            }
+        }
+        generateUsers();
+        log.info("테스트 데이터 생성 완료: 게시글 {}건, 사용자 {}명 ({} ms)", boards, users,
+                Duration.ofNanos(System.nanoTime() - start).toMillis());
+    }
+
+    private void generateBoards(Random random, List<String> attachments, long[] refCounts) {
+        if (boards <= 0) {
+            return;
+        }
+        long firstId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM board", Long.class) + 1;
+        LocalDateTime now = LocalDateTime.now();
+        long spacingMillis = Math.max(1, Duration.ofDays(days).toMillis() / Math.max(1, boards));
+        List<BoardRow> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < boards; i++) {
+            long id = firstId + i;
+            String suffix = " #" + id;
+            int titleLength = Math.min(skewed(random, titleMinLength, titleMaxLength), MAX_TITLE_LENGTH);
+            String title = text(random, Math.max(1, titleLength - suffix.length())) + suffix;
+            String fileName = null;
+            if (!attachments.isEmpty() && random.nextDouble() < attachmentRatio) {
+                int pick = random.nextInt(attachments.size());
+                fileName = attachments.get(pick);
+                refCounts[pick]++;
+            }
+            batch.add(new BoardRow(id, title, text(random, skewed(random, contentMinLength, contentMaxLength)),
+                    writerName(skewedIndex(random, writers)), fileName, random.nextInt(1000),
+                    Timestamp.valueOf(now.minus(Duration.ofMillis((boards - i) * spacingMillis)))));
+            if (batch.size() == batchSize || i == boards - 1) {
+                insertBoards(batch);
+                batch.clear();
+                if ((i + 1) % (batchSize * 20) == 0) {
+                    log.info("게시글 생성 중: {}/{}", i + 1, boards);
+                }
+            }
+        }
+        // 다음 조회 값을 (마지막 ID + 할당 크기) 로 두면 이후 저장되는 게시글 ID 가 이어진다 (pooled)
+        jdbcTemplate.execute("ALTER SEQUENCE board_seq RESTART WITH " + (firstId + boards - 1 + BOARD_SEQ_ALLOCATION));
+    }
+
+    private void insertBoards(List<BoardRow> batch) {
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_BOARD, batch,
+                batch.size(), (ps, row) -> {
+                    ps.setLong(1, row.id());
+                    ps.setString(2, row.title());
+                    ps.setString(3, row.content());
+                    ps.setString(4, row.writer());
+                    ps.setString(5, row.fileName());
+                    ps.setString(6, row.fileName() != null ? "generated.png" : null);
+                    ps.setLong(7, row.viewCount());
+                    ps.setTimestamp(8, row.createdAt());
+                }));
+    }
+
+    private void generateUsers() {
+        if (users <= 0) {
+            return;
+        }
+        long firstId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM users", Long.class) + 1;
+        // BCrypt 는 의도적으로 느리므로 모든 사용자가 같은 해시를 사용한다
+        String password = passwordEncoder.encode(userPassword);
+        for (int from = 0; from < users; from += batchSize) {
+            int to = Math.min(users, from + batchSize);
+            List<Long> ids = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                ids.add(firstId + i);
+            }
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(
+                        "INSERT INTO users (id, username, password, email, name, enabled) VALUES (?, ?, ?, ?, ?, TRUE)",
+                        ids, ids.size(), (ps, id) -> {
+                            ps.setLong(1, id);
+                            ps.setString(2, "datagen" + id);
+                            ps.setString(3, password);
+                            ps.setString(4, "datagen" + id + "@example.com");
+                            ps.setString(5, writerName((int) (id % Math.max(1, writers))));
+                        });
+                jdbcTemplate.batchUpdate("INSERT INTO user_roles (user_id, role) VALUES (?, 'ROLE_USER')",
+                        ids, ids.size(), (ps, id) -> ps.setLong(1, id));
+            });
+        }
+        jdbcTemplate.execute("ALTER TABLE users ALTER COLUMN id RESTART WITH " + (firstId + users));
+    }
+
+    /** 첨부파일 저장소에 서로 다른 이미지를 attachment-pool 개 등록하고 저장 파일명을 반환한다. */
+    private List<String> createAttachments(Random random) {
+        List<String> fileNames = new ArrayList<>(attachmentPool);
+        for (int i = 0; i < attachmentPool; i++) {
+            byte[] png = image(random);
+            fileNames.add(transactionTemplate.execute(status -> {
+                StagedFile staged = null;
+                try {
+                    staged = attachmentStore.stage(new ByteArrayInputStream(png), Long.MAX_VALUE);
+                    return attachmentStore.commit(staged, "generated.png");
+                } catch (IOException e) {
+                    throw new UncheckedIOException("생성 이미지 저장 실패", e);
+                } finally {
+                    attachmentStore.discard(staged);
+                }
+            }));
+        }
+        return fileNames;
+    }
+
+    /** 임의 색상의 사각형을 그린 1280x960 PNG 를 만든다. */
+    private static byte[] image(Random random) {
+        BufferedImage image = new BufferedImage(1280, 960, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setColor(new Color(random.nextInt(0x1000000)));
+            g.fillRect(0, 0, image.getWidth(), image.getHeight());
+            for (int i = 0; i < 12; i++) {
+                g.setColor(new Color(random.nextInt(0x1000000)));
+                g.fillRect(random.nextInt(1280), random.nextInt(960), 40 + random.nextInt(400), 40 + random.nextInt(300));
+            }
+        } finally {
+            g.dispose();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            ImageIO.write(image, "png", out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /** 한국어 단어를 이어 붙여 length 글자의 문장을 만든다. */
+    private static String text(Random random, int length) {
+        StringBuilder sb = new StringBuilder(length + 8);
+        while (sb.length() < length) {
+            if (!sb.isEmpty()) {
+                sb.append(' ');
+            }
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        sb.setLength(length);
+        return sb.toString().strip();
+    }
+
+    /** min ~ max 사이의 길이 (짧은 값이 많이 나오도록 제곱 분포). */
+    private static int skewed(Random random, int min, int max) {
+        double r = random.nextDouble();
+        return min + (int) ((Math.max(min, max) - min) * r * r);
+    }
+
+    /** 0 ~ bound-1 사이의 번호 (앞 번호가 많이 나오도록 세제곱 분포). */
+    private static int skewedIndex(Random random, int bound) {
+        double r = random.nextDouble();
+        return (int) (Math.max(1, bound) * r * r * r);
+    }
+
+    /** 번호별로 서로 다른 한국어 이름을 만든다 (성 x 이름 조합을 넘으면 숫자를 붙인다). */
+    private static String writerName(int index) {
+        int combinations = SURNAMES.length * GIVEN_NAMES.length;
+        String name = SURNAMES[index % SURNAMES.length] + GIVEN_NAMES[(index / SURNAMES.length) % GIVEN_NAMES.length];
+        return index < combinations ? name : name + (index / combinations);
+    }
+}
@@ -12,8 +12,12 @@ import com.example.v2.exception.exs.BoardNotFoundException;
 import com.example.v2.exception.exs.DuplicateTitleException;
 import com.example.v2.exception.exs.FileNotFoundException;
 import com.example.v2.exception.exs.FileUploadException;
+import com.example.v2.exception.exs.InvalidRequestException;
+import com.example.v2.metrics.HotPathMetrics;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -22,14 +26,19 @@ import lombok.extern.slf4j.Slf4j;
  * @ControllerAdvice 로 모든 컨트롤러에서 발생하는 예외를 공통으로 처리한다.
  *                   - SSR 요청 (/board/**) : 에러 페이지(Mustache 템플릿)를 반환한다.
  *                   - REST API 요청 (/board/api/**) : JSON 에러 응답을 반환한다.
+ *                   처리한 예외는 예외 클래스별로 HotPathMetrics 에 센다.
  */
 @Slf4j
 @ControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final HotPathMetrics metrics;
+
     /** 게시글을 찾을 수 없을 때 (404) */
     @ExceptionHandler(BoardNotFoundException.class)
     public Object handleBoardNotFound(BoardNotFoundException ex, HttpServletRequest req) {
+        metrics.countException(ex);
         log.warn("BoardNotFoundException: {}", ex.getMessage());
         if (isApiRequest(req)) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -43,6 +52,7 @@ public class GlobalExceptionHandler {
     /** 파일 업로드 실패 시 (500) */
     @ExceptionHandler(FileUploadException.class)
     public Object handleFileUpload(FileUploadException ex, HttpServletRequest req) {
+        metrics.countException(ex);
         log.error("FileUploadException: {}", ex.getMessage(), ex);
         if (isApiRequest(req)) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -56,6 +66,7 @@ public class GlobalExceptionHandler {
     /** 업로드 파일을 찾을 수 없을 때 (404) */
     @ExceptionHandler(FileNotFoundException.class)
     public Object handleFileNotFound(FileNotFoundException ex, HttpServletRequest req) {
+        metrics.countException(ex);
         log.warn("FileNotFoundException: {}", ex.getMessage());
         if (isApiRequest(req)) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -69,6 +80,7 @@ public class GlobalExceptionHandler {
     /** 중복 제목으로 저장 시도 시 (409) */
     @ExceptionHandler(DuplicateTitleException.class)
     public Object handleDuplicateTitle(DuplicateTitleException ex, HttpServletRequest req) {
+        metrics.countException(ex);
         log.warn("DuplicateTitleException: {}", ex.getMessage());
         if (isApiRequest(req)) {
             return ResponseEntity.status(HttpStatus.CONFLICT)
@@ -79,9 +91,24 @@ public class GlobalExceptionHandler {
         return "error";
     }
 
+    /** 요청 본문 형식이 잘못되었을 때 (400) */
+    @ExceptionHandler(InvalidRequestException.class)
+    public Object handleInvalidRequest(InvalidRequestException ex, HttpServletRequest req) {
+        metrics.countException(ex);
+        log.warn("InvalidRequestException: {}", ex.getMessage());
+        if (isApiRequest(req)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(Map.of("error", ex.getMessage()));
+        }
+        req.setAttribute("status", "400 Bad Request");
+        req.setAttribute("message", ex.getMessage());
+        return "error";
+    }
+
     /** 정적 리소스를 찾을 수 없을 때 (404) - favicon.ico 등 */
     @ExceptionHandler(NoResourceFoundException.class)
     public Object handleNoResourceFound(NoResourceFoundException ex, HttpServletRequest req) {
+        metrics.countException(ex);
         // favicon.ico 등 불필요한 리소스 요청은 조용히 404 반환
         if (isApiRequest(req)) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
@@ -92,10 +119,19 @@ public class GlobalExceptionHandler {
         return "error";
     }
 
-    /** 기타 예상치 못한 예외 (500) */
+    /**
+     * 기타 예상치 못한 예외 (500)
+     *
+     * 스트리밍 렌더링 중 head 를 보낸 뒤 발생했다면 상태 코드를 바꿀 수 없으므로
+     * 에러 페이지를 덧붙이지 않고 로그만 남긴다 (HttpServletResponse 인자가 있어 null 을 반환하면 처리 완료로 본다).
+     */
     @ExceptionHandler(Exception.class)
-    public Object handleException(Exception ex, HttpServletRequest req) {
+    public Object handleException(Exception ex, HttpServletRequest req, HttpServletResponse res) {
+        metrics.countException(ex);
         log.error("Unhandled Exception: {}", ex.getMessage(), ex);
+        if (res.isCommitted()) {
+            return null;
+        }
         if (isApiRequest(req)) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(Map.of("error", "서버 내부 오류가 발생했습니다."));
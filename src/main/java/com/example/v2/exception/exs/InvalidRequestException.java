@@ -0,0 +1,17 @@
+package com.example.v2.exception.exs;
+
+/**
+ * 요청 본문 형식이 잘못되었을 때 발생하는 예외.
+ *
+ * 스트리밍으로 파싱하는 JSON 요청(POST /board/api/write/stream 등)의 문법 오류 시 던진다.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+
+    public InvalidRequestException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
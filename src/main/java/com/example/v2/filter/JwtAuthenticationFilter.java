@@ -5,12 +5,15 @@ import java.util.List;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.example.v2.metrics.HotPathMetrics;
 import com.example.v2.util.JwtUtil;
+import com.example.v2.util.VerifiedToken;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -23,6 +26,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
+    private final HotPathMetrics metrics;
 
     // JWT 인증을 건너뛸 공개 경로 목록
     private static final List<String> PUBLIC_PATHS = List.of(
@@ -59,28 +63,33 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 1. Authorization 헤더에서 JWT 토큰 추출
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
+        VerifiedToken token = null;
 
         // 2. Bearer 토큰 형식 확인 및 토큰 추출
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7); // "Bearer " 이후의 토큰 추출
+            String jwt = authorizationHeader.substring(7); // "Bearer " 이후의 토큰 추출
+            long start = System.nanoTime();
             try {
-                username = jwtUtil.extractUsername(jwt); // 토큰에서 사용자 이름 추출
+                token = jwtUtil.verify(jwt); // 서명/만료 검증은 요청당 한 번만 수행 (만료 전 재요청은 캐시 사용)
             } catch (Exception e) {
                 // 토큰 파싱 실패 시 로그 출력 (실제 환경에서는 로거 사용 권장)
                 logger.error("JWT 토큰 파싱 실패: " + e.getMessage());
+            } finally {
+                metrics.jwtVerify.record(System.nanoTime() - start);
             }
         }
 
-        // 3. 사용자 이름이 추출되었고, 현재 SecurityContext에 인증 정보가 없는 경우
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+        // 3. 토큰이 검증되었고, 현재 SecurityContext에 인증 정보가 없는 경우
+        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
 
-            // 4. 데이터베이스에서 사용자 정보 조회
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
+            // 4. 사용자 정보 조회
+            // 클레임 기반 인증 모드면 토큰 클레임으로 생성 (DB 조회 없음), 아니면 데이터베이스에서 조회
+            UserDetails userDetails = jwtUtil.isClaimsMode() && token.hasAuthorityClaims()
+                    ? fromClaims(token)
+                    : this.userDetailsService.loadUserByUsername(token.subject());
 
-            // 5. 토큰 유효성 검증
-            if (jwtUtil.validateToken(jwt, userDetails)) {
+            // 5. 토큰 유효성 검증 (검증된 토큰을 재사용하므로 다시 파싱하지 않음, 비활성화된 계정은 인증하지 않음)
+            if (userDetails.isEnabled() && jwtUtil.validateToken(token, userDetails)) {
 
                 // 6. 인증 토큰 생성
                 UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
@@ -101,4 +110,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 9. 다음 필터로 요청 전달
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * 검증된 토큰의 권한/활성화 클레임으로 사용자 정보 생성
+     *
+     * @param token 검증된 토큰
+     * @return 비밀번호 없는 UserDetails
+     */
+    private UserDetails fromClaims(VerifiedToken token) {
+        return User.withUsername(token.subject())
+                .password("") // 토큰 인증에는 비밀번호가 필요 없음
+                .authorities(token.roles().toArray(String[]::new))
+                .disabled(!token.enabled())
+                .build();
+    }
 }
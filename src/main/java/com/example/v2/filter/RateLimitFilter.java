@@ -0,0 +1,91 @@
+package com.example.v2.filter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.v2.filter.RateLimiter.Route;
+import com.example.v2.util.JwtUtil;
+import com.example.v2.util.VerifiedToken;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 요청 제한 필터 (JwtAuthenticationFilter 앞에서 실행).
+ *
+ * 글쓰기/업로드, 검색, 조회 요청을 RateLimiter 의 경로 유형별 한도로 제한하고, 넘으면 429 와 Retry-After 로 응답한다.
+ * 키는 유효한 JWT 의 subject(사용자), 없거나 유효하지 않으면 클라이언트 IP 를 사용한다.
+ * (위조한 토큰으로 subject 를 바꿔 가며 한도를 피하지 못하도록 검증된 토큰만 사용자 키로 쓰며,
+ * 검증 결과는 JwtUtil 에 캐시되므로 뒤의 JwtAuthenticationFilter 는 다시 서명을 검증하지 않는다)
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] TOO_MANY_REQUESTS = "{\"error\":\"요청이 너무 많습니다. 잠시 후 다시 시도하세요.\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final RateLimiter rateLimiter;
+    private final JwtUtil jwtUtil;
+
+    // 요청 제한을 적용하지 않는 정적 리소스 경로 목록
+    private static final List<String> EXCLUDED_PATHS = List.of(
+            "/h2-console", "/error", "/favicon.ico", "/css/", "/js/");
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return EXCLUDED_PATHS.stream().anyMatch(path::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+        long waitNanos = rateLimiter.tryAcquire(route(request), client(request));
+        if (waitNanos > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            // Retry-After 는 초 단위 정수 (올림)
+            response.setHeader("Retry-After", Long.toString(Math.max(1,
+                    (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1))));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.setContentLength(TOO_MANY_REQUESTS.length);
+            response.getOutputStream().write(TOO_MANY_REQUESTS);
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    /** 변경 요청은 글쓰기, keyword 가 있는 조회는 검색, 나머지는 조회로 분류한다. */
+    static Route route(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return Route.WRITE;
+        }
+        String keyword = request.getParameter("keyword");
+        return keyword != null && !keyword.isBlank() ? Route.SEARCH : Route.READ;
+    }
+
+    /** 검증된 JWT 의 subject, 없으면 클라이언트 IP 를 키로 사용한다. */
+    private String client(HttpServletRequest request) {
+        String authorizationHeader = request.getHeader("Authorization");
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
+            try {
+                VerifiedToken token = jwtUtil.verify(authorizationHeader.substring(7));
+                return "user:" + token.subject();
+            } catch (Exception e) {
+                // 유효하지 않은 토큰은 IP 로 제한한다 (인증 실패 처리는 JwtAuthenticationFilter 에서)
+            }
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
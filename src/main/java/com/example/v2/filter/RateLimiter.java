@@ -0,0 +1,170 @@
+package com.example.v2.filter;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자/IP 별 토큰 버킷 요청 제한기.
+ *
+ * 버킷은 GCRA(Generic Cell Rate Algorithm) 방식으로, 토큰 수 대신 "다음 토큰이 생기는 이론상 시각(TAT)" 하나만
+ * AtomicLong 으로 보관하고 CAS 로 갱신한다 (잠금 없음). 초당 per-second 개씩 채워지고 최대 burst 개까지 모이는
+ * 토큰 버킷과 같은 결과를 낸다.
+ * - 경로 유형(Route)마다 별도의 한도를 두고, 키는 (경로 유형, 사용자 또는 IP) 로 나눈다.
+ * - TAT 가 현재 시각보다 과거인 버킷은 토큰이 가득 찬 새 버킷과 같으므로, idle-evict-ms 가 지나면 제거해도 상태를 잃지 않는다.
+ * - 제거 전이라도 키가 max-keys 를 넘으면 새 키는 경로 유형별 공용 버킷을 함께 쓴다 (키가 계속 바뀌어도 메모리는 max-keys 이내).
+ */
+@Component
+public class RateLimiter {
+
+    /** 요청 경로 유형 (유형마다 한도가 다르다) */
+    public enum Route {
+        /** 글쓰기/업로드 (POST 등 변경 요청, Base64 디코딩 등 비용이 큼) */
+        WRITE,
+        /** 검색 (keyword 가 있는 목록 조회, LIKE/색인 조회) */
+        SEARCH,
+        /** 그 외 조회 */
+        READ
+    }
+
+    /**
+     * 경로 유형별 한도.
+     *
+     * @param perSecond 초당 채워지는 토큰 수 (지속 허용 요청 수)
+     * @param burst     최대 토큰 수 (한꺼번에 허용하는 요청 수)
+     */
+    public record Budget(double perSecond, int burst) {
+    }
+
+    /**
+     * 요청 제한 통계.
+     *
+     * @param allowed   허용한 요청 수
+     * @param rejected  거절한 요청 수 (429)
+     * @param evictions 유휴 버킷 제거 수
+     * @param overflows 키 수 한도를 넘어 공용 버킷으로 처리한 요청 수
+     * @param keys      현재 버킷 수
+     */
+    public record Stats(long allowed, long rejected, long evictions, long overflows, int keys) {
+    }
+
+    private record Key(Route route, String client) {
+    }
+
+    /** 다음 토큰이 생기는 이론상 시각 (nanoTime 기준) */
+    private static final class Bucket extends AtomicLong {
+
+        Bucket(long tat) {
+            super(tat);
+        }
+    }
+
+    private final Map<Key, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Map<Route, Bucket> overflowBuckets = new ConcurrentHashMap<>();
+    private final long[] intervalNanos = new long[Route.values().length];
+    private final long[] toleranceNanos = new long[Route.values().length];
+    private final long idleNanos;
+    private final int maxKeys;
+    private final LongSupplier nanoClock;
+
+    private final LongAdder allowed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+
+    @Autowired
+    public RateLimiter(
+            @Value("${rate-limit.write.per-second:2}") double writePerSecond,
+            @Value("${rate-limit.write.burst:10}") int writeBurst,
+            @Value("${rate-limit.search.per-second:5}") double searchPerSecond,
+            @Value("${rate-limit.search.burst:20}") int searchBurst,
+            @Value("${rate-limit.read.per-second:50}") double readPerSecond,
+            @Value("${rate-limit.read.burst:100}") int readBurst,
+            @Value("${rate-limit.idle-evict-ms:60000}") long idleEvictMillis,
+            @Value("${rate-limit.max-keys:100000}") int maxKeys) {
+        this(Map.of(
+                Route.WRITE, new Budget(writePerSecond, writeBurst),
+                Route.SEARCH, new Budget(searchPerSecond, searchBurst),
+                Route.READ, new Budget(readPerSecond, readBurst)),
+                Duration.ofMillis(idleEvictMillis), maxKeys, System::nanoTime);
+    }
+
+    RateLimiter(Map<Route, Budget> budgets, Duration idleEvict, int maxKeys, LongSupplier nanoClock) {
+        for (Route route : Route.values()) {
+            Budget budget = budgets.get(route);
+            long interval = (long) (TimeUnit.SECONDS.toNanos(1) / budget.perSecond());
+            intervalNanos[route.ordinal()] = interval;
+            toleranceNanos[route.ordinal()] = interval * budget.burst();
+        }
+        this.idleNanos = idleEvict.toNanos();
+        this.maxKeys = maxKeys;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 요청 하나를 허용할지 결정한다.
+     *
+     * @param route  요청 경로 유형
+     * @param client 사용자 또는 IP 키
+     * @return 허용하면 0, 거절하면 다시 시도할 수 있을 때까지 남은 시간 (나노초)
+     */
+    public long tryAcquire(Route route, String client) {
+        long now = nanoClock.getAsLong();
+        Bucket bucket = bucket(new Key(route, client), now);
+        long interval = intervalNanos[route.ordinal()];
+        long tolerance = toleranceNanos[route.ordinal()];
+        while (true) {
+            long tat = bucket.get();
+            long newTat = Math.max(tat, now) + interval;
+            long waitNanos = newTat - now - tolerance;
+            if (waitNanos > 0) {
+                rejected.increment();
+                return waitNanos;
+            }
+            if (bucket.compareAndSet(tat, newTat)) {
+                allowed.increment();
+                return 0;
+            }
+        }
+    }
+
+    /** 토큰이 가득 찬 채로 idle-evict-ms 가 지난 버킷을 제거한다. */
+    @Scheduled(fixedDelayString = "${rate-limit.evict-interval-ms:10000}")
+    public void evictIdle() {
+        long now = nanoClock.getAsLong();
+        buckets.forEach((key, bucket) -> {
+            if (now - bucket.get() >= idleNanos && buckets.remove(key, bucket)) {
+                evictions.increment();
+            }
+        });
+    }
+
+    /** 요청 제한 통계를 반환한다. */
+    public Stats stats() {
+        return new Stats(allowed.sum(), rejected.sum(), evictions.sum(), overflows.sum(), buckets.size());
+    }
+
+    private Bucket bucket(Key key, long now) {
+        Bucket bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxKeys) {
+            overflows.increment();
+            return overflowBuckets.computeIfAbsent(key.route(), route -> new Bucket(now));
+        }
+        // 새 버킷은 토큰이 가득 찬 상태 (TAT = 현재 시각)
+        Bucket created = new Bucket(now);
+        bucket = buckets.putIfAbsent(key, created);
+        return bucket != null ? bucket : created;
+    }
+}
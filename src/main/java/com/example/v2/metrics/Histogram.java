@@ -0,0 +1,109 @@
+package com.example.v2.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그 구간(log-bucket) 히스토그램.
+ *
+ * 값을 2 의 거듭제곱 구간으로 나누고 각 구간을 다시 4 등분하여 (상대 오차 최대 약 25%) 구간별 개수를 LongAdder 로 센다.
+ * record() 는 비트 연산과 LongAdder 증가만 하므로 객체를 만들지 않고, 여러 스레드가 동시에 기록해도 경합이 적다.
+ * 백분위 값은 snapshot() 시점에 구간 경계로 계산하는 근사값이다.
+ */
+public final class Histogram {
+
+    /** 2 의 거듭제곱 구간 하나를 나누는 하위 구간 수 (2^SUB_BITS) */
+    private static final int SUB_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = (64 - SUB_BITS + 1) * SUB_BUCKETS;
+
+    private final String unit;
+    private final LongAdder[] buckets = new LongAdder[BUCKETS];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param unit 기록 값의 단위 (예: "ns", "bytes")
+     */
+    public Histogram(String unit) {
+        this.unit = unit;
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 히스토그램 요약.
+     *
+     * @param unit  값 단위
+     * @param count 기록 수
+     * @param mean  평균
+     * @param p50   중앙값 (근사)
+     * @param p90   90 백분위 (근사)
+     * @param p99   99 백분위 (근사)
+     * @param p999  99.9 백분위 (근사)
+     * @param max   최대값
+     */
+    public record Snapshot(String unit, long count, double mean, long p50, long p90, long p99, long p999, long max) {
+    }
+
+    /** 값 하나를 기록한다 (음수는 0 으로 기록). */
+    public void record(long value) {
+        long v = Math.max(value, 0);
+        buckets[index(v)].increment();
+        count.increment();
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    /** 현재까지의 기록을 요약한다. 기록과 동시에 호출하면 항목 간에 약간의 차이가 있을 수 있다. */
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        long maxValue = max.get();
+        return new Snapshot(unit, total, total == 0 ? 0 : (double) sum.sum() / total,
+                percentile(counts, total, 0.50, maxValue), percentile(counts, total, 0.90, maxValue),
+                percentile(counts, total, 0.99, maxValue), percentile(counts, total, 0.999, maxValue), maxValue);
+    }
+
+    /** 값이 속한 구간 번호. 0 ~ 3 은 그대로, 그 이상은 (최상위 비트 위치, 다음 2 비트) 로 정한다. */
+    static int index(long v) {
+        if (v < SUB_BUCKETS) {
+            return (int) v;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(v);
+        int sub = (int) (v >>> (msb - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return (msb - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    /** 구간에 속하는 가장 큰 값 (백분위 계산용 상한). */
+    static long upperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int msb = index / SUB_BUCKETS + SUB_BITS - 1;
+        long sub = index % SUB_BUCKETS;
+        long lower = (1L << msb) | (sub << (msb - SUB_BITS));
+        return lower + (1L << (msb - SUB_BITS)) - 1;
+    }
+
+    private static long percentile(long[] counts, long total, double quantile, long maxValue) {
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * total);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.v2.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 주요 처리 경로의 소요 시간/크기 히스토그램과 예외 카운터.
+ *
+ * 히스토그램은 모두 생성 시점에 만들어 필드로 보관하므로 기록할 때 이름 조회나 객체 생성이 없다.
+ * 측정하는 쪽은 System.nanoTime() 차이를 record() 로 넘긴다 (람다/Timer.Sample 등을 만들지 않음).
+ * 통계는 GET /api/admin/metrics (ADMIN) 로 조회한다.
+ */
+@Component
+public class HotPathMetrics {
+
+    /** 게시글 목록 조회 (검색 유형별) */
+    public final Histogram boardListAll = new Histogram("ns");
+    public final Histogram boardListTitle = new Histogram("ns");
+    public final Histogram boardListWriter = new Histogram("ns");
+    public final Histogram boardListTitleContent = new Histogram("ns");
+    public final Histogram boardListOther = new Histogram("ns");
+
+    /** 게시글 상세 조회 */
+    public final Histogram boardDetail = new Histogram("ns");
+
+    /** 게시글 저장 (폼 / Base64 API / 스트리밍 API) */
+    public final Histogram boardSave = new Histogram("ns");
+    public final Histogram boardSave2 = new Histogram("ns");
+    public final Histogram boardSaveStream = new Histogram("ns");
+
+    /** 첨부파일 저장 (MultipartFile / Base64) 소요 시간과 크기 */
+    public final Histogram fileUpload = new Histogram("ns");
+    public final Histogram fileUploadBytes = new Histogram("bytes");
+    public final Histogram base64Upload = new Histogram("ns");
+    public final Histogram base64UploadBytes = new Histogram("bytes");
+
+    /** JwtAuthenticationFilter 의 토큰 검증 */
+    public final Histogram jwtVerify = new Histogram("ns");
+
+    /** UserDetailService.loadUserByUsername */
+    public final Histogram userLoad = new Histogram("ns");
+
+    /** GlobalExceptionHandler 가 처리한 예외 수 (예외 클래스별) */
+    private final Map<Class<?>, LongAdder> exceptions = new ConcurrentHashMap<>();
+
+    /** 게시글 목록 조회 시간 히스토그램 (키워드가 없으면 all). */
+    public Histogram boardList(String searchType, String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return boardListAll;
+        }
+        return switch (searchType) {
+            case "title" -> boardListTitle;
+            case "writer" -> boardListWriter;
+            case "titleContent" -> boardListTitleContent;
+            case null, default -> boardListOther;
+        };
+    }
+
+    /** 처리한 예외를 센다 (같은 예외 클래스는 두 번째부터 객체를 만들지 않는다). */
+    public void countException(Throwable ex) {
+        exceptions.computeIfAbsent(ex.getClass(), type -> new LongAdder()).increment();
+    }
+
+    /** 모든 히스토그램 요약과 예외 수를 반환한다. */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> timers = new LinkedHashMap<>();
+        timers.put("board.list{searchType=all}", boardListAll.snapshot());
+        timers.put("board.list{searchType=title}", boardListTitle.snapshot());
+        timers.put("board.list{searchType=writer}", boardListWriter.snapshot());
+        timers.put("board.list{searchType=titleContent}", boardListTitleContent.snapshot());
+        timers.put("board.list{searchType=other}", boardListOther.snapshot());
+        timers.put("board.detail", boardDetail.snapshot());
+        timers.put("board.save", boardSave.snapshot());
+        timers.put("board.save2", boardSave2.snapshot());
+        timers.put("board.saveStream", boardSaveStream.snapshot());
+        timers.put("attachment.fileUpload", fileUpload.snapshot());
+        timers.put("attachment.base64Upload", base64Upload.snapshot());
+        timers.put("jwt.verify", jwtVerify.snapshot());
+        timers.put("user.loadUserByUsername", userLoad.snapshot());
+
+        Map<String, Object> sizes = new LinkedHashMap<>();
+        sizes.put("attachment.fileUpload", fileUploadBytes.snapshot());
+        sizes.put("attachment.base64Upload", base64UploadBytes.snapshot());
+
+        Map<String, Long> exceptionCounts = new TreeMap<>();
+        exceptions.forEach((type, count) -> exceptionCounts.put(type.getSimpleName(), count.sum()));
+
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("timers", timers);
+        snapshot.put("sizes", sizes);
+        snapshot.put("exceptions", exceptionCounts);
+        return snapshot;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.v2.user.event;
+
+/**
+ * 사용자 인증 정보 변경 이벤트.
+ *
+ * UserService 에서 계정 비활성화, 권한 변경 등 인증 결과에 영향을 주는 변경 후 발행한다.
+ * UserDetailCache 는 @TransactionalEventListener(phase = AFTER_COMMIT) 로 구독하여
+ * 커밋된 변경만 캐시에서 제거한다.
+ *
+ * @param username 변경된 사용자 이름
+ */
+public record UserChangedEvent(String username) {
+}
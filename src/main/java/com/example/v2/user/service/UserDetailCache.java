@@ -0,0 +1,163 @@
+package com.example.v2.user.service;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.v2.user.event.UserChangedEvent;
+
+/**
+ * 사용자 이름 → UserDetails 캐시.
+ *
+ * JWT 인증 요청마다 users / user_roles 테이블을 조회하지 않도록 UserDetailService 앞단에서 사용한다.
+ * - 최대 항목 수(user.cache.max-size)를 넘으면 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 임의 항목을 제거한다.
+ * - 항목은 TTL(user.cache.ttl-ms)이 지나면 조회 시 제거되어 DB 에서 다시 읽는다.
+ * - 계정 비활성화/권한 변경은 UserChangedEvent 로 커밋 후 즉시 제거한다.
+ *   제거할 때마다 세대 번호를 올려, 제거 전에 DB 조회를 시작한 결과(변경 전 값일 수 있음)는 저장하지 않는다.
+ * - 적중/미스/제거 횟수는 LongAdder 로 집계한다.
+ */
+@Component
+public class UserDetailCache implements UserCache {
+
+    /**
+     * 캐시 통계.
+     *
+     * @param hits      적중 횟수
+     * @param misses    미스 횟수 (없거나 만료됨)
+     * @param evictions 제거 횟수 (TTL 만료, 용량 초과, 명시적 무효화)
+     * @param size      현재 항목 수
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+    }
+
+    private record Entry(UserDetails user, long expiresAtNanos) {
+    }
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /** 명시적 제거마다 증가하는 세대 번호 */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final long ttlNanos;
+    private final int maxSize;
+
+    @Autowired
+    public UserDetailCache(@Value("${user.cache.ttl-ms:60000}") long ttlMillis,
+            @Value("${user.cache.max-size:10000}") int maxSize) {
+        this(Duration.ofMillis(ttlMillis), maxSize);
+    }
+
+    UserDetailCache(Duration ttl, int maxSize) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxSize = maxSize;
+    }
+
+    /** 캐시된 사용자 정보를 반환한다. 없거나 만료되었으면 null. */
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        Entry entry = entries.get(username);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (isExpired(entry, System.nanoTime())) {
+            if (entries.remove(username, entry)) {
+                evictions.increment();
+            }
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.user();
+    }
+
+    /** DB 조회를 시작하기 전에 현재 세대 번호를 얻는다 (putUserInCache 에 전달). */
+    public long generation() {
+        return generation.get();
+    }
+
+    /** 사용자 정보를 캐시에 저장한다. */
+    @Override
+    public void putUserInCache(UserDetails user) {
+        store(user);
+    }
+
+    /**
+     * DB 에서 조회한 사용자 정보를 저장한다.
+     *
+     * @param generation 조회 전에 얻은 세대 번호 (그 사이 제거가 있었으면 저장하지 않는다)
+     */
+    public void putUserInCache(UserDetails user, long generation) {
+        if (generation != this.generation.get()) {
+            return;
+        }
+        Entry entry = store(user);
+        // 저장하는 사이에 제거가 끼어들었으면 되돌린다 (제거 측은 세대 번호를 먼저 올린다)
+        if (generation != this.generation.get()) {
+            entries.remove(user.getUsername(), entry);
+        }
+    }
+
+    private Entry store(UserDetails user) {
+        long now = System.nanoTime();
+        if (entries.size() >= maxSize && !entries.containsKey(user.getUsername())) {
+            makeRoom(now);
+        }
+        Entry entry = new Entry(user, now + ttlNanos);
+        entries.put(user.getUsername(), entry);
+        return entry;
+    }
+
+    /** 사용자 정보를 캐시에서 제거한다. */
+    @Override
+    public void removeUserFromCache(String username) {
+        generation.incrementAndGet();
+        if (entries.remove(username) != null) {
+            evictions.increment();
+        }
+    }
+
+    /** 사용자 변경 트랜잭션이 커밋되면 해당 사용자를 캐시에서 제거한다. */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onUserChanged(UserChangedEvent event) {
+        removeUserFromCache(event.username());
+    }
+
+    /** 캐시 통계를 반환한다. */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    /** 만료된 항목을 정리하고, 그래도 가득 차 있으면 임의 항목을 제거한다. */
+    private void makeRoom(long now) {
+        entries.forEach((username, entry) -> {
+            if (isExpired(entry, now) && entries.remove(username, entry)) {
+                evictions.increment();
+            }
+        });
+        Iterator<String> it = entries.keySet().iterator();
+        while (entries.size() >= maxSize && it.hasNext()) {
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+    }
+
+    private static boolean isExpired(Entry entry, long now) {
+        return now - entry.expiresAtNanos() >= 0;
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.v2.user.service;
 
+import java.util.Set;
+
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import com.example.v2.metrics.HotPathMetrics;
 import com.example.v2.user.entity.User;
 import com.example.v2.user.entity.UserDetail;
 import com.example.v2.user.repository.UserRepository;
@@ -16,20 +19,55 @@ import lombok.RequiredArgsConstructor;
 public class UserDetailService implements UserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserDetailCache userDetailCache;
+    private final HotPathMetrics metrics;
 
     /**
      * 사용자 이름으로 사용자 정보 조회
      *
+     * 캐시에 있으면 DB 를 조회하지 않는다 (TTL 만료 또는 사용자 변경 시 다시 조회).
+     *
      * @param username 사용자 이름
      * @return UserDetails 객체
      * @throws UsernameNotFoundException 사용자를 찾을 수 없을 때
      */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException(
-                        "사용자를 찾을 수 없습니다: " + username));
+        long start = System.nanoTime();
+        try {
+            UserDetails cached = userDetailCache.getUserFromCache(username);
+            if (cached != null) {
+                return cached;
+            }
+
+            // 조회 도중 UserChangedEvent 로 제거되면 변경 전 값을 저장하지 않도록 세대 번호를 먼저 얻는다
+            long generation = userDetailCache.generation();
+            User user = userRepository.findByUsername(username)
+                    .orElseThrow(() -> new UsernameNotFoundException(
+                            "사용자를 찾을 수 없습니다: " + username));
+
+            UserDetail userDetail = new UserDetail(detach(user));
+            userDetailCache.putUserInCache(userDetail, generation);
+            return userDetail;
+        } finally {
+            metrics.userLoad.record(System.nanoTime() - start);
+        }
+    }
 
-        return new UserDetail(user);
+    /**
+     * 캐시에 보관할 사용자 사본 생성
+     *
+     * 여러 요청이 공유하므로 영속성 컨텍스트의 컬렉션(PersistentSet) 대신 불변 권한 목록을 사용한다.
+     */
+    private static User detach(User user) {
+        return User.builder()
+                .id(user.getId())
+                .username(user.getUsername())
+                .password(user.getPassword())
+                .email(user.getEmail())
+                .name(user.getName())
+                .roles(Set.copyOf(user.getRoles()))
+                .enabled(user.isEnabled())
+                .build();
     }
 }
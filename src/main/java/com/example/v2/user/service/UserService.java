@@ -1,5 +1,60 @@
 package com.example.v2.user.service;
 
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.v2.user.entity.User;
+import com.example.v2.user.event.UserChangedEvent;
+import com.example.v2.user.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 관리 서비스.
+ *
+ * 인증 결과에 영향을 주는 변경(비활성화, 권한 변경) 후 UserChangedEvent 를 발행하여
+ * 커밋 시점에 UserDetailCache 에서 해당 사용자를 제거한다.
+ */
+@Service
+@RequiredArgsConstructor
 public class UserService {
 
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 계정 비활성화
+     *
+     * @param username 사용자 이름
+     */
+    @Transactional
+    public void disable(String username) {
+        User user = findUser(username);
+        user.setEnabled(false);
+        eventPublisher.publishEvent(new UserChangedEvent(username));
+    }
+
+    /**
+     * 권한 변경
+     *
+     * @param username 사용자 이름
+     * @param roles    새 권한 목록 (ROLE_USER, ROLE_ADMIN 등)
+     */
+    @Transactional
+    public void changeRoles(String username, Set<String> roles) {
+        User user = findUser(username);
+        user.getRoles().clear();
+        user.getRoles().addAll(roles);
+        eventPublisher.publishEvent(new UserChangedEvent(username));
+    }
+
+    private User findUser(String username) {
+        return userRepository.findByUsername(username)
+                .orElseThrow(() -> new UsernameNotFoundException(
+                        "사용자를 찾을 수 없습니다: " + username));
+    }
 }
@@ -0,0 +1,442 @@
+package com.example.v2.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 스트리밍 JSON 리더 (토큰 단위 pull 파서).
+ *
+ * 요청 본문 전체를 메모리에 올리지 않고 앞에서부터 한 토큰씩 읽는다.
+ * 큰 문자열 값(Base64 이미지 등)은 nextStringStream() 으로 InputStream 처럼 흘려 읽을 수 있어
+ * 값의 크기와 무관하게 고정 크기 버퍼(문자 8KB)만 사용한다.
+ * nextString()/nextName() 으로 읽는 문자열은 최대 길이(maxStringLength)를 넘으면 MalformedJsonException 을 던지고,
+ * skipValue() 로 건너뛰는 값은 길이와 무관하게 버퍼에 모으지 않는다.
+ *
+ * 사용 예:
+ * <pre>
+ * reader.beginObject();
+ * while (reader.hasNext()) {
+ *     switch (reader.nextName()) {
+ *         case "title" -> title = reader.nextString();
+ *         case "image" -> copy(reader.nextStringStream(), out);
+ *         default -> reader.skipValue();
+ *     }
+ * }
+ * reader.endObject();
+ * </pre>
+ *
+ * 스레드 안전하지 않으며 요청 하나에서만 사용한다.
+ */
+public final class JsonStreamReader implements Closeable {
+
+    /** JSON 문법 오류 */
+    public static class MalformedJsonException extends IOException {
+        public MalformedJsonException(String message) {
+            super(message);
+        }
+    }
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /** nextString()/nextName() 으로 읽을 문자열의 기본 최대 길이 (문자 수) */
+    public static final int DEFAULT_MAX_STRING_LENGTH = 1 << 20;
+
+    private final Reader reader;
+    private final int maxStringLength;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int pos;
+    private int limit;
+
+    /** 객체/배열 안에서 다음 값 앞에 ',' 가 필요한지 여부 (중첩 깊이별) */
+    private boolean[] needsComma = new boolean[16];
+    private int depth;
+
+    /** 아직 끝까지 읽지 않은 문자열 스트림 */
+    private StringValueStream openString;
+
+    public JsonStreamReader(InputStream in) {
+        this(in, DEFAULT_MAX_STRING_LENGTH);
+    }
+
+    /**
+     * @param maxStringLength nextString()/nextName() 으로 읽을 문자열의 최대 길이 (문자 수, nextStringStream() 은 제한 없음)
+     */
+    public JsonStreamReader(InputStream in, int maxStringLength) {
+        this.reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        this.maxStringLength = maxStringLength;
+    }
+
+    /** '{' 를 읽는다. */
+    public void beginObject() throws IOException {
+        beginValue();
+        expect('{');
+        push();
+    }
+
+    /** '}' 를 읽는다. */
+    public void endObject() throws IOException {
+        finishOpenString();
+        expect('}');
+        pop();
+    }
+
+    /** '[' 를 읽는다. */
+    public void beginArray() throws IOException {
+        beginValue();
+        expect('[');
+        push();
+    }
+
+    /** ']' 를 읽는다. */
+    public void endArray() throws IOException {
+        finishOpenString();
+        expect(']');
+        pop();
+    }
+
+    /** 현재 객체/배열에 다음 항목이 있으면 true. 항목 구분자(',')는 이 메서드가 소비한다. */
+    public boolean hasNext() throws IOException {
+        finishOpenString();
+        int c = peekNonWhitespace();
+        if (c == '}' || c == ']') {
+            return false;
+        }
+        if (needsComma[depth]) {
+            expect(',');
+            needsComma[depth] = false;
+        }
+        return true;
+    }
+
+    /** 최상위에서 다음 값이 있으면 true (NDJSON 등 여러 값이 이어진 입력용). */
+    public boolean hasNextDocument() throws IOException {
+        finishOpenString();
+        return peekNonWhitespace() != -1;
+    }
+
+    /** 객체의 다음 필드 이름과 ':' 를 읽는다. */
+    public String nextName() throws IOException {
+        finishOpenString();
+        if (peekNonWhitespace() != '"') {
+            throw error("필드 이름이 필요합니다");
+        }
+        pos++;
+        String name = readStringBody();
+        expect(':');
+        return name;
+    }
+
+    /** 문자열 값을 읽는다. null 이면 null 을 반환한다. */
+    public String nextString() throws IOException {
+        beginValue();
+        int c = peekNonWhitespace();
+        if (c == 'n') {
+            expectLiteral("null");
+            return null;
+        }
+        if (c != '"') {
+            throw error("문자열 값이 필요합니다");
+        }
+        pos++;
+        return readStringBody();
+    }
+
+    /**
+     * 문자열 값을 InputStream 으로 반환한다 (ASCII 문자만 허용, Base64 등 큰 값용).
+     *
+     * 반환된 스트림은 닫는 따옴표에서 EOF 가 되며, 끝까지 읽지 않아도 다음 토큰을 읽을 때 나머지를 건너뛴다.
+     * 값이 null 이면 null 을 반환한다.
+     */
+    public InputStream nextStringStream() throws IOException {
+        beginValue();
+        int c = peekNonWhitespace();
+        if (c == 'n') {
+            expectLiteral("null");
+            return null;
+        }
+        if (c != '"') {
+            throw error("문자열 값이 필요합니다");
+        }
+        pos++;
+        openString = new StringValueStream();
+        return openString;
+    }
+
+    /** 값 하나(객체/배열 포함)를 읽지 않고 건너뛴다. */
+    public void skipValue() throws IOException {
+        beginValue();
+        int c = peekNonWhitespace();
+        switch (c) {
+            case '"' -> {
+                pos++;
+                skipStringBody();
+            }
+            case '{', '[' -> {
+                pos++;
+                skipContainer();
+            }
+            case -1 -> throw error("값이 필요합니다");
+            default -> skipScalar();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /** 값을 읽기 전 처리: 이전 문자열 스트림을 마무리하고 다음 값부터 ',' 가 필요함을 기록한다. */
+    private void beginValue() throws IOException {
+        finishOpenString();
+        if (depth > 0) {
+            needsComma[depth] = true;
+        }
+    }
+
+    private void push() {
+        depth++;
+        if (depth == needsComma.length) {
+            boolean[] grown = new boolean[depth * 2];
+            System.arraycopy(needsComma, 0, grown, 0, depth);
+            needsComma = grown;
+        }
+        needsComma[depth] = false;
+    }
+
+    private void pop() throws IOException {
+        if (depth == 0) {
+            throw error("닫을 객체/배열이 없습니다");
+        }
+        depth--;
+    }
+
+    private void finishOpenString() throws IOException {
+        if (openString != null) {
+            StringValueStream stream = openString;
+            openString = null;
+            stream.drain();
+        }
+    }
+
+    /** 여는 따옴표 이후의 문자열을 닫는 따옴표까지 읽는다 (최대 길이를 넘으면 예외). */
+    private String readStringBody() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        while (true) {
+            int c = read();
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (sb.length() == maxStringLength) {
+                throw error("문자열 값이 최대 길이(" + maxStringLength + "자)를 넘습니다");
+            }
+            sb.append(c == '\\' ? readEscape() : checkChar(c));
+        }
+    }
+
+    private void skipStringBody() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == '"') {
+                return;
+            }
+            if (c == '\\') {
+                readEscape();
+            } else {
+                checkChar(c);
+            }
+        }
+    }
+
+    /** 여는 괄호 이후의 객체/배열을 짝이 맞는 닫는 괄호까지 건너뛴다. */
+    private void skipContainer() throws IOException {
+        int nesting = 1;
+        while (nesting > 0) {
+            int c = read();
+            switch (c) {
+                case '"' -> skipStringBody();
+                case '{', '[' -> nesting++;
+                case '}', ']' -> nesting--;
+                case -1 -> throw error("입력이 중간에 끝났습니다");
+                default -> {
+                    // 그 외 문자는 건너뛴다
+                }
+            }
+        }
+    }
+
+    /** 숫자/true/false/null 을 구분자 전까지 건너뛴다. */
+    private void skipScalar() throws IOException {
+        int start = pos;
+        while (true) {
+            int c = peek();
+            if (c == -1 || c == ',' || c == '}' || c == ']' || Character.isWhitespace(c)) {
+                break;
+            }
+            pos++;
+        }
+        if (pos == start) {
+            throw error("값이 필요합니다");
+        }
+    }
+
+    /** '\' 다음의 이스케이프 문자를 해석한다. */
+    private char readEscape() throws IOException {
+        int c = read();
+        return switch (c) {
+            case '"', '\\', '/' -> (char) c;
+            case 'b' -> '\b';
+            case 'f' -> '\f';
+            case 'n' -> '\n';
+            case 'r' -> '\r';
+            case 't' -> '\t';
+            case 'u' -> {
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit < 0) {
+                        throw error("잘못된 유니코드 이스케이프입니다");
+                    }
+                    value = (value << 4) | digit;
+                }
+                yield (char) value;
+            }
+            default -> throw error("잘못된 이스케이프 문자입니다");
+        };
+    }
+
+    private char checkChar(int c) throws IOException {
+        if (c == -1) {
+            throw error("문자열이 닫히지 않았습니다");
+        }
+        if (c < 0x20) {
+            throw error("문자열에 제어 문자가 포함되어 있습니다");
+        }
+        return (char) c;
+    }
+
+    private void expect(char expected) throws IOException {
+        if (peekNonWhitespace() != expected) {
+            throw error("'" + expected + "' 가 필요합니다");
+        }
+        pos++;
+    }
+
+    private void expectLiteral(String literal) throws IOException {
+        for (int i = 0; i < literal.length(); i++) {
+            if (read() != literal.charAt(i)) {
+                throw error(literal + " 이 필요합니다");
+            }
+        }
+    }
+
+    private int peekNonWhitespace() throws IOException {
+        while (true) {
+            int c = peek();
+            if (c == -1 || !Character.isWhitespace(c)) {
+                return c;
+            }
+            pos++;
+        }
+    }
+
+    private int peek() throws IOException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos];
+    }
+
+    private int read() throws IOException {
+        if (pos == limit && !fill()) {
+            return -1;
+        }
+        return buffer[pos++];
+    }
+
+    private boolean fill() throws IOException {
+        int n = reader.read(buffer, 0, buffer.length);
+        if (n <= 0) {
+            pos = 0;
+            limit = 0;
+            return false;
+        }
+        pos = 0;
+        limit = n;
+        return true;
+    }
+
+    private MalformedJsonException error(String message) {
+        return new MalformedJsonException("잘못된 JSON 형식: " + message);
+    }
+
+    /** 문자열 값을 닫는 따옴표까지 바이트로 흘려주는 스트림. */
+    private final class StringValueStream extends InputStream {
+
+        private boolean finished;
+
+        @Override
+        public int read() throws IOException {
+            if (finished) {
+                return -1;
+            }
+            int c = JsonStreamReader.this.read();
+            if (c == '"') {
+                finished = true;
+                return -1;
+            }
+            if (c == '\\') {
+                c = readEscape();
+            } else {
+                checkChar(c);
+            }
+            if (c > 0x7F) {
+                throw error("ASCII 문자만 허용되는 값입니다");
+            }
+            return c;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            int n = 0;
+            while (n < len) {
+                // 버퍼에 남은 일반 문자는 한 번에 복사한다
+                if (!finished && pos < limit) {
+                    char c = buffer[pos];
+                    if (c != '"' && c != '\\' && c >= 0x20 && c <= 0x7F) {
+                        b[off + n++] = (byte) c;
+                        pos++;
+                        continue;
+                    }
+                }
+                int c = read();
+                if (c == -1) {
+                    break;
+                }
+                b[off + n++] = (byte) c;
+            }
+            return n == 0 ? -1 : n;
+        }
+
+        @Override
+        public void close() throws IOException {
+            drain();
+        }
+
+        /** 남은 문자를 닫는 따옴표까지 건너뛴다. */
+        void drain() throws IOException {
+            while (read() != -1) {
+                // 건너뛴다
+            }
+            if (openString == this) {
+                openString = null;
+            }
+        }
+    }
+}
@@ -1,19 +1,27 @@
 package com.example.v2.util;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import javax.crypto.SecretKey;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 
@@ -32,14 +40,114 @@ public class JwtUtil {
     @Value("${jwt.refresh-expiration}")
     private Long refreshExpiration;
 
+    // 클레임 기반 인증 모드 (토큰에 권한/활성화 여부를 담아 요청마다 사용자 DB 를 조회하지 않음)
+    @Value("${jwt.claims-mode.enabled:false}")
+    private boolean claimsMode;
+
+    // 클레임 기반 인증 모드의 액세스 토큰 만료 시간 (밀리초, 권한 변경이 반영되는 최대 지연)
+    @Value("${jwt.claims-mode.expiration:300000}")
+    private Long claimsModeExpiration;
+
+    // 검증 결과 캐시 최대 항목 수
+    private static final int VERIFIED_CACHE_MAX_SIZE = 10_000;
+
+    // 비밀 키로 만든 SecretKey / JwtParser (최초 사용 시 한 번만 생성, 이후 재사용)
+    private volatile SecretKey signingKey;
+    private volatile JwtParser parser;
+
+    // 토큰 SHA-256 다이제스트 → 검증 결과 (만료 전까지 서명 재검증 생략)
+    // 토큰 원문 대신 다이제스트를 키로 사용하여 인증 정보를 메모리에 그대로 보관하지 않는다
+    private final Map<String, VerifiedToken> verifiedCache = new ConcurrentHashMap<>();
+
     /**
      * 비밀 키를 SecretKey 객체로 변환
      *
      * @return SecretKey 객체
      */
     private SecretKey getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+        SecretKey key = signingKey;
+        if (key == null) {
+            byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
+            key = Keys.hmacShaKeyFor(keyBytes);
+            signingKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * 서명 검증용 JwtParser 반환 (스레드 안전하므로 재사용)
+     *
+     * @return JwtParser 객체
+     */
+    private JwtParser getParser() {
+        JwtParser p = parser;
+        if (p == null) {
+            p = Jwts.parser()
+                    .verifyWith(getSigningKey()) // 서명 검증을 위한 키 설정
+                    .build();
+            parser = p;
+        }
+        return p;
+    }
+
+    /**
+     * 토큰을 한 번 파싱하여 서명과 만료 시간을 검증
+     *
+     * 같은 토큰이 만료 전에 다시 들어오면 캐시된 검증 결과를 반환한다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 토큰 정보
+     * @throws JwtException             서명이 올바르지 않거나 만료된 경우
+     * @throws IllegalArgumentException 토큰이 비어 있는 경우
+     */
+    public VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT 토큰이 비어 있습니다.");
+        }
+        String digest = digest(token);
+        Instant now = Instant.now();
+        VerifiedToken cached = verifiedCache.get(digest);
+        if (cached != null) {
+            if (!cached.isExpired(now)) {
+                return cached;
+            }
+            verifiedCache.remove(digest);
+        }
+
+        // 만료된 토큰은 파서가 ExpiredJwtException 을 던진다
+        Claims claims = getParser().parseSignedClaims(token).getPayload();
+        if (claims.getExpiration() == null) {
+            throw new MalformedJwtException("만료 시간(exp)이 없는 토큰입니다.");
+        }
+        VerifiedToken verified = new VerifiedToken(claims.getSubject(), claims.getExpiration().toInstant(), claims);
+        cacheVerified(digest, verified, now);
+        return verified;
+    }
+
+    /**
+     * 검증 결과를 캐시에 저장 (최대 크기를 넘으면 만료된 항목부터 정리)
+     */
+    private void cacheVerified(String digest, VerifiedToken verified, Instant now) {
+        if (verifiedCache.size() >= VERIFIED_CACHE_MAX_SIZE) {
+            verifiedCache.values().removeIf(token -> token.isExpired(now));
+            if (verifiedCache.size() >= VERIFIED_CACHE_MAX_SIZE) {
+                // 유효한 토큰만으로 가득 찼다면 비우고 다시 채운다 (다음 요청에서 재검증)
+                verifiedCache.clear();
+            }
+        }
+        verifiedCache.put(digest, verified);
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트를 Base64 문자열로 반환
+     */
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
     }
 
     /**
@@ -82,21 +190,7 @@ public class JwtUtil {
      * @return Claims 객체
      */
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey()) // 서명 검증을 위한 키 설정
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    /**
-     * 토큰 만료 여부 확인
-     *
-     * @param token JWT 토큰
-     * @return 만료되었으면 true, 아니면 false
-     */
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+        return verify(token).claims();
     }
 
     /**
@@ -107,9 +201,24 @@ public class JwtUtil {
      */
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
-        // 추가 클레임이 필요한 경우 여기에 추가
-        // claims.put("role", userDetails.getAuthorities());
-        return createToken(claims, userDetails.getUsername(), expiration);
+        if (!claimsMode) {
+            return createToken(claims, userDetails.getUsername(), expiration);
+        }
+        // 클레임 기반 인증 모드: 권한과 활성화 여부를 토큰에 담고 만료 시간을 짧게 설정
+        claims.put(VerifiedToken.ROLES_CLAIM, userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList());
+        claims.put(VerifiedToken.ENABLED_CLAIM, userDetails.isEnabled());
+        return createToken(claims, userDetails.getUsername(), claimsModeExpiration);
+    }
+
+    /**
+     * 클레임 기반 인증 모드 여부
+     *
+     * @return true면 필터가 토큰 클레임만으로 인증 정보를 생성
+     */
+    public boolean isClaimsMode() {
+        return claimsMode;
     }
 
     /**
@@ -149,9 +258,19 @@ public class JwtUtil {
      * @return 유효하면 true, 아니면 false
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
+        return validateToken(verify(token), userDetails);
+    }
+
+    /**
+     * 검증된 토큰의 유효성 확인 (다시 파싱하지 않음)
+     *
+     * @param token       verify() 로 검증된 토큰
+     * @param userDetails 사용자 상세 정보
+     * @return 유효하면 true, 아니면 false
+     */
+    public boolean validateToken(VerifiedToken token, UserDetails userDetails) {
         // 토큰의 사용자 이름이 일치하고 만료되지 않았는지 확인
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+        return token.subject().equals(userDetails.getUsername()) && !token.isExpired(Instant.now());
     }
 
     /**
@@ -162,11 +281,8 @@ public class JwtUtil {
      */
     public Boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return !isTokenExpired(token);
+            verify(token);
+            return true;
         } catch (JwtException | IllegalArgumentException e) {
             return false;
         }
@@ -0,0 +1,147 @@
+package com.example.v2.util;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mustache 템플릿을 문자열 또는 응답 스트림으로 렌더링하는 컴포넌트.
+ *
+ * 뷰 리졸버를 거치지 않고 렌더링 결과를 캐시하거나 직접 응답할 때 사용한다.
+ * Spring Boot 가 구성한 Mustache.Compiler(templates/ 접두어, .mustache 접미어)로 컴파일하며,
+ * 컴파일된 템플릿은 이름별로 재사용한다. board.render.warmup-templates 의 템플릿은 기동 시 미리 컴파일한다.
+ * (computeIfAbsent 는 템플릿 파일을 읽는 동안 맵 버킷을 synchronized 로 잠가 가상 스레드를 캐리어 스레드에 고정하므로,
+ * 잠금 밖에서 컴파일한 뒤 putIfAbsent 로 등록한다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TemplateRenderer {
+
+    private final Mustache.Compiler compiler;
+
+    private final Map<String, Template> templates = new ConcurrentHashMap<>();
+
+    /** 기동 시 미리 컴파일할 템플릿 이름 */
+    @Value("${board.render.warmup-templates:}")
+    private String[] warmupTemplates;
+
+    /** 기동 시(요청을 받기 전) 자주 쓰는 템플릿을 미리 컴파일한다. */
+    @PostConstruct
+    public void warmUp() {
+        if (warmupTemplates == null) {
+            return;
+        }
+        for (String name : warmupTemplates) {
+            if (!name.isBlank()) {
+                template(name.strip());
+            }
+        }
+        log.debug("템플릿 미리 컴파일: {}개", templates.size());
+    }
+
+    /**
+     * 템플릿을 렌더링한다.
+     *
+     * @param name  템플릿 이름 (예: "board/list")
+     * @param model 템플릿 변수
+     */
+    public String render(String name, Map<String, ?> model) {
+        return template(name).execute(model);
+    }
+
+    /**
+     * head 템플릿을 응답에 바로 쓰고 flush 한 뒤, 본문 모델을 만들어 body 템플릿을 이어서 쓴다.
+     *
+     * 본문 데이터를 조회하는 동안 브라우저가 head(스타일 등)를 먼저 받아 처리할 수 있고,
+     * 본문은 문자열로 모으지 않고 응답 버퍼 크기 단위로 전송한다 (Content-Length 없이 chunked 전송).
+     * head 를 보낸 뒤에는 상태 코드를 바꿀 수 없으므로 404 등으로 응답할 수 있는 검증은 호출 전에 끝내야 한다.
+     *
+     * @param response  HTTP 응답
+     * @param head      먼저 보낼 템플릿 이름
+     * @param headModel head 템플릿 변수 (요청 파라미터 등 조회 없이 알 수 있는 값)
+     * @param body      이어서 보낼 템플릿 이름
+     * @param bodyModel 본문 템플릿 변수 (head 를 보낸 뒤 호출)
+     * @param copy      응답에 쓴 내용을 함께 기록할 Writer (캐시 저장용, 필요 없으면 null)
+     */
+    public void stream(HttpServletResponse response, String head, Map<String, ?> headModel, String body,
+            Supplier<? extends Map<String, ?>> bodyModel, Writer copy) throws IOException {
+        response.setContentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8).toString());
+        Writer writer = copy == null ? response.getWriter() : new TeeWriter(response.getWriter(), copy);
+        template(head).execute(headModel, writer);
+        writer.flush();
+        response.flushBuffer();
+        template(body).execute(bodyModel.get(), writer);
+        writer.flush();
+    }
+
+    private Template template(String name) {
+        Template template = templates.get(name);
+        if (template == null) {
+            Template compiled = compile(name);
+            template = templates.putIfAbsent(name, compiled);
+            if (template == null) {
+                template = compiled;
+            }
+        }
+        return template;
+    }
+
+    private Template compile(String name) {
+        try {
+            return compiler.loadTemplate(name);
+        } catch (Exception e) {
+            throw new IllegalStateException("템플릿을 불러올 수 없습니다: " + name, e);
+        }
+    }
+
+    /** 두 Writer 에 같은 내용을 쓴다. */
+    private static final class TeeWriter extends Writer {
+
+        private final Writer out;
+        private final Writer copy;
+
+        TeeWriter(Writer out, Writer copy) {
+            this.out = out;
+            this.copy = copy;
+        }
+
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            out.write(cbuf, off, len);
+            copy.write(cbuf, off, len);
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            out.write(str, off, len);
+            copy.write(str, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+            copy.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.v2.util;
+
+import java.time.Instant;
+import java.util.List;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명과 만료 시간 검증을 마친 JWT 레코드.
+ *
+ * JwtUtil.verify() 가 토큰을 한 번만 파싱·검증하여 생성하며,
+ * 이후 사용자 이름/만료 시간/클레임 조회에 다시 파싱하지 않고 이 객체를 사용한다.
+ *
+ * @param subject   토큰 주체 (사용자 이름)
+ * @param expiresAt 만료 시각
+ * @param claims    전체 클레임 (파서가 반환한 불변 객체)
+ */
+public record VerifiedToken(String subject, Instant expiresAt, Claims claims) {
+
+    /** 권한 목록 클레임 이름 (클레임 기반 인증 모드) */
+    public static final String ROLES_CLAIM = "roles";
+    /** 계정 활성화 여부 클레임 이름 (클레임 기반 인증 모드) */
+    public static final String ENABLED_CLAIM = "enabled";
+
+    /** 권한/활성화 클레임을 모두 포함하는지 확인한다 (클레임 기반 인증 모드에서 발급된 토큰). */
+    public boolean hasAuthorityClaims() {
+        return claims.get(ROLES_CLAIM) instanceof List<?> && claims.get(ENABLED_CLAIM) instanceof Boolean;
+    }
+
+    /** 권한 목록 클레임을 반환한다. 없으면 빈 목록. */
+    public List<String> roles() {
+        if (!(claims.get(ROLES_CLAIM) instanceof List<?> roles)) {
+            return List.of();
+        }
+        return roles.stream().map(String::valueOf).toList();
+    }
+
+    /** 계정 활성화 클레임을 반환한다. 없으면 false. */
+    public boolean enabled() {
+        return Boolean.TRUE.equals(claims.get(ENABLED_CLAIM));
+    }
+
+    /** 주어진 시각 기준으로 만료되었는지 확인한다. */
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
@@ -1,26 +1,33 @@
 -- ===========================================
 -- 테스트용 게시글 데이터 23건
 -- ===========================================
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('Spring Boot 시작하기', 'Spring Boot의 기본 개념과 프로젝트 설정 방법을 알아봅니다.', '김철수', 12, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('JPA 연관관계 매핑', 'OneToMany, ManyToOne 등 JPA 연관관계 매핑 전략을 정리합니다.', '이영희', 34, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('Mustache 템플릿 활용법', 'Mustache 템플릿 엔진의 문법과 Spring Boot 연동 방법을 소개합니다.', '박지민', 7, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('H2 데이터베이스 가이드', '인메모리 DB인 H2의 설정과 콘솔 사용법을 다룹니다.', '최수현', 45, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('REST API 설계 원칙', 'RESTful API를 설계할 때 지켜야 할 원칙과 예제를 공유합니다.', '김철수', 23, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('Lombok 어노테이션 정리', '@Data, @Builder, @Getter 등 자주 쓰는 Lombok 어노테이션을 정리합니다.', '이영희', 56, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('파일 업로드 구현하기', 'MultipartFile과 Base64 방식의 파일 업로드 구현 방법을 비교합니다.', '정민호', 18, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('Spring Data JPA 페이징', 'Pageable과 Page를 활용한 페이징 처리 방법을 설명합니다.', '박지민', 29, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('Gradle 빌드 최적화', 'Gradle 빌드 속도를 개선하는 설정과 팁을 공유합니다.', '최수현', 8, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('트랜잭션 관리 이해하기', '@Transactional의 동작 원리와 주의사항을 정리합니다.', '김철수', 41, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('DTO와 엔티티 분리 전략', '계층 간 데이터 전달 시 DTO를 활용하는 패턴을 알아봅니다.', '정민호', 15, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('Spring Boot 예외 처리', '@ExceptionHandler와 @ControllerAdvice를 활용한 예외 처리 방법입니다.', '이영희', 37, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('단위 테스트 작성 가이드', 'JUnit 5와 AssertJ를 활용한 서비스 계층 테스트 작성법을 소개합니다.', '박지민', 22, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('Spring Security 기초', '인증과 인가의 개념, SecurityFilterChain 설정 방법을 알아봅니다.', '최수현', 63, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('Docker로 배포하기', 'Dockerfile 작성과 Spring Boot 앱 컨테이너화 과정을 설명합니다.', '김철수', 48, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('Redis 캐시 적용하기', 'Spring Cache와 Redis를 연동하여 성능을 개선하는 방법입니다.', '정민호', 31, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('WebSocket 실시간 채팅', 'STOMP 프로토콜과 SockJS를 활용한 실시간 채팅 구현 예제입니다.', '이영희', 19, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('Querydsl 동적 쿼리', 'BooleanBuilder와 BooleanExpression을 활용한 동적 쿼리 작성법입니다.', '박지민', 52, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('CI/CD 파이프라인 구축', 'GitHub Actions를 활용한 자동 빌드 및 배포 파이프라인 설정 가이드입니다.', '최수현', 27, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('MapStruct DTO 변환', 'MapStruct를 사용하여 엔티티와 DTO 간 변환을 자동화하는 방법입니다.', '김철수', 14, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('AOP로 로깅 구현하기', '@Aspect를 활용한 공통 관심사 분리와 로깅 처리 방법을 소개합니다.', '정민호', 38, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('Flyway DB 마이그레이션', 'Flyway를 활용한 데이터베이스 스키마 버전 관리 방법을 다룹니다.', '이영희', 11, NOW());
-INSERT INTO board (title, content, writer, view_count, create_at) VALUES ('Spring Batch 입문', '대용량 데이터 처리를 위한 Spring Batch의 기본 구조와 예제입니다.', '박지민', 44, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (1, 'Spring Boot 시작하기', 'Spring Boot의 기본 개념과 프로젝트 설정 방법을 알아봅니다.', '김철수', 12, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (2, 'JPA 연관관계 매핑', 'OneToMany, ManyToOne 등 JPA 연관관계 매핑 전략을 정리합니다.', '이영희', 34, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (3, 'Mustache 템플릿 활용법', 'Mustache 템플릿 엔진의 문법과 Spring Boot 연동 방법을 소개합니다.', '박지민', 7, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (4, 'H2 데이터베이스 가이드', '인메모리 DB인 H2의 설정과 콘솔 사용법을 다룹니다.', '최수현', 45, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (5, 'REST API 설계 원칙', 'RESTful API를 설계할 때 지켜야 할 원칙과 예제를 공유합니다.', '김철수', 23, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (6, 'Lombok 어노테이션 정리', '@Data, @Builder, @Getter 등 자주 쓰는 Lombok 어노테이션을 정리합니다.', '이영희', 56, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (7, '파일 업로드 구현하기', 'MultipartFile과 Base64 방식의 파일 업로드 구현 방법을 비교합니다.', '정민호', 18, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (8, 'Spring Data JPA 페이징', 'Pageable과 Page를 활용한 페이징 처리 방법을 설명합니다.', '박지민', 29, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (9, 'Gradle 빌드 최적화', 'Gradle 빌드 속도를 개선하는 설정과 팁을 공유합니다.', '최수현', 8, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (10, '트랜잭션 관리 이해하기', '@Transactional의 동작 원리와 주의사항을 정리합니다.', '김철수', 41, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (11, 'DTO와 엔티티 분리 전략', '계층 간 데이터 전달 시 DTO를 활용하는 패턴을 알아봅니다.', '정민호', 15, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (12, 'Spring Boot 예외 처리', '@ExceptionHandler와 @ControllerAdvice를 활용한 예외 처리 방법입니다.', '이영희', 37, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (13, '단위 테스트 작성 가이드', 'JUnit 5와 AssertJ를 활용한 서비스 계층 테스트 작성법을 소개합니다.', '박지민', 22, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (14, 'Spring Security 기초', '인증과 인가의 개념, SecurityFilterChain 설정 방법을 알아봅니다.', '최수현', 63, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (15, 'Docker로 배포하기', 'Dockerfile 작성과 Spring Boot 앱 컨테이너화 과정을 설명합니다.', '김철수', 48, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (16, 'Redis 캐시 적용하기', 'Spring Cache와 Redis를 연동하여 성능을 개선하는 방법입니다.', '정민호', 31, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (17, 'WebSocket 실시간 채팅', 'STOMP 프로토콜과 SockJS를 활용한 실시간 채팅 구현 예제입니다.', '이영희', 19, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (18, 'Querydsl 동적 쿼리', 'BooleanBuilder와 BooleanExpression을 활용한 동적 쿼리 작성법입니다.', '박지민', 52, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (19, 'CI/CD 파이프라인 구축', 'GitHub Actions를 활용한 자동 빌드 및 배포 파이프라인 설정 가이드입니다.', '최수현', 27, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (20, 'MapStruct DTO 변환', 'MapStruct를 사용하여 엔티티와 DTO 간 변환을 자동화하는 방법입니다.', '김철수', 14, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (21, 'AOP로 로깅 구현하기', '@Aspect를 활용한 공통 관심사 분리와 로깅 처리 방법을 소개합니다.', '정민호', 38, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (22, 'Flyway DB 마이그레이션', 'Flyway를 활용한 데이터베이스 스키마 버전 관리 방법을 다룹니다.', '이영희', 11, NOW());
+INSERT INTO board (id, title, content, writer, view_count, create_at) VALUES (23, 'Spring Batch 입문', '대용량 데이터 처리를 위한 Spring Batch의 기본 구조와 예제입니다.', '박지민', 44, NOW());
+
+-- ===========================================
+-- 게시글 ID 시퀀스 위치 조정
+-- board_seq 는 한 번 조회에 ID 50개를 할당하며(pooled), 조회한 값을 할당 범위의 마지막 ID 로 사용한다.
+-- 다음 조회 값을 (마지막 ID + 50) 으로 두면 이후 저장되는 게시글은 24 부터 이어진다.
+-- ===========================================
+ALTER SEQUENCE board_seq RESTART WITH 73;
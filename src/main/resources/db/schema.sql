@@ -0,0 +1,47 @@
+-- ===========================================
+-- 스키마 (fast-start 프로파일)
+-- 기동 시 Hibernate 스키마 생성(ddl-auto=create) 대신 실행한다.
+-- 엔티티(Board, User, Attachment)의 매핑을 바꾸면 이 파일도 함께 고친다.
+-- ===========================================
+CREATE SEQUENCE IF NOT EXISTS board_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS board (
+    id                 BIGINT       NOT NULL,
+    title              VARCHAR(50)  NOT NULL,
+    content            CLOB,
+    writer             VARCHAR(50)  NOT NULL,
+    file_name          VARCHAR(500),
+    original_file_name VARCHAR(500),
+    view_count         BIGINT,
+    create_at          TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_board_title UNIQUE (title)
+);
+
+CREATE INDEX IF NOT EXISTS idx_board_create_at_id ON board (create_at, id);
+
+CREATE TABLE IF NOT EXISTS users (
+    id       BIGINT       GENERATED BY DEFAULT AS IDENTITY,
+    username VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    email    VARCHAR(255) NOT NULL,
+    name     VARCHAR(255),
+    enabled  BOOLEAN      NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username)
+);
+
+CREATE TABLE IF NOT EXISTS user_roles (
+    user_id BIGINT NOT NULL,
+    role    VARCHAR(255),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS attachment (
+    digest    VARCHAR(64)  NOT NULL,
+    file_name VARCHAR(100) NOT NULL,
+    size      BIGINT       NOT NULL,
+    ref_count BIGINT       NOT NULL,
+    create_at TIMESTAMP(6),
+    PRIMARY KEY (digest)
+);
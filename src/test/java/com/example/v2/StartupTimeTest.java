@@ -0,0 +1,66 @@
+package com.example.v2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * fast-start 프로파일 기동 시간 테스트.
+ *
+ * 애플리케이션을 fast-start 프로파일로 기동하여 ApplicationReadyEvent 까지 걸린 시간을 잰다.
+ * 한도는 -Dstartup.max-ready-ms 로 바꿀 수 있다 (기본 15초, CI 장비 편차를 감안한 상한).
+ */
+@DisplayName("fast-start 프로파일 기동 시간 테스트")
+class StartupTimeTest {
+
+    private static final long MAX_READY_MS = Long.getLong("startup.max-ready-ms", 15_000);
+
+    @Test
+    @DisplayName("스키마 생성과 테스트 데이터 없이 한도 안에 기동하고 첫 목록 요청에 응답한다")
+    void fastStart프로파일_한도안에기동한다() throws Exception {
+        // given
+        AtomicReference<Duration> timeToReady = new AtomicReference<>();
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(SpringMustacheBoardExampleApplication.class)
+                .profiles("fast-start")
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:startup-test",
+                        "logging.level.root=WARN")
+                .listeners((ApplicationListener<ApplicationReadyEvent>) event -> timeToReady.set(event.getTimeTaken()));
+
+        // when
+        try (ConfigurableApplicationContext context = builder.run()) {
+            System.out.printf("[startup] fast-start time-to-ready: %d ms%n", timeToReady.get().toMillis());
+
+            // then
+            assertThat(timeToReady.get()).isLessThan(Duration.ofMillis(MAX_READY_MS));
+            // 요청 경로 빈은 기동 시, 나머지는 처음 사용할 때 만든다
+            assertThat(context.getBeanFactory().getBeanDefinition("boardController").isLazyInit()).isFalse();
+            assertThat(context.getBeanFactory().getBeanDefinition("adminController").isLazyInit()).isTrue();
+            // db/schema.sql 로 만든 테이블만 있고 테스트 데이터는 없다
+            Long boards = context.getBean(JdbcTemplate.class).queryForObject("SELECT COUNT(*) FROM board", Long.class);
+            assertThat(boards).isZero();
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpResponse<String> response = HttpClient.newHttpClient().send(
+                    HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/")).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.body()).contains("</html>");
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.v2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.web.servlet.function.RouterFunction;
+import org.springframework.web.servlet.function.RouterFunctions;
+import org.springframework.web.servlet.function.ServerResponse;
+
+import com.example.v2.board.repository.BoardRepository;
+import com.example.v2.user.entity.User;
+import com.example.v2.user.entity.UserDetail;
+import com.example.v2.user.repository.UserRepository;
+import com.example.v2.util.JwtUtil;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 요청 처리량 부하 테스트.
+ *
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행한다.
+ * 애플리케이션을 두 번(기본 설정 / vt 프로파일) 기동하여 같은 부하를 보낸다.
+ * - 요청은 JWT 필터를 거쳐 느린 I/O(업로드 수신, 외부 호출 등)를 흉내 낸 대기 후 DB 를 한 번 조회한다.
+ * - 플랫폼 스레드 모드는 Tomcat 스레드 수(THREADS)가 동시 처리 한도가 되고,
+ *   가상 스레드 모드는 DB 커넥션 동시 사용 한도만 남는다.
+ */
+@Tag("loadtest")
+@DisplayName("가상 스레드 부하 테스트")
+class VirtualThreadLoadTest {
+
+    private static final int THREADS = 50;
+    private static final int CONCURRENCY = 400;
+    private static final int REQUESTS = 4_000;
+    private static final Duration IO_LATENCY = Duration.ofMillis(100);
+
+    @Test
+    @DisplayName("느린 I/O 가 섞인 요청의 처리량: 플랫폼 스레드 vs 가상 스레드")
+    void 느린IO요청_처리량을_비교한다() throws Exception {
+        // when
+        Result platform = run("platform");
+        Result virtual = run("vt");
+
+        // then
+        System.out.printf("[loadtest] 플랫폼 스레드 (max %d) : %s%n", THREADS, platform);
+        System.out.printf("[loadtest] 가상 스레드          : %s%n", virtual);
+        assertThat(platform.failures()).isZero();
+        assertThat(virtual.failures()).isZero();
+        assertThat(virtual.throughput()).isGreaterThan(platform.throughput());
+    }
+
+    /** 애플리케이션을 기동하고 부하를 보낸 뒤 종료한다. */
+    private Result run(String mode) throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(
+                SpringMustacheBoardExampleApplication.class, SlowIoRoute.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + THREADS,
+                        "spring.datasource.url=jdbc:h2:mem:loadtest-" + mode,
+                        "spring.jpa.show-sql=false",
+                        "rate-limit.enabled=false", // 처리량 측정이므로 요청 제한 없이 실행
+                        "logging.level.root=WARN");
+        if ("vt".equals(mode)) {
+            builder.profiles("vt");
+        }
+        try (ConfigurableApplicationContext context = builder.run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            return load(URI.create("http://localhost:" + port + "/loadtest/slow-io"), token(context));
+        }
+    }
+
+    /** 부하 테스트용 사용자를 저장하고 Access Token 을 발급한다. */
+    private static String token(ConfigurableApplicationContext context) {
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .username("loadtest")
+                .password("encodedPassword")
+                .email("loadtest@example.com")
+                .roles(Set.of("ROLE_USER"))
+                .enabled(true)
+                .build());
+        return context.getBean(JwtUtil.class).generateToken(new UserDetail(user));
+    }
+
+    /** CONCURRENCY 개의 요청을 동시에 유지하며 REQUESTS 건을 보낸다. */
+    private static Result load(URI uri, String token) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        long[] latencies = new long[REQUESTS];
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        long start;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            HttpClient client = HttpClient.newBuilder().executor(executor).build();
+            start = System.nanoTime();
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                inFlight.acquire();
+                executor.execute(() -> {
+                    long begin = System.nanoTime();
+                    try {
+                        if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200) {
+                            failures.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - begin;
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        Arrays.sort(latencies);
+        return new Result(REQUESTS * 1e9 / elapsed, latencies[REQUESTS / 2] / 1_000_000,
+                latencies[REQUESTS * 99 / 100] / 1_000_000, failures.get());
+    }
+
+    /**
+     * 부하 결과.
+     *
+     * @param throughput 초당 처리 건수
+     * @param p50Ms      응답 시간 중앙값 (밀리초)
+     * @param p99Ms      응답 시간 99 백분위 (밀리초)
+     * @param failures   200 이 아닌 응답 또는 오류 건수
+     */
+    record Result(double throughput, long p50Ms, long p99Ms, int failures) {
+
+        @Override
+        public String toString() {
+            return String.format("%,8.0f req/s, p50 %,5d ms, p99 %,5d ms, 실패 %d", throughput, p50Ms, p99Ms, failures);
+        }
+    }
+
+    /**
+     * 느린 I/O 후 DB 를 조회하는 테스트 전용 경로.
+     *
+     * 컴포넌트 스캔에 잡히지 않도록 애노테이션 없이 SpringApplicationBuilder 에 직접 등록한다.
+     */
+    static class SlowIoRoute {
+
+        @Bean
+        RouterFunction<ServerResponse> slowIoRoute(BoardRepository repository) {
+            return RouterFunctions.route()
+                    .GET("/loadtest/slow-io", request -> {
+                        Thread.sleep(IO_LATENCY);
+                        return ServerResponse.ok().body(repository.count());
+                    })
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.example.v2.attachment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.example.v2.exception.exs.FileNotFoundException;
+
+@DisplayName("AttachmentResourceService 단위 테스트")
+class AttachmentResourceServiceTest {
+
+    private static final String DIGEST = "185f8db32271fe25f561a6fc938b2e264306ec304eda518007d1764826381969";
+    private static final String FILE_NAME = DIGEST + ".png";
+
+    @TempDir
+    Path uploadDir;
+
+    private final List<Runnable> submitted = new ArrayList<>();
+
+    private ThumbnailService thumbnails;
+
+    private AttachmentResourceService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.writeString(uploadDir.resolve(FILE_NAME), "0123456789", StandardCharsets.US_ASCII);
+        // 축소본 생성은 예약만 기록하고 실행하지 않는다
+        thumbnails = new ThumbnailService(uploadDir.toString(), new int[] { 320 }, submitted::add);
+        service = new AttachmentResourceService(uploadDir.toString(), thumbnails);
+    }
+
+    @Test
+    @DisplayName("다이제스트 파일명은 immutable 캐시와 강한 ETag 로 전체 내용을 전송한다")
+    void send_전체내용을_immutable캐시로전송한다() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + FILE_NAME);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        service.send(FILE_NAME, null, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader("ETag")).isEqualTo("\"" + DIGEST + "\"");
+        assertThat(response.getHeader("Cache-Control")).contains("max-age=31536000", "immutable");
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 일치하면 본문 없이 304 를 반환한다")
+    void send_ETag일치하면_304를반환한다() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + FILE_NAME);
+        request.addHeader("If-None-Match", "\"" + DIGEST + "\"");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        service.send(FILE_NAME, null, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단일 Range 요청은 206 과 요청 구간만 전송한다")
+    void send_단일Range_206을반환한다() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + FILE_NAME);
+        request.addHeader("Range", "bytes=2-4");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        service.send(FILE_NAME, null, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-4/10");
+        assertThat(response.getContentAsString()).isEqualTo("234");
+    }
+
+    @Test
+    @DisplayName("다중 Range 요청은 multipart/byteranges 로 각 구간을 전송한다")
+    void send_다중Range_multipart로전송한다() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + FILE_NAME);
+        request.addHeader("Range", "bytes=0-1,-2");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        service.send(FILE_NAME, null, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentType()).startsWith("multipart/byteranges; boundary=");
+        assertThat(response.getContentAsString())
+                .contains("Content-Range: bytes 0-1/10\r\n\r\n01")
+                .contains("Content-Range: bytes 8-9/10\r\n\r\n89");
+    }
+
+    @Test
+    @DisplayName("파일 밖의 Range 요청은 416 을 반환한다")
+    void send_범위밖Range_416을반환한다() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + FILE_NAME);
+        request.addHeader("Range", "bytes=20-30");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        service.send(FILE_NAME, null, request, response);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+    }
+
+    @Test
+    @DisplayName("sendfile 을 지원하면 본문을 쓰지 않고 커넥터에 전송 구간을 위임한다")
+    void send_sendfile지원하면_요청속성으로위임한다() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + FILE_NAME);
+        request.setAttribute(AttachmentResourceService.SENDFILE_SUPPORT_ATTR, Boolean.TRUE);
+        request.addHeader("Range", "bytes=5-");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        service.send(FILE_NAME, null, request, response);
+
+        // then
+        assertThat(request.getAttribute(AttachmentResourceService.SENDFILE_FILENAME_ATTR))
+                .isEqualTo(uploadDir.resolve(FILE_NAME).toAbsolutePath().normalize().toString());
+        assertThat(request.getAttribute(AttachmentResourceService.SENDFILE_START_ATTR)).isEqualTo(5L);
+        assertThat(request.getAttribute(AttachmentResourceService.SENDFILE_END_ATTR)).isEqualTo(10L);
+        assertThat(response.getContentLengthLong()).isEqualTo(5);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("업로드 디렉토리 밖의 경로는 FileNotFoundException 을 던진다")
+    void send_디렉토리이탈_예외를던진다() {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/..");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when & then
+        assertThatThrownBy(() -> service.send("..", null, request, response))
+                .isInstanceOf(FileNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("축소본이 아직 없으면 생성을 예약하고 원본을 짧은 캐시 시간으로 전송한다")
+    void send_축소본없으면_원본을짧게캐시한다() throws IOException {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + FILE_NAME);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        service.send(FILE_NAME, 200, request, response);
+
+        // then
+        assertThat(submitted).hasSize(1);
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("max-age=10, public");
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    @DisplayName("축소본이 있으면 너비별 ETag 와 immutable 캐시로 축소본을 전송한다")
+    void send_축소본있으면_축소본을전송한다() throws IOException {
+        // given
+        Path derivative = uploadDir.resolve(ThumbnailService.DIRECTORY).resolve("320").resolve(FILE_NAME);
+        Files.createDirectories(derivative.getParent());
+        Files.writeString(derivative, "small", StandardCharsets.US_ASCII);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/images/" + FILE_NAME);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        service.send(FILE_NAME, 200, request, response);
+
+        // then
+        assertThat(submitted).isEmpty();
+        assertThat(response.getHeader("ETag")).isEqualTo("\"" + DIGEST + "-w320\"");
+        assertThat(response.getHeader("Cache-Control")).contains("immutable");
+        assertThat(response.getContentAsString()).isEqualTo("small");
+    }
+}
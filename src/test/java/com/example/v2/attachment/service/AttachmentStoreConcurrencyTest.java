@@ -0,0 +1,120 @@
+package com.example.v2.attachment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.v2.attachment.entity.Attachment;
+import com.example.v2.attachment.repository.AttachmentRepository;
+import com.example.v2.attachment.service.AttachmentStore.StagedFile;
+
+/**
+ * 같은 내용의 동시 업로드 테스트.
+ *
+ * 두 스레드가 각자 게시글 저장 트랜잭션 안에서 commit 하며, 둘 다 참조 수 증가(0건) 뒤
+ * 행 추가 직전에 만나도록 해서 다이제스트 PK 충돌을 반드시 일으킨다.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("AttachmentStore 동시 업로드 테스트")
+class AttachmentStoreConcurrencyTest {
+
+    /** SHA-256("Hello") */
+    private static final String HELLO_DIGEST = "185f8db32271fe25f561a6fc938b2e264306ec304eda518007d1764826381969";
+
+    @TempDir
+    Path uploadDir;
+
+    @Autowired
+    private AttachmentRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("두 스레드가 같은 내용을 동시에 올려도 둘 다 성공하고 참조 수는 2가 된다")
+    void commit_같은내용동시업로드_둘다성공한다() throws Exception {
+        // given
+        CyclicBarrier beforeInsert = new CyclicBarrier(2);
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionManager);
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        TransactionOperations insertTransaction = new TransactionOperations() {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                try {
+                    beforeInsert.await(10, TimeUnit.SECONDS);
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                return requiresNew.execute(action);
+            }
+        };
+        AttachmentStore store = new AttachmentStore(repository, insertTransaction, uploadDir.toString());
+        TransactionTemplate saveTransaction = new TransactionTemplate(transactionManager);
+
+        // when
+        List<String> fileNames;
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            List<Future<String>> futures = List.of(
+                    executor.submit(() -> upload(store, saveTransaction, "a.png")),
+                    executor.submit(() -> upload(store, saveTransaction, "b.png")));
+            fileNames = List.of(futures.get(0).get(30, TimeUnit.SECONDS), futures.get(1).get(30, TimeUnit.SECONDS));
+        }
+
+        // then
+        assertThat(fileNames).hasSize(2).allMatch(name -> name.startsWith(HELLO_DIGEST));
+        assertThat(fileNames.get(0)).isEqualTo(fileNames.get(1));
+        assertThat(repository.findById(HELLO_DIGEST)).get()
+                .extracting(Attachment::getRefCount)
+                .isEqualTo(2L);
+        assertThat(uploadDir.resolve(fileNames.get(0))).hasContent("Hello");
+        try (var files = Files.list(uploadDir)) {
+            assertThat(files).noneMatch(file -> file.getFileName().toString().endsWith(".tmp"));
+        }
+    }
+
+    private static String upload(AttachmentStore store, TransactionTemplate saveTransaction, String fileName)
+            throws IOException {
+        StagedFile staged = store.stage(new ByteArrayInputStream("Hello".getBytes(StandardCharsets.UTF_8)), Long.MAX_VALUE);
+        try {
+            return saveTransaction.execute(status -> {
+                try {
+                    return store.commit(staged, fileName);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } finally {
+            store.discard(staged);
+        }
+    }
+}
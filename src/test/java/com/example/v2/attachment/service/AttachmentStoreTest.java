@@ -0,0 +1,119 @@
+package com.example.v2.attachment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import com.example.v2.attachment.repository.AttachmentRepository;
+import com.example.v2.attachment.service.AttachmentStore.StagedFile;
+import com.example.v2.exception.exs.FileUploadException;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttachmentStore 단위 테스트")
+class AttachmentStoreTest {
+
+    /** SHA-256("Hello") */
+    private static final String HELLO_DIGEST = "185f8db32271fe25f561a6fc938b2e264306ec304eda518007d1764826381969";
+
+    @TempDir
+    Path uploadDir;
+
+    @Mock
+    private AttachmentRepository repository;
+
+    private AttachmentStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new AttachmentStore(repository, TransactionOperations.withoutTransaction(), uploadDir.toString());
+    }
+
+    @Test
+    @DisplayName("처음 보는 내용은 다이제스트 파일명으로 저장하고 첨부파일 행을 추가한다")
+    void commit_새내용이면_다이제스트파일명으로저장한다() throws IOException {
+        // given
+        StagedFile staged = store.stage(input("Hello"), Long.MAX_VALUE);
+
+        // when
+        String fileName = store.commit(staged, "Hello.PNG");
+
+        // then
+        assertThat(staged.digest()).isEqualTo(HELLO_DIGEST);
+        assertThat(fileName).isEqualTo(HELLO_DIGEST + ".png");
+        assertThat(Files.readString(uploadDir.resolve(fileName))).isEqualTo("Hello");
+        then(repository).should().saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("이미 있는 내용은 파일을 새로 만들지 않고 참조 수만 증가시킨다")
+    void commit_같은내용이면_참조수만증가한다() throws IOException {
+        // given
+        given(repository.incrementRefCount(HELLO_DIGEST)).willReturn(1);
+        given(repository.findFileNameByDigest(HELLO_DIGEST)).willReturn(Optional.of(HELLO_DIGEST + ".png"));
+        StagedFile staged = store.stage(input("Hello"), Long.MAX_VALUE);
+
+        // when
+        String fileName = store.commit(staged, "other.jpg");
+
+        // then
+        assertThat(fileName).isEqualTo(HELLO_DIGEST + ".png");
+        assertThat(staged.tempFile()).doesNotExist();
+        try (var files = Files.list(uploadDir)) {
+            assertThat(files).isEmpty();
+        }
+        then(repository).should(never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("행 추가가 다이제스트 충돌로 실패하면 먼저 추가된 행의 참조 수를 증가시킨다")
+    void commit_행추가가충돌하면_참조수증가로대체한다() throws IOException {
+        // given
+        given(repository.saveAndFlush(any())).willThrow(new DataIntegrityViolationException("duplicate digest"));
+        given(repository.incrementRefCount(HELLO_DIGEST)).willReturn(0, 1);
+        given(repository.findFileNameByDigest(HELLO_DIGEST)).willReturn(Optional.of(HELLO_DIGEST + ".png"));
+        StagedFile staged = store.stage(input("Hello"), Long.MAX_VALUE);
+
+        // when
+        String fileName = store.commit(staged, "Hello.png");
+
+        // then
+        assertThat(fileName).isEqualTo(HELLO_DIGEST + ".png");
+        then(repository).should(times(2)).incrementRefCount(HELLO_DIGEST);
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 예외를 던지고 임시 파일을 삭제한다")
+    void stage_최대크기초과하면_예외를던진다() throws IOException {
+        // when & then
+        assertThatThrownBy(() -> store.stage(input("Hello"), 4))
+                .isInstanceOf(FileUploadException.class);
+        try (var files = Files.list(uploadDir)) {
+            assertThat(files).isEmpty();
+        }
+    }
+
+    private static ByteArrayInputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.v2.attachment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@DisplayName("ThumbnailService 단위 테스트")
+class ThumbnailServiceTest {
+
+    @TempDir
+    Path uploadDir;
+
+    @Test
+    @DisplayName("설정된 너비별로 비율을 유지한 축소본을 만들고, 원본보다 넓은 너비는 원본을 복사한다")
+    void submit_너비별축소본을생성한다() throws IOException {
+        // given
+        ImageIO.write(new BufferedImage(1000, 500, BufferedImage.TYPE_INT_RGB), "png",
+                uploadDir.resolve("image.png").toFile());
+        ThumbnailService service = new ThumbnailService(uploadDir.toString(), new int[] { 320, 1280 }, Runnable::run);
+
+        // when
+        service.submit("image.png");
+
+        // then
+        BufferedImage small = ImageIO.read(service.derivative("image.png", 320).orElseThrow().toFile());
+        assertThat(small.getWidth()).isEqualTo(320);
+        assertThat(small.getHeight()).isEqualTo(160);
+        assertThat(Files.mismatch(service.derivative("image.png", 1280).orElseThrow(), uploadDir.resolve("image.png")))
+                .isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("요청 너비 이상인 가장 작은 너비를 고르고, 없으면 가장 큰 너비를 고른다")
+    void selectWidth_가장가까운너비를고른다() {
+        // given
+        ThumbnailService service = new ThumbnailService(uploadDir.toString(), new int[] { 640, 320, 1280 }, Runnable::run);
+
+        // when & then
+        assertThat(service.selectWidth(100)).isEqualTo(320);
+        assertThat(service.selectWidth(321)).isEqualTo(640);
+        assertThat(service.selectWidth(5000)).isEqualTo(1280);
+    }
+}
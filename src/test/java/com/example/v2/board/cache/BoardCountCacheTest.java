@@ -0,0 +1,86 @@
+package com.example.v2.board.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.v2.board.event.BoardSavedEvent;
+
+@DisplayName("BoardCountCache 단위 테스트")
+class BoardCountCacheTest {
+
+    private static final BoardSavedEvent SAVED = new BoardSavedEvent(1L, "제목", "내용", "작성자");
+
+    @Test
+    @DisplayName("전체 수는 한 번만 조회하고 이후에는 저장 커밋마다 1 씩 증가시킨다")
+    void total_한번조회후_저장마다증가한다() {
+        // given
+        BoardCountCache cache = new BoardCountCache(Duration.ofMinutes(1), 1000);
+        AtomicInteger queries = new AtomicInteger();
+
+        // when
+        long first = cache.total(() -> {
+            queries.incrementAndGet();
+            return 10;
+        });
+        cache.onBoardSaved(SAVED);
+        long second = cache.total(() -> {
+            queries.incrementAndGet();
+            return 999;
+        });
+
+        // then
+        assertThat(first).isEqualTo(10);
+        assertThat(second).isEqualTo(11);
+        assertThat(queries).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("조회 도중 저장이 커밋되면 조회 결과를 보관하지 않는다")
+    void total_조회도중저장되면_보관하지않는다() {
+        // given
+        BoardCountCache cache = new BoardCountCache(Duration.ofMinutes(1), 1000);
+
+        // when
+        cache.total(() -> {
+            cache.onBoardSaved(SAVED);
+            return 10;
+        });
+        long reloaded = cache.total(() -> 11);
+
+        // then
+        assertThat(reloaded).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("검색 결과 수는 TTL 동안 재사용하고 게시글이 저장되면 다시 조회한다")
+    void search_TTL동안재사용하고_저장되면다시조회한다() {
+        // given
+        BoardCountCache cache = new BoardCountCache(Duration.ofMinutes(1), 1000);
+        cache.search("title=자바", () -> 5);
+
+        // when
+        long cached = cache.search("title=자바", () -> 6);
+        cache.onBoardSaved(SAVED);
+        long reloaded = cache.search("title=자바", () -> 7);
+
+        // then
+        assertThat(cached).isEqualTo(5);
+        assertThat(reloaded).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("검색 결과 수가 한도를 넘으면 추정치로 표시한다")
+    void searchLabel_한도초과하면_추정치로표시한다() {
+        // given
+        BoardCountCache cache = new BoardCountCache(Duration.ofMinutes(1), 1000);
+
+        // when & then
+        assertThat(cache.searchLabel(1000)).isEqualTo("1,000");
+        assertThat(cache.searchLabel(1001)).isEqualTo("1,000+");
+    }
+}
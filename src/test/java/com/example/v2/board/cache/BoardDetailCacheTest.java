@@ -0,0 +1,102 @@
+package com.example.v2.board.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.v2.board.entity.Board;
+
+@DisplayName("BoardDetailCache 단위 테스트")
+class BoardDetailCacheTest {
+
+    @Test
+    @DisplayName("조회할 때마다 새 사본을 반환하므로 호출 측 변경이 캐시에 남지 않는다")
+    void get_새사본을반환한다() {
+        // given
+        BoardDetailCache cache = new BoardDetailCache(1 << 20, 1 << 20);
+        cache.put(board(1L, "내용", 5L), cache.generation());
+
+        // when
+        Board first = cache.get(1L);
+        first.addPendingViewCount(100);
+        Board second = cache.get(1L);
+
+        // then
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getViewCount()).isEqualTo(5L);
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.stats().hitRate()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    @DisplayName("내용 크기 합계가 내용 용량을 넘으면 가장 오래 사용하지 않은 내용부터 제거하고 미스로 처리한다")
+    void put_용량초과하면_LRU항목을제거한다() {
+        // given (내용당 64 + 2 * 1000 바이트, 항목과 별도 용량으로 2개까지 수용)
+        BoardDetailCache cache = new BoardDetailCache(1 << 20, 5000);
+        String content = "가".repeat(1000);
+        cache.put(board(1L, content, 0L), cache.generation());
+        cache.put(board(2L, content, 0L), cache.generation());
+        cache.get(1L); // 1 을 최근 사용으로
+
+        // when
+        cache.put(board(3L, content, 0L), cache.generation());
+
+        // then
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.get(3L)).isNotNull();
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        assertThat(cache.stats().contentBytes()).isEqualTo(2 * (64 + 2 * 1000));
+    }
+
+    @Test
+    @DisplayName("조회수 반영이 끝나면 캐시된 조회수에 증가분을 더한다")
+    void viewCountsFlushed_캐시된조회수에증가분을더한다() {
+        // given
+        BoardDetailCache cache = new BoardDetailCache(1 << 20, 1 << 20);
+        cache.put(board(1L, "내용", 5L), cache.generation());
+
+        // when
+        cache.viewCountsFlushing();
+        cache.viewCountsFlushed(Map.of(1L, 3L, 2L, 7L));
+
+        // then
+        assertThat(cache.get(1L).getViewCount()).isEqualTo(8L);
+        assertThat(cache.get(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("조회수 반영 전이나 반영 중에 조회를 시작한 결과는 저장하지 않는다")
+    void put_조회수반영과겹친조회결과는_저장하지않는다() {
+        // given
+        BoardDetailCache cache = new BoardDetailCache(1 << 20, 1 << 20);
+        long beforeFlush = cache.generation();
+        cache.viewCountsFlushing();
+        long duringFlush = cache.generation();
+
+        // when
+        cache.put(board(1L, "내용", 5L), beforeFlush);
+        cache.put(board(2L, "내용", 5L), duringFlush);
+        cache.viewCountsFlushed(Map.of(2L, 1L));
+        cache.put(board(3L, "내용", 5L), duringFlush);
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(3L)).isNull();
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    private static Board board(Long id, String content, long viewCount) {
+        return Board.builder()
+                .id(id)
+                .title("제목" + id)
+                .content(content)
+                .writer("작성자")
+                .viewCount(viewCount)
+                .build();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.v2.board.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.v2.board.event.BoardSavedEvent;
+
+@DisplayName("ListPageCache 단위 테스트")
+class ListPageCacheTest {
+
+    private static final ListPageCache.Key FIRST = new ListPageCache.Key(0, 10, "", "");
+    private static final ListPageCache.Key SECOND = new ListPageCache.Key(1, 10, "", "");
+    private static final ListPageCache.Key THIRD = new ListPageCache.Key(2, 10, "", "");
+
+    @Test
+    @DisplayName("저장한 HTML 을 반환하고 적중률을 집계한다")
+    void get_저장한HTML을반환한다() {
+        // given
+        ListPageCache cache = new ListPageCache(Duration.ofMinutes(1), 1 << 20);
+        cache.put(FIRST, cache.generation(), new byte[] { 1, 2, 3 });
+
+        // when
+        byte[] hit = cache.get(FIRST);
+        byte[] miss = cache.get(SECOND);
+
+        // then
+        assertThat(hit).containsExactly(1, 2, 3);
+        assertThat(miss).isNull();
+        assertThat(cache.stats().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 사용하지 않은 항목부터 제거한다")
+    void put_용량초과하면_LRU항목을제거한다() {
+        // given (항목당 1000 + 128 바이트, 2개까지 수용)
+        ListPageCache cache = new ListPageCache(Duration.ofMinutes(1), 2300);
+        cache.put(FIRST, cache.generation(), new byte[1000]);
+        cache.put(SECOND, cache.generation(), new byte[1000]);
+        cache.get(FIRST); // FIRST 를 최근 사용으로
+
+        // when
+        cache.put(THIRD, cache.generation(), new byte[1000]);
+
+        // then
+        assertThat(cache.get(SECOND)).isNull();
+        assertThat(cache.get(FIRST)).isNotNull();
+        assertThat(cache.get(THIRD)).isNotNull();
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("게시글이 저장되면 전체를 비우고, 무효화 이전에 시작한 렌더링 결과는 저장하지 않는다")
+    void onBoardSaved_무효화이전렌더링결과는_저장하지않는다() {
+        // given
+        ListPageCache cache = new ListPageCache(Duration.ofMinutes(1), 1 << 20);
+        cache.put(FIRST, cache.generation(), new byte[] { 1 });
+        long staleGeneration = cache.generation();
+
+        // when
+        cache.onBoardSaved(new BoardSavedEvent(1L, "제목", "내용", "작성자"));
+        cache.put(SECOND, staleGeneration, new byte[] { 2 });
+
+        // then
+        assertThat(cache.get(FIRST)).isNull();
+        assertThat(cache.get(SECOND)).isNull();
+        assertThat(cache.stats().invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 반환하지 않는다")
+    void get_TTL지나면_null을반환한다() {
+        // given
+        ListPageCache cache = new ListPageCache(Duration.ZERO, 1 << 20);
+        cache.put(FIRST, cache.generation(), new byte[] { 1 });
+
+        // when & then
+        assertThat(cache.get(FIRST)).isNull();
+        assertThat(cache.stats().size()).isZero();
+    }
+}
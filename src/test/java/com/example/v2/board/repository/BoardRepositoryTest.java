@@ -0,0 +1,95 @@
+package com.example.v2.board.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.v2.board.dto.BoardSummary;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.example.v2.board.repository.SqlCaptureInspector")
+@DisplayName("BoardRepository 요약 프로젝션 테스트")
+class BoardRepositoryTest {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @BeforeEach
+    void setUp() {
+        SqlCaptureInspector.clear();
+    }
+
+    @Test
+    @DisplayName("제목 존재 여부는 정확히 일치하는 제목만 확인하고 LOB 컬럼을 조회하지 않는다")
+    void existsByTitle_정확히일치하는제목만확인한다() {
+        // when & then
+        assertThat(boardRepository.existsByTitle("Spring Boot 시작하기")).isTrue();
+        assertThat(boardRepository.existsByTitle("Spring Boot")).isFalse();
+        assertNoLobColumns(SqlCaptureInspector.statements());
+    }
+
+    @Test
+    @DisplayName("전체 목록 요약 조회는 LOB 컬럼을 조회하지 않는다")
+    void findSummaryAll_LOB컬럼을조회하지않는다() {
+        // when
+        Page<BoardSummary> result = boardRepository.findSummaryAll(PageRequest.of(0, 10));
+
+        // then
+        assertThat(result.getContent()).isNotEmpty();
+        assertNoLobColumns(SqlCaptureInspector.statements());
+    }
+
+    @Test
+    @DisplayName("제목/작성자 요약 검색은 LOB 컬럼을 조회하지 않는다")
+    void findSummaries_제목작성자검색은_LOB컬럼을조회하지않는다() {
+        // when (검색 인덱스 빈이 없는 슬라이스 테스트이므로 LIKE 검색 경로를 사용)
+        boardRepository.findSummaries("Spring", null, null, PageRequest.of(0, 10));
+        boardRepository.findSummaries(null, null, "김철수", PageRequest.of(0, 10));
+
+        // then
+        assertNoLobColumns(SqlCaptureInspector.statements());
+    }
+
+    @Test
+    @DisplayName("커서 조회는 LOB 컬럼을 조회하지 않고 COUNT 쿼리도 실행하지 않는다")
+    void findFirstByCursor_LOB컬럼과COUNT쿼리가없다() {
+        // when
+        List<BoardSummary> result = boardRepository.findFirstByCursor(PageRequest.of(0, 5));
+
+        // then
+        assertThat(result).hasSize(5);
+        assertNoLobColumns(SqlCaptureInspector.statements());
+        assertThat(SqlCaptureInspector.statements())
+                .noneMatch(sql -> sql.toLowerCase(Locale.ROOT).contains("count("));
+    }
+
+    @Test
+    @DisplayName("제목+내용 요약 검색은 내용을 검색 조건에만 사용하고 SELECT 절에는 포함하지 않는다")
+    void findSummaries_제목내용검색은_SELECT절에LOB컬럼이없다() {
+        // when
+        boardRepository.findSummaries("JPA", "JPA", null, PageRequest.of(0, 10));
+
+        // then
+        assertThat(SqlCaptureInspector.statements()).isNotEmpty().allSatisfy(sql -> {
+            String lower = sql.toLowerCase(Locale.ROOT);
+            String selectClause = lower.substring(0, lower.indexOf(" from "));
+            assertThat(selectClause).doesNotContain("content").doesNotContain("profile_image");
+        });
+    }
+
+    /** 수집된 모든 SQL 에 LOB 컬럼(content, profile_image)이 등장하지 않는지 검증한다. */
+    private void assertNoLobColumns(List<String> statements) {
+        assertThat(statements).isNotEmpty().allSatisfy(sql -> assertThat(sql.toLowerCase(Locale.ROOT))
+                .doesNotContain("content")
+                .doesNotContain("profile_image"));
+    }
+}
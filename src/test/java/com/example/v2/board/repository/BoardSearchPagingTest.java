@@ -0,0 +1,44 @@
+package com.example.v2.board.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.v2.board.cache.BoardCountCache;
+import com.example.v2.board.dto.BoardSummary;
+
+/** 검색 건수가 상한(search-limit)에 걸려도 다음 페이지 여부로 끝까지 이동할 수 있는지 검증한다. */
+@DataJpaTest(properties = "board.count-cache.search-limit=3")
+@Import(BoardCountCache.class)
+@DisplayName("검색 페이징 (has-next) 테스트")
+class BoardSearchPagingTest {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Test
+    @DisplayName("건수 상한을 넘는 페이지도 다음 페이지가 있으면 전체 페이지 수가 현재 페이지보다 크다")
+    void findSummaries_건수상한을넘는페이지_다음페이지로이동가능() {
+        // given (테스트 데이터 23건 모두 내용에 "니다" 포함, 건수는 3 + 1 건까지만 센다)
+
+        // when
+        Page<BoardSummary> middle = boardRepository.findSummaries(null, "니다", null, PageRequest.of(3, 5));
+        Page<BoardSummary> last = boardRepository.findSummaries(null, "니다", null, PageRequest.of(4, 5));
+
+        // then
+        assertThat(middle.getContent()).hasSize(5);
+        assertThat(middle.hasNext()).isTrue();
+        assertThat(middle.getTotalPages()).isGreaterThan(middle.getNumber() + 1);
+        assertThat(middle.getTotalElements()).isGreaterThan(3);
+
+        assertThat(last.getContent()).hasSize(3);
+        assertThat(last.isLast()).isTrue();
+        assertThat(last.getTotalElements()).isEqualTo(23);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.v2.board.repository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 실행하는 SQL 을 수집하는 테스트용 StatementInspector.
+ *
+ * hibernate.session_factory.statement_inspector 속성에 클래스명으로 등록하면
+ * Hibernate 가 기본 생성자로 인스턴스를 만들어 모든 SQL 을 전달한다.
+ */
+public class SqlCaptureInspector implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    /** 수집된 SQL 목록을 반환한다. */
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    /** 수집된 SQL 을 비운다. */
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.v2.board.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.v2.board.dto.BoardSummary;
+import com.example.v2.board.entity.Board;
+import com.example.v2.board.repository.BoardRepository;
+
+/**
+ * 인덱스 검색과 LIKE 검색의 결과 일치 테스트.
+ *
+ * 인덱스 구축(build)은 별도 커넥션으로 board 테이블을 읽으므로 테스트 트랜잭션 없이 데이터를 커밋한다.
+ */
+@DataJpaTest(properties = "board.search.index.enabled=false")
+@Import(BoardSearchIndex.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("인덱스 검색 / LIKE 검색 결과 일치 테스트")
+class BoardSearchConsistencyTest {
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private BoardSearchIndex index;
+
+    @Test
+    @DisplayName("여러 단어, 바이그램이 떨어져 있는 키워드, 기호가 포함된 키워드도 인덱스와 LIKE 결과(순서, 페이지, 건수)가 같다")
+    void findSummaries_인덱스와LIKE결과가같다() {
+        // given
+        boardRepository.saveAllAndFlush(List.of(
+                board("자유 게시판 공지", "게시판 이용 안내"),
+                board("게시글 시판 안내", "게시 후 시판합니다"),
+                board("spring 그리고 boot", "boot 와 spring"),
+                board("spring boot 입문", "내용"),
+                board("C++ 입문", "포인터와 참조"),
+                board("C 언어 기초", "C# 과 다릅니다"),
+                board("Clean Code 정리", "c 로 시작하는 단어"),
+                board("페이징 대상 하나", "내용"),
+                board("페이징 대상 둘", "내용"),
+                board("대상 페이 이징", "내용"),
+                board("페이징 대상 셋", "내용")));
+        List<String> keywords = List.of("게시판", "spring boot", "Spring Boot", "C++", "C", "시판", "boot 와");
+
+        // 인덱스 구축 전에는 LIKE 검색을 사용한다
+        Map<String, List<Long>> likeResults = new HashMap<>();
+        for (String keyword : keywords) {
+            likeResults.put(keyword + "/title", ids(boardRepository.findSummaries(keyword, null, null, all())));
+            likeResults.put(keyword + "/titleContent",
+                    ids(boardRepository.findSummaries(keyword, keyword, null, all())));
+        }
+        likeResults.put("paging", ids(boardRepository.findSummaries("페이징", null, null, PageRequest.of(1, 2))));
+
+        // when
+        index.build();
+
+        // then
+        assertThat(index.isReady()).isTrue();
+        for (String keyword : keywords) {
+            assertThat(ids(boardRepository.findSummaries(keyword, null, null, all())))
+                    .as(keyword + "/title")
+                    .isEqualTo(likeResults.get(keyword + "/title"));
+            assertThat(ids(boardRepository.findSummaries(keyword, keyword, null, all())))
+                    .as(keyword + "/titleContent")
+                    .isEqualTo(likeResults.get(keyword + "/titleContent"));
+        }
+        assertThat(titles(boardRepository.findSummaries("게시판", null, null, all())))
+                .containsExactly("자유 게시판 공지");
+        assertThat(titles(boardRepository.findSummaries("spring boot", null, null, all())))
+                .containsExactly("spring boot 입문");
+        assertThat(titles(boardRepository.findSummaries("C++", null, null, all())))
+                .containsExactly("C++ 입문");
+
+        // 페이지와 건수도 확인을 거친 결과 기준
+        Page<BoardSummary> indexPage = boardRepository.findSummaries("페이징", null, null, PageRequest.of(1, 2));
+        assertThat(ids(indexPage)).isEqualTo(likeResults.get("paging"));
+        assertThat(indexPage.getTotalElements()).isEqualTo(3);
+        assertThat(titles(indexPage)).containsExactly("페이징 대상 하나");
+    }
+
+    private static Board board(String title, String content) {
+        return Board.builder().title(title).content(content).writer("테스터").build();
+    }
+
+    private static PageRequest all() {
+        return PageRequest.of(0, 100);
+    }
+
+    private static List<Long> ids(Page<BoardSummary> page) {
+        return page.getContent().stream().map(BoardSummary::id).toList();
+    }
+
+    private static List<String> titles(Page<BoardSummary> page) {
+        return page.getContent().stream().map(BoardSummary::title).toList();
+    }
+}
@@ -0,0 +1,197 @@
+package com.example.v2.board.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.text.Normalizer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.example.v2.board.event.BoardSavedEvent;
+import com.example.v2.board.search.BoardSearchIndex.Field;
+
+@DisplayName("BoardSearchIndex 단위 테스트")
+class BoardSearchIndexTest {
+
+    private BoardSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // DB 구축(build) 없이 add() 로 직접 색인한다
+        index = new BoardSearchIndex(null);
+    }
+
+    @Nested
+    @DisplayName("search - 키워드 검색")
+    class SearchTest {
+
+        @Test
+        @DisplayName("한글 부분 문자열이 포함된 게시글을 최신순으로 반환한다")
+        void search_한글부분일치_최신순반환() {
+            // given
+            index.add(1L, "스프링 게시판 만들기", "내용", "홍길동");
+            index.add(2L, "JPA 공부", "게시판 예제", "김철수");
+            index.add(3L, "게시글 작성법", "내용", "이영희");
+            index.add(4L, "무스타치 게시판", "내용", "홍길동");
+            index.completeBuild();
+
+            // when
+            long[] result = index.search("게시판", Field.TITLE);
+
+            // then
+            assertThat(result).containsExactly(4L, 1L);
+        }
+
+        @Test
+        @DisplayName("여러 필드를 지정하면 어느 하나라도 일치하는 게시글을 반환한다")
+        void search_여러필드_합집합반환() {
+            // given
+            index.add(1L, "스프링 게시판 만들기", "내용", "홍길동");
+            index.add(2L, "JPA 공부", "게시판 예제", "김철수");
+            index.add(3L, "게시글 작성법", "내용", "이영희");
+            index.completeBuild();
+
+            // when
+            long[] result = index.search("게시판", Field.TITLE, Field.CONTENT);
+
+            // then
+            assertThat(result).containsExactly(2L, 1L);
+        }
+
+        @Test
+        @DisplayName("조합형(NFD) 검색어도 완성형으로 저장된 게시글과 일치한다")
+        void search_NFD검색어_완성형과일치() {
+            // given
+            index.add(1L, "게시판", "내용", "홍길동");
+            index.completeBuild();
+            String nfd = Normalizer.normalize("게시판", Normalizer.Form.NFD);
+
+            // when
+            long[] result = index.search(nfd, Field.TITLE);
+
+            // then
+            assertThat(result).containsExactly(1L);
+        }
+
+        @Test
+        @DisplayName("영문은 LIKE 와 같이 대소문자를 구분하고, 한 글자 검색은 유니그램으로 찾는다")
+        void search_대소문자구분_한글자검색() {
+            // given
+            index.add(1L, "Spring Boot", "내용", "홍길동");
+            index.add(2L, "스프링", "내용", "김철수");
+            index.add(3L, "spring boot", "내용", "이영희");
+            index.completeBuild();
+
+            // when & then
+            assertThat(index.search("spring", Field.TITLE)).containsExactly(3L);
+            assertThat(index.search("Spring", Field.TITLE)).containsExactly(1L);
+            assertThat(index.search("링", Field.TITLE)).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("바이그램이 모두 있어도 원문에 키워드가 이어져 있지 않으면 제외한다")
+        void search_바이그램만일치_제외() {
+            // given
+            index.add(1L, "게시글 시판 안내", "내용", "홍길동");
+            index.add(2L, "자유 게시판", "내용", "김철수");
+            index.completeBuild();
+
+            // when
+            long[] result = index.search("게시판", Field.TITLE);
+
+            // then
+            assertThat(result).containsExactly(2L);
+        }
+
+        @Test
+        @DisplayName("구축이 끝나기 전이거나 색인 가능한 문자가 없으면 null 을 반환한다")
+        void search_사용불가면_null반환() {
+            // given
+            index.add(1L, "게시판", "내용", "홍길동");
+
+            // when & then
+            assertThat(index.search("게시판", Field.TITLE)).isNull();
+            index.completeBuild();
+            assertThat(index.search("%%", Field.TITLE)).isNull();
+        }
+
+        @Test
+        @DisplayName("구축 중에 저장된 게시글은 구축 완료 시 반영된다")
+        void onBoardSaved_구축중저장_완료시반영() {
+            // given
+            index.add(1L, "게시판", "내용", "홍길동");
+            index.onBoardSaved(new BoardSavedEvent(2L, "새 게시판", "내용", "김철수"));
+
+            // when
+            index.completeBuild();
+
+            // then
+            assertThat(index.search("게시판", Field.TITLE)).containsExactly(2L, 1L);
+        }
+    }
+
+    @Nested
+    @DisplayName("PostingList - 압축 포스팅 리스트")
+    class PostingListTest {
+
+        @Test
+        @DisplayName("블록 경계를 넘어도 모든 ID 를 오름차순으로 복원한다")
+        void toArray_블록경계_복원() {
+            // given
+            PostingList list = new PostingList();
+            for (long id = 1; id <= 300; id++) {
+                list.add(id * 1000);
+            }
+
+            // when
+            long[] ids = list.toArray();
+
+            // then
+            assertThat(ids).hasSize(300);
+            assertThat(ids[0]).isEqualTo(1000L);
+            assertThat(ids[299]).isEqualTo(300_000L);
+            assertThat(list.retainAll(new long[] { 5L, 1000L, 129_000L, 300_000L, 300_001L }))
+                    .containsExactly(1000L, 129_000L, 300_000L);
+        }
+
+        @Test
+        @DisplayName("순서가 뒤바뀐 ID 와 중복 ID 도 정렬·중복 제거된 상태를 유지한다")
+        void add_역순중복_정렬유지() {
+            // given
+            PostingList list = new PostingList();
+            list.add(10L);
+            list.add(30L);
+
+            // when
+            list.add(20L);
+            list.add(30L);
+            list.add(10L);
+
+            // then
+            assertThat(list.toArray()).containsExactly(10L, 20L, 30L);
+            assertThat(list.size()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("순서가 뒤바뀐 ID 는 보조 배열에 모았다가 한도에 이르면 본문에 병합한다")
+        void add_역순다수_병합후에도정렬유지() {
+            // given
+            PostingList list = new PostingList();
+            list.add(1_000_000L);
+
+            // when
+            for (long id = 1; id <= PostingList.EXTRA_LIMIT * 2 + 10; id++) {
+                list.add(id * 3);
+            }
+
+            // then
+            long[] ids = list.toArray();
+            assertThat(ids).hasSize(PostingList.EXTRA_LIMIT * 2 + 11).isSorted();
+            assertThat(ids[ids.length - 1]).isEqualTo(1_000_000L);
+            assertThat(list.retainAll(new long[] { 2L, 3L, 387L, 414L, 999_999L, 1_000_000L }))
+                    .containsExactly(3L, 387L, 414L, 1_000_000L);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.v2.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.example.v2.board.dto.BulkResult;
+import com.example.v2.board.dto.BulkResult.Status;
+import com.example.v2.board.repository.BoardRepository;
+
+@DataJpaTest(properties = "board.bulk.batch-size=2")
+@Import({ BoardBulkService.class, TitleBloomFilter.class })
+@DisplayName("BoardBulkService 일괄 등록 테스트")
+class BoardBulkServiceTest {
+
+    @Autowired
+    private BoardBulkService bulkService;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Test
+    @DisplayName("JSON 배열의 각 항목을 등록하고 중복/누락 항목은 요청 순서대로 실패로 보고한다")
+    void importBoards_JSON배열_항목별결과를반환한다() {
+        // given
+        String body = """
+                [
+                  {"title": "일괄 등록 1", "content": "내용", "writer": "작성자"},
+                  {"title": "Spring Boot 시작하기", "content": "내용", "writer": "작성자"},
+                  {"title": "일괄 등록 1", "content": "내용", "writer": "작성자"},
+                  {"title": "일괄 등록 2", "content": "내용"},
+                  {"title": "일괄 등록 3", "writer": "작성자", "ignored": [1, 2]}
+                ]
+                """;
+
+        // when
+        BulkResult result = bulkService.importBoards(input(body), false);
+
+        // then
+        assertThat(result.created()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(3);
+        assertThat(result.items()).extracting(BulkResult.Item::status)
+                .containsExactly(Status.CREATED, Status.DUPLICATE, Status.DUPLICATE, Status.INVALID, Status.CREATED);
+        // 기존 게시글 23건 뒤로 시퀀스 ID 가 이어진다
+        assertThat(result.items().get(0).id()).isGreaterThan(23L);
+        assertThat(result.items().get(4).id()).isGreaterThan(result.items().get(0).id());
+        assertThat(boardRepository.existsByTitle("일괄 등록 3")).isTrue();
+    }
+
+    @Test
+    @DisplayName("NDJSON 본문은 줄마다 객체 하나로 읽고, 형식 오류가 나면 그 앞까지만 등록한다")
+    void importBoards_NDJSON_형식오류전까지등록한다() {
+        // given
+        String body = """
+                {"title": "NDJSON 1", "writer": "작성자"}
+                {"title": "NDJSON 2", "writer": "작성자"}
+                {"title": "NDJSON 3", "writer":
+                """;
+
+        // when
+        BulkResult result = bulkService.importBoards(input(body), true);
+
+        // then
+        assertThat(result.items()).extracting(BulkResult.Item::status)
+                .containsExactly(Status.CREATED, Status.CREATED, Status.INVALID);
+        assertThat(result.items().get(2).index()).isEqualTo(2);
+        assertThat(boardRepository.existsByTitle("NDJSON 2")).isTrue();
+    }
+
+    private static InputStream input(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -4,29 +4,61 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
-
+import static org.mockito.Mockito.never;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.unit.DataSize;
+
+import com.example.v2.attachment.repository.AttachmentRepository;
+import com.example.v2.attachment.service.AttachmentStore;
+import com.example.v2.attachment.service.ThumbnailService;
+import com.example.v2.board.cache.BoardDetailCache;
+import com.example.v2.board.dto.BoardCursor;
+import com.example.v2.board.dto.BoardSummary;
+import com.example.v2.board.dto.CursorSlice;
 import com.example.v2.board.dto.RequestDto;
 import com.example.v2.board.entity.Board;
+import com.example.v2.board.event.BoardSavedEvent;
 import com.example.v2.board.repository.BoardRepository;
 import com.example.v2.exception.exs.BoardNotFoundException;
 import com.example.v2.exception.exs.DuplicateTitleException;
+import com.example.v2.exception.exs.InvalidRequestException;
+import com.example.v2.metrics.HotPathMetrics;
+
+import com.sun.management.ThreadMXBean;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("BoardService 단위 테스트")
@@ -35,6 +67,30 @@ class BoardServiceTest {
     @Mock
     private BoardRepository boardRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ViewCountBuffer viewCountBuffer;
+
+    @Mock
+    private TitleBloomFilter titleFilter;
+
+    @Mock
+    private AttachmentStore attachmentStore;
+
+    @Mock
+    private ThumbnailService thumbnailService;
+
+    @Spy
+    private HotPathMetrics metrics = new HotPathMetrics();
+
+    @Mock
+    private BoardDetailCache detailCache;
+
+    @Spy
+    private TransactionOperations transactionOperations = TransactionOperations.withoutTransaction();
+
     @InjectMocks
     private BoardService boardService;
 
@@ -62,6 +118,7 @@ class BoardServiceTest {
             assertThat(result.getContent()).hasSize(2);
             assertThat(result.getContent().get(0).getTitle()).isEqualTo("제목1");
             then(boardRepository).should().findAllByOrderByCreatedAtDesc(pageable);
+            assertThat(metrics.boardListAll.snapshot().count()).isEqualTo(1);
         }
 
         @Test
@@ -73,7 +130,7 @@ class BoardServiceTest {
             List<Board> boards = List.of(createBoard(1L, "Spring Boot 가이드", "작성자1"));
             Page<Board> boardPage = new PageImpl<>(boards, pageable, boards.size());
 
-            given(boardRepository.findByTitleContaining(eq(keyword), eq(pageable)))
+            given(boardRepository.findAllByOrderByCreatedAtDesc(eq(keyword), isNull(), isNull(), eq(pageable)))
                     .willReturn(boardPage);
 
             // when
@@ -82,7 +139,7 @@ class BoardServiceTest {
             // then
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().get(0).getTitle()).contains("Spring");
-            then(boardRepository).should().findByTitleContaining(keyword, pageable);
+            then(boardRepository).should().findAllByOrderByCreatedAtDesc(keyword, null, null, pageable);
         }
 
         @Test
@@ -94,7 +151,7 @@ class BoardServiceTest {
             List<Board> boards = List.of(createBoard(1L, "테스트 글", "홍길동"));
             Page<Board> boardPage = new PageImpl<>(boards, pageable, boards.size());
 
-            given(boardRepository.findByWriterContaining(eq(keyword), eq(pageable)))
+            given(boardRepository.findAllByOrderByCreatedAtDesc(isNull(), isNull(), eq(keyword), eq(pageable)))
                     .willReturn(boardPage);
 
             // when
@@ -103,7 +160,7 @@ class BoardServiceTest {
             // then
             assertThat(result.getContent()).hasSize(1);
             assertThat(result.getContent().get(0).getWriter()).isEqualTo("홍길동");
-            then(boardRepository).should().findByWriterContaining(keyword, pageable);
+            then(boardRepository).should().findAllByOrderByCreatedAtDesc(null, null, keyword, pageable);
         }
 
         @Test
@@ -115,8 +172,8 @@ class BoardServiceTest {
             List<Board> boards = List.of(createBoard(1L, "JPA 학습", "작성자1"));
             Page<Board> boardPage = new PageImpl<>(boards, pageable, boards.size());
 
-            given(boardRepository.findByTitleContainingOrContentContaining(
-                    eq(keyword), eq(keyword), eq(pageable)))
+            given(boardRepository.findAllByOrderByCreatedAtDesc(
+                    eq(keyword), eq(keyword), isNull(), eq(pageable)))
                     .willReturn(boardPage);
 
             // when
@@ -125,7 +182,110 @@ class BoardServiceTest {
             // then
             assertThat(result.getContent()).hasSize(1);
             then(boardRepository).should()
-                    .findByTitleContainingOrContentContaining(keyword, keyword, pageable);
+                    .findAllByOrderByCreatedAtDesc(keyword, keyword, null, pageable);
+        }
+    }
+
+    @Nested
+    @DisplayName("boardSummaryList - 게시글 요약 목록 조회")
+    class BoardSummaryListTest {
+
+        @Test
+        @DisplayName("키워드가 없으면 요약 프로젝션 전체 목록을 반환한다")
+        void boardSummaryList_키워드없으면_요약전체목록을반환한다() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            List<BoardSummary> rows = List.of(createSummary(1L, LocalDateTime.now()));
+            given(boardRepository.findSummaryAll(pageable))
+                    .willReturn(new PageImpl<>(rows, pageable, rows.size()));
+
+            // when
+            Page<BoardSummary> result = boardService.boardSummaryList("", "", pageable);
+
+            // then
+            assertThat(result.getContent()).containsExactlyElementsOf(rows);
+            then(boardRepository).should().findSummaryAll(pageable);
+        }
+
+        @Test
+        @DisplayName("작성자로 검색하면 작성자 조건으로 요약 검색을 사용한다")
+        void boardSummaryList_작성자로검색하면_작성자요약쿼리를사용한다() {
+            // given
+            Pageable pageable = PageRequest.of(0, 10);
+            given(boardRepository.findSummaries(null, null, "홍길동", pageable))
+                    .willReturn(new PageImpl<>(List.of(), pageable, 0));
+
+            // when
+            boardService.boardSummaryList("writer", "홍길동", pageable);
+
+            // then
+            then(boardRepository).should().findSummaries(null, null, "홍길동", pageable);
+        }
+    }
+
+    @Nested
+    @DisplayName("boardCursorList - 커서 기반 목록 조회")
+    class BoardCursorListTest {
+
+        private final LocalDateTime now = LocalDateTime.of(2025, 1, 15, 14, 30);
+
+        @Test
+        @DisplayName("커서가 없으면 첫 페이지를 조회하고 다음 커서만 반환한다")
+        void boardCursorList_커서없으면_첫페이지와다음커서를반환한다() {
+            // given
+            List<BoardSummary> rows = List.of(
+                    createSummary(3L, now),
+                    createSummary(2L, now),
+                    createSummary(1L, now.minusMinutes(1)));
+
+            given(boardRepository.findFirstByCursor(PageRequest.of(0, 3)))
+                    .willReturn(rows);
+
+            // when
+            CursorSlice<BoardSummary> result = boardService.boardCursorList(null, "next", 2);
+
+            // then
+            assertThat(result.content()).extracting(BoardSummary::id).containsExactly(3L, 2L);
+            assertThat(result.hasPrev()).isFalse();
+            assertThat(BoardCursor.decode(result.nextCursor())).isEqualTo(new BoardCursor(now, 2L));
+        }
+
+        @Test
+        @DisplayName("이전 방향으로 조회하면 결과를 최신순으로 뒤집고 양쪽 커서를 반환한다")
+        void boardCursorList_이전방향이면_최신순으로정렬하고양쪽커서를반환한다() {
+            // given
+            BoardCursor cursor = new BoardCursor(now, 2L);
+            List<BoardSummary> rows = List.of(
+                    createSummary(3L, now),
+                    createSummary(4L, now.plusMinutes(1)),
+                    createSummary(5L, now.plusMinutes(2)));
+
+            given(boardRepository.findPrevByCursor(now, 2L, PageRequest.of(0, 3)))
+                    .willReturn(rows);
+
+            // when
+            CursorSlice<BoardSummary> result = boardService.boardCursorList(cursor.encode(), "prev", 2);
+
+            // then
+            assertThat(result.content()).extracting(BoardSummary::id).containsExactly(4L, 3L);
+            assertThat(BoardCursor.decode(result.prevCursor())).isEqualTo(new BoardCursor(now.plusMinutes(1), 4L));
+            assertThat(BoardCursor.decode(result.nextCursor())).isEqualTo(new BoardCursor(now, 3L));
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 첫 페이지 조회로 처리한다")
+        void boardCursorList_잘못된커서면_첫페이지를조회한다() {
+            // given
+            given(boardRepository.findFirstByCursor(any(Pageable.class)))
+                    .willReturn(List.of());
+
+            // when
+            CursorSlice<BoardSummary> result = boardService.boardCursorList("!!invalid!!", "next", 10);
+
+            // then
+            assertThat(result.content()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+            assertThat(result.hasPrev()).isFalse();
         }
     }
 
@@ -142,6 +302,7 @@ class BoardServiceTest {
 
             given(boardRepository.findById(boardId))
                     .willReturn(Optional.of(board));
+            given(viewCountBuffer.increment(boardId)).willReturn(1L);
 
             // when
             Board result = boardService.board(boardId);
@@ -150,6 +311,28 @@ class BoardServiceTest {
             assertThat(result).isNotNull();
             assertThat(result.getTitle()).isEqualTo("테스트 제목");
             assertThat(result.getViewCount()).isEqualTo(1L);
+            then(viewCountBuffer).should().increment(boardId);
+            then(detailCache).should().put(board, 0L);
+            // 조회한 엔티티는 바꾸지 않는다 (flush 되지 않도록 사본에 증가분을 더함)
+            assertThat(result).isNotSameAs(board);
+            assertThat(board.getViewCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("상세 캐시에 있으면 DB 를 조회하지 않고 반영되지 않은 조회수를 더해 반환한다")
+        void board_캐시에있으면_DB를조회하지않는다() {
+            // given
+            Long boardId = 1L;
+            given(detailCache.get(boardId)).willReturn(createBoard(boardId, "캐시된 제목", "작성자"));
+            given(viewCountBuffer.increment(boardId)).willReturn(3L);
+
+            // when
+            Board result = boardService.board(boardId);
+
+            // then
+            assertThat(result.getTitle()).isEqualTo("캐시된 제목");
+            assertThat(result.getViewCount()).isEqualTo(3L);
+            then(boardRepository).should(never()).findById(any());
         }
 
         @Test
@@ -181,18 +364,17 @@ class BoardServiceTest {
             dto.setContent("새 게시글 내용");
             dto.setWriter("작성자");
 
-            Page<Board> emptyPage = new PageImpl<>(List.of());
-
-            given(boardRepository.findByTitleContaining(eq("새 게시글"), any(Pageable.class)))
-                    .willReturn(emptyPage);
-            given(boardRepository.save(any(Board.class)))
+            given(titleFilter.mightContain("새 게시글")).willReturn(false);
+            given(boardRepository.saveAndFlush(any(Board.class)))
                     .willReturn(createBoard(1L, "새 게시글", "작성자"));
 
             // when
             boardService.save(dto, null);
 
             // then
-            then(boardRepository).should().save(any(Board.class));
+            then(boardRepository).should(never()).existsByTitle(any());
+            then(boardRepository).should().saveAndFlush(any(Board.class));
+            then(eventPublisher).should().publishEvent(any(BoardSavedEvent.class));
         }
 
         @Test
@@ -204,16 +386,192 @@ class BoardServiceTest {
             dto.setContent("내용");
             dto.setWriter("작성자");
 
-            Board existingBoard = createBoard(1L, "중복 제목", "기존작성자");
-            Page<Board> existingPage = new PageImpl<>(List.of(existingBoard));
-
-            given(boardRepository.findByTitleContaining(eq("중복 제목"), any(Pageable.class)))
-                    .willReturn(existingPage);
+            given(titleFilter.mightContain("중복 제목")).willReturn(true);
+            given(boardRepository.existsByTitle("중복 제목")).willReturn(true);
 
             // when & then
             assertThatThrownBy(() -> boardService.save(dto, null))
                     .isInstanceOf(DuplicateTitleException.class)
                     .hasMessageContaining("중복 제목");
+            then(boardRepository).should(never()).saveAndFlush(any(Board.class));
+        }
+
+        @Test
+        @DisplayName("동시 저장으로 유니크 제약 조건을 위반하면 DuplicateTitleException으로 변환한다")
+        void save_유니크제약위반이면_DuplicateTitleException으로변환한다() {
+            // given
+            RequestDto dto = new RequestDto();
+            dto.setTitle("동시 제목");
+            dto.setContent("내용");
+            dto.setWriter("작성자");
+
+            given(titleFilter.mightContain("동시 제목")).willReturn(true);
+            given(boardRepository.existsByTitle("동시 제목")).willReturn(false);
+            given(boardRepository.saveAndFlush(any(Board.class)))
+                    .willThrow(new DataIntegrityViolationException("unique",
+                            new SQLException("Unique index or primary key violation", "23505")));
+
+            // when & then
+            assertThatThrownBy(() -> boardService.save(dto, null))
+                    .isInstanceOf(DuplicateTitleException.class)
+                    .hasMessageContaining("동시 제목");
+            then(eventPublisher).should(never()).publishEvent(any(Object.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("saveStream - 스트리밍 Base64 업로드")
+    class SaveStreamTest {
+
+        @TempDir
+        Path uploadDir;
+
+        @Mock
+        AttachmentRepository attachmentRepository;
+
+        @BeforeEach
+        void setUp() {
+            // 실제 파일 기록을 확인하기 위해 첨부파일 저장소는 실제 객체를 사용한다
+            ReflectionTestUtils.setField(boardService, "attachmentStore",
+                    new AttachmentStore(attachmentRepository, transactionOperations, uploadDir.toString()));
+            ReflectionTestUtils.setField(boardService, "maxImageSize", DataSize.ofMegabytes(64));
+        }
+
+        @Test
+        @DisplayName("필드 순서와 무관하게 이미지를 디코딩하여 파일로 저장하고 게시글을 저장한다")
+        void saveStream_이미지를디코딩하여파일로저장한다() throws IOException {
+            // given
+            String json = """
+                    {"imageBase64": "data:image/png;base64,SGVsbG8=", "title": "스트림 제목",
+                     "content": "내용", "writer": "작성자", "imageFileName": "hello.png"}
+                    """;
+
+            // when
+            boardService.saveStream(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+
+            // then
+            ArgumentCaptor<Board> saved = ArgumentCaptor.forClass(Board.class);
+            then(boardRepository).should().saveAndFlush(saved.capture());
+            assertThat(saved.getValue().getTitle()).isEqualTo("스트림 제목");
+            assertThat(saved.getValue().getOriginalFileName()).isEqualTo("hello.png");
+            // SHA-256("Hello") + 확장자
+            assertThat(saved.getValue().getFileName())
+                    .isEqualTo("185f8db32271fe25f561a6fc938b2e264306ec304eda518007d1764826381969.png");
+            assertThat(Files.readString(uploadDir.resolve(saved.getValue().getFileName()))).isEqualTo("Hello");
+            try (var files = Files.list(uploadDir)) {
+                assertThat(files).hasSize(1);
+            }
+        }
+
+        @Test
+        @DisplayName("저장에 실패하면 기록한 이미지 파일을 삭제한다")
+        void saveStream_저장실패하면_파일을삭제한다() throws IOException {
+            // given
+            String json = """
+                    {"title": "중복 제목", "writer": "작성자", "imageFileName": "a.png", "imageBase64": "SGVsbG8="}
+                    """;
+            given(titleFilter.mightContain("중복 제목")).willReturn(true);
+            given(boardRepository.existsByTitle("중복 제목")).willReturn(true);
+
+            // when & then
+            assertThatThrownBy(() -> boardService.saveStream(
+                    new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))))
+                    .isInstanceOf(DuplicateTitleException.class);
+            try (var files = Files.list(uploadDir)) {
+                assertThat(files).isEmpty();
+            }
+        }
+
+        @Test
+        @DisplayName("본문을 다 읽기 전에는 트랜잭션을 열지 않는다 (JSON 오류면 트랜잭션 없이 400)")
+        void saveStream_본문을읽는동안_트랜잭션을열지않는다() throws IOException {
+            // given
+            String json = """
+                    {"imageBase64": "SGVsbG8=", "title": "제목", "writer": "작성자", "content":
+                    """;
+
+            // when & then
+            assertThatThrownBy(() -> boardService.saveStream(
+                    new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))))
+                    .isInstanceOf(InvalidRequestException.class);
+            then(transactionOperations).shouldHaveNoInteractions();
+            try (var files = Files.list(uploadDir)) {
+                assertThat(files).isEmpty();
+            }
+        }
+
+        @Test
+        @DisplayName("이미지 크기가 커져도 요청당 힙 할당량이 늘어나지 않는다")
+        void saveStream_이미지크기와무관하게_힙할당량이일정하다() {
+            // given
+            ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long smallPayload = 1L << 20; // Base64 1MB
+            long largePayload = 32L << 20; // Base64 32MB (디코딩 후 24MB)
+            allocatedBytes(threads, "워밍업", smallPayload);
+
+            // when
+            long small = allocatedBytes(threads, "작은 이미지", smallPayload);
+            long large = allocatedBytes(threads, "큰 이미지", largePayload);
+
+            // then
+            assertThat(large - small)
+                    .as("이미지가 31MB 커질 때 추가 할당량 (small=%d, large=%d)", small, large)
+                    .isLessThan(1L << 20);
+        }
+
+        private long allocatedBytes(ThreadMXBean threads, String title, long base64Length) {
+            InputStream body = new GeneratedJsonStream(
+                    "{\"title\":\"" + title + "\",\"writer\":\"작성자\",\"imageFileName\":\"big.png\","
+                            + "\"imageBase64\":\"",
+                    base64Length, "\"}");
+            long before = threads.getCurrentThreadAllocatedBytes();
+            boardService.saveStream(body);
+            return threads.getCurrentThreadAllocatedBytes() - before;
+        }
+    }
+
+    /** 앞/뒤 JSON 사이에 Base64 'A' 문자를 지정한 길이만큼 할당 없이 생성하는 입력 스트림. */
+    private static final class GeneratedJsonStream extends InputStream {
+
+        private final byte[] head;
+        private final byte[] tail;
+        private final long fillerLength;
+        private long position;
+
+        GeneratedJsonStream(String head, long fillerLength, String tail) {
+            this.head = head.getBytes(StandardCharsets.UTF_8);
+            this.tail = tail.getBytes(StandardCharsets.UTF_8);
+            this.fillerLength = fillerLength;
+        }
+
+        @Override
+        public int read() {
+            long total = head.length + fillerLength + tail.length;
+            if (position >= total) {
+                return -1;
+            }
+            long i = position++;
+            if (i < head.length) {
+                return head[(int) i] & 0xFF;
+            }
+            i -= head.length;
+            if (i < fillerLength) {
+                return 'A';
+            }
+            return tail[(int) (i - fillerLength)] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            int n = 0;
+            while (n < len) {
+                int c = read();
+                if (c == -1) {
+                    break;
+                }
+                b[off + n++] = (byte) c;
+            }
+            return n == 0 && len > 0 ? -1 : n;
         }
     }
 
@@ -225,4 +583,8 @@ class BoardServiceTest {
                 .writer(writer)
                 .build();
     }
+
+    private BoardSummary createSummary(Long id, LocalDateTime createdAt) {
+        return new BoardSummary(id, "제목" + id, "작성자", 0L, createdAt);
+    }
 }
@@ -0,0 +1,50 @@
+package com.example.v2.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.v2.board.event.BoardSavedEvent;
+
+@DisplayName("TitleBloomFilter 단위 테스트")
+class TitleBloomFilterTest {
+
+    @Test
+    @DisplayName("적재 전에는 항상 존재할 수 있다고 판단한다")
+    void mightContain_적재전이면_true를반환한다() {
+        // given
+        TitleBloomFilter filter = new TitleBloomFilter(null, 1000, 0.01);
+
+        // when & then
+        assertThat(filter.mightContain("아무 제목")).isTrue();
+    }
+
+    @Test
+    @DisplayName("추가한 제목은 항상 true, 추가하지 않은 제목은 대부분 false 를 반환한다")
+    void mightContain_추가한제목만_true를반환한다() {
+        // given
+        TitleBloomFilter filter = new TitleBloomFilter(null, 1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("게시글 제목 " + i);
+        }
+        filter.onBoardSaved(new BoardSavedEvent(1001L, "새 게시글", "내용", "작성자"));
+        filter.markReady();
+
+        // when
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain("없는 제목 " + i)) {
+                falsePositives++;
+            }
+        }
+
+        // then
+        for (int i = 0; i < 1000; i++) {
+            assertThat(filter.mightContain("게시글 제목 " + i)).isTrue();
+        }
+        assertThat(filter.mightContain("새 게시글")).isTrue();
+        // 목표 오탐률 1% (여유를 두고 3% 미만 확인)
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
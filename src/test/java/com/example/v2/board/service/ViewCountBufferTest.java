@@ -0,0 +1,117 @@
+package com.example.v2.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.v2.board.cache.BoardDetailCache;
+import com.example.v2.board.entity.Board;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ViewCountBuffer 단위 테스트")
+class ViewCountBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BoardDetailCache detailCache;
+
+    private ViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        detailCache = new BoardDetailCache(1 << 20, 1 << 20);
+        buffer = new ViewCountBuffer(jdbcTemplate, transactionManager, detailCache);
+    }
+
+    @Test
+    @DisplayName("증가분을 누적하고 flush 시 게시글별 상대 증가 UPDATE 로 한 번에 반영한다")
+    @SuppressWarnings("unchecked")
+    void flush_누적증가분을_배치UPDATE로반영한다() {
+        // given
+        buffer.increment(2L);
+        buffer.increment(1L);
+        assertThat(buffer.increment(2L)).isEqualTo(2L);
+
+        // when
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should().batchUpdate(anyString(), args.capture());
+        assertThat(args.getValue()).containsExactly(new Object[] { 1L, 1L }, new Object[] { 2L, 2L });
+        assertThat(buffer.pending(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분을 되돌려 다음 flush 에서 재시도한다")
+    @SuppressWarnings("unchecked")
+    void flush_실패하면_증가분을되돌린다() {
+        // given
+        buffer.increment(1L);
+        buffer.increment(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(new int[] { 1 });
+
+        // when
+        buffer.flush();
+
+        // then
+        assertThat(buffer.pending(1L)).isEqualTo(2L);
+        buffer.flush();
+        ArgumentCaptor<List<Object[]>> args = ArgumentCaptor.forClass(List.class);
+        then(jdbcTemplate).should(times(2)).batchUpdate(anyString(), args.capture());
+        assertThat(args.getValue()).containsExactly(new Object[] { 2L, 1L });
+        assertThat(buffer.pending(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("반영에 성공한 증가분만 상세 캐시의 조회수에 더한다")
+    void flush_반영한증가분을_상세캐시에더한다() {
+        // given
+        detailCache.put(Board.builder().id(1L).title("제목").writer("작성자").viewCount(10L).build(),
+                detailCache.generation());
+        buffer.increment(1L);
+        buffer.increment(1L);
+        given(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .willThrow(new QueryTimeoutException("timeout"))
+                .willReturn(new int[] { 1 });
+
+        // when & then
+        buffer.flush();
+        assertThat(detailCache.get(1L).getViewCount()).isEqualTo(10L);
+        buffer.flush();
+        assertThat(detailCache.get(1L).getViewCount()).isEqualTo(12L);
+    }
+
+    @Test
+    @DisplayName("증가분이 없으면 UPDATE 를 실행하지 않는다")
+    void flush_증가분없으면_UPDATE하지않는다() {
+        // when
+        buffer.flushAll();
+
+        // then
+        then(jdbcTemplate).should(never()).batchUpdate(anyString(), anyList());
+    }
+}
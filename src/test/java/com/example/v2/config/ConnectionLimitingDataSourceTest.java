@@ -0,0 +1,81 @@
+package com.example.v2.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ConnectionLimitingDataSource 단위 테스트")
+class ConnectionLimitingDataSourceTest {
+
+    @Mock
+    private DataSource target;
+
+    @Mock
+    private Connection connection;
+
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new ConnectionLimitingDataSource(target, 1, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("한도만큼 빌려 간 상태에서는 대기 시간이 지나면 예외를 던진다")
+    void getConnection_한도초과하면_대기후예외를던진다() throws SQLException {
+        // given
+        given(target.getConnection()).willReturn(connection);
+        dataSource.getConnection();
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        assertThat(dataSource.active()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커넥션을 닫으면 허가를 한 번만 돌려준다")
+    void close_여러번닫아도_허가를한번만돌려준다() throws SQLException {
+        // given
+        given(target.getConnection()).willReturn(connection);
+        Connection borrowed = dataSource.getConnection();
+
+        // when
+        borrowed.close();
+        borrowed.close();
+
+        // then
+        then(connection).should(times(2)).close();
+        assertThat(dataSource.active()).isZero();
+        dataSource.getConnection();
+        assertThat(dataSource.active()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("커넥션 풀에서 예외가 나면 허가를 돌려준다")
+    void getConnection_풀예외시_허가를돌려준다() throws SQLException {
+        // given
+        given(target.getConnection()).willThrow(new SQLException("pool"));
+
+        // when & then
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+        assertThat(dataSource.active()).isZero();
+    }
+}
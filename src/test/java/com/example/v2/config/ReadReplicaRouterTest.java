@@ -0,0 +1,138 @@
+package com.example.v2.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주 DB / 읽기 복제본 대역으로 서로 다른 인메모리 H2 인스턴스 두 개를 사용한다.
+ * 각 인스턴스의 node 테이블에 자기 이름을 넣어 두고 어느 쪽에서 읽었는지 확인한다.
+ */
+@DisplayName("ReadReplicaRouter 단위 테스트")
+class ReadReplicaRouterTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReadReplicaRouter router;
+    private ReplicaLagMonitor monitor;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("primary");
+        replica = h2("replica");
+        router = new ReadReplicaRouter(replica, Duration.ofSeconds(3), Duration.ofMinutes(1));
+        DataSource routing = router.routingDataSource(primary);
+        monitor = new ReplicaLagMonitor(router, routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        transactionManager = new DataSourceTransactionManager(routing);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치 안이면 읽기 전용 트랜잭션은 복제본, 쓰기 트랜잭션은 주 DB 에서 실행한다")
+    void readOnly트랜잭션은_복제본에서실행한다() {
+        // given
+        replicate(System.currentTimeMillis());
+        monitor.check();
+
+        // when & then
+        assertThat(nodeIn(true)).isEqualTo("replica");
+        assertThat(nodeIn(false)).isEqualTo("primary");
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM node", String.class)).isEqualTo("primary");
+        assertThat(router.stats().replicaReads()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘거나 heartbeat 가 보이지 않으면 읽기도 주 DB 에서 실행한다")
+    void 복제지연초과하면_주DB에서읽는다() {
+        // given (복제되지 않은 별개 인스턴스)
+        monitor.check();
+
+        // when & then
+        assertThat(router.replicaUsable()).isFalse();
+        assertThat(nodeIn(true)).isEqualTo("primary");
+
+        replicate(System.currentTimeMillis() - 60_000);
+        monitor.check();
+        assertThat(router.stats().lagMillis()).isGreaterThanOrEqualTo(60_000);
+        assertThat(nodeIn(true)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션을 실행한 사용자의 읽기만 sticky 시간 동안 주 DB 에서 실행한다")
+    void 쓰기직후_같은사용자는_주DB에서읽는다() {
+        // given
+        replicate(System.currentTimeMillis());
+        monitor.check();
+        login("writer");
+        nodeIn(false);
+
+        // when & then
+        assertThat(nodeIn(true)).isEqualTo("primary");
+        login("reader");
+        assertThat(nodeIn(true)).isEqualTo("replica");
+        assertThat(router.stats().stickyUsers()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("primary() 안의 읽기 전용 트랜잭션은 주 DB 에서 실행하고 자기 쓰기 읽기 대상으로 기록하지 않는다")
+    void primary힌트_읽기전용도주DB에서읽는다() {
+        // given
+        replicate(System.currentTimeMillis());
+        monitor.check();
+        login("reader");
+
+        // when & then
+        assertThat(ReadReplicaRouter.primary(() -> nodeIn(true))).isEqualTo("primary");
+        assertThat(nodeIn(true)).isEqualTo("replica");
+        assertThat(router.stats().stickyUsers()).isZero();
+    }
+
+    private String nodeIn(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    /** 복제본에 주 DB 의 heartbeat 가 복제된 것처럼 기록한다. */
+    private void replicate(long beatAt) {
+        JdbcTemplate target = new JdbcTemplate(replica);
+        target.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+        target.update("MERGE INTO replica_heartbeat (id, beat_at) KEY (id) VALUES (1, ?)", beatAt);
+    }
+
+    private static void login(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(username, null, List.of()));
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("CREATE TABLE node (name VARCHAR(20))");
+        template.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.v2.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.v2.filter.RateLimiter.Budget;
+import com.example.v2.filter.RateLimiter.Route;
+
+@DisplayName("RateLimiter 단위 테스트")
+class RateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private RateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new RateLimiter(Map.of(
+                Route.WRITE, new Budget(1, 3),
+                Route.SEARCH, new Budget(5, 5),
+                Route.READ, new Budget(100, 100)),
+                Duration.ofSeconds(10), 2, clock::get);
+    }
+
+    @Test
+    @DisplayName("burst 만큼 허용한 뒤 거절하고, 다음 토큰이 채워질 때까지의 대기 시간을 반환한다")
+    void tryAcquire_burst를넘으면_대기시간을반환한다() {
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(Route.WRITE, "user:kim")).isZero();
+        }
+        long waitNanos = limiter.tryAcquire(Route.WRITE, "user:kim");
+
+        // then
+        assertThat(waitNanos).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        // 경로 유형마다 버킷이 따로 있다
+        assertThat(limiter.tryAcquire(Route.READ, "user:kim")).isZero();
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire(Route.WRITE, "user:kim")).isZero();
+        assertThat(limiter.tryAcquire(Route.WRITE, "user:kim")).isPositive();
+        assertThat(limiter.stats().rejected()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("토큰이 가득 찬 채로 idle 시간이 지난 버킷만 제거한다")
+    void evictIdle_유휴버킷만제거한다() {
+        // given
+        limiter.tryAcquire(Route.WRITE, "user:idle");
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(5));
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire(Route.WRITE, "user:busy");
+        }
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(7));
+
+        // when
+        limiter.evictIdle();
+
+        // then
+        assertThat(limiter.stats().keys()).isEqualTo(1);
+        assertThat(limiter.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버킷 수가 max-keys 에 이르면 새 키는 경로 유형별 공용 버킷을 함께 쓴다")
+    void tryAcquire_maxKeys를넘으면_공용버킷을쓴다() {
+        // given
+        limiter.tryAcquire(Route.WRITE, "ip:1");
+        limiter.tryAcquire(Route.WRITE, "ip:2");
+
+        // when
+        for (int i = 3; i < 6; i++) {
+            assertThat(limiter.tryAcquire(Route.WRITE, "ip:" + i)).isZero();
+        }
+
+        // then
+        assertThat(limiter.tryAcquire(Route.WRITE, "ip:6")).isPositive();
+        assertThat(limiter.stats().keys()).isEqualTo(2);
+        assertThat(limiter.stats().overflows()).isEqualTo(4);
+    }
+}
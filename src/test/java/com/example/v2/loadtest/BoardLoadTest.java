@@ -0,0 +1,138 @@
+package com.example.v2.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.server.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.example.v2.SpringMustacheBoardExampleApplication;
+import com.example.v2.board.search.BoardSearchIndex;
+import com.example.v2.loadtest.LoadHarness.Scenario;
+import com.example.v2.loadtest.LoadHarness.Stats;
+import com.example.v2.util.JwtUtil;
+
+/**
+ * 운영 규모 데이터 기반 HTTP 부하 테스트.
+ *
+ * 기본 test 태스크에서는 제외되며 ./gradlew loadTest 로 실행한다.
+ * DataGenerator 로 게시글/사용자를 생성한 애플리케이션을 기동하고, 검색 인덱스 구축이 끝나면
+ * 목록 / 상세 / 검색 / 글쓰기(JWT) 요청을 섞어 보낸 뒤 시나리오별 처리량과 p50/p99/p999 응답 시간을 출력한다.
+ * 설정은 시스템 프로퍼티로 바꾼다 (예: ./gradlew loadTest -Dloadtest.boards=1000000 -Dloadtest.concurrency=128).
+ * - loadtest.boards / loadtest.users : 생성할 게시글 / 사용자 수
+ * - loadtest.concurrency : 동시 요청 수
+ * - loadtest.warmup-seconds / loadtest.duration-seconds : 워밍업 / 측정 시간
+ * - loadtest.profiles : 추가로 활성화할 프로파일 (예: vt)
+ */
+@Tag("loadtest")
+@DisplayName("게시판 HTTP 부하 테스트")
+class BoardLoadTest {
+
+    private static final String[] KEYWORDS = { "스프링", "캐시", "트랜잭션", "검색", "가상 스레드", "김민준" };
+
+    private final int boards = Integer.getInteger("loadtest.boards", 200_000);
+    private final int users = Integer.getInteger("loadtest.users", 1_000);
+    private final int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+    private final Duration warmup = Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 10));
+    private final Duration duration = Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 30));
+    private final String profiles = System.getProperty("loadtest.profiles", "");
+
+    @Test
+    @DisplayName("목록 / 상세 / 검색 / 글쓰기 혼합 부하의 시나리오별 처리량과 응답 시간")
+    void 혼합부하_처리량과응답시간을_측정한다() throws Exception {
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(SpringMustacheBoardExampleApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest-board",
+                        "spring.jpa.show-sql=false",
+                        "rate-limit.enabled=false", // 처리량 측정이므로 요청 제한 없이 실행
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.v2.datagen=INFO",
+                        "datagen.enabled=true",
+                        "datagen.boards=" + boards,
+                        "datagen.users=" + users,
+                        "board.title-filter.expected-titles=" + Math.max(100_000, boards * 2L));
+        if (!profiles.isBlank()) {
+            builder.profiles(profiles.split(","));
+        }
+        try (ConfigurableApplicationContext context = builder.run()) {
+            awaitSearchIndex(context.getBean(BoardSearchIndex.class));
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            long maxId = jdbc.queryForObject("SELECT MAX(id) FROM board", Long.class);
+            String username = jdbc.queryForObject("SELECT username FROM users ORDER BY id LIMIT 1", String.class);
+            String token = context.getBean(JwtUtil.class)
+                    .generateToken(context.getBean(UserDetailsService.class).loadUserByUsername(username));
+            String baseUrl = "http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            List<Stats> results;
+            try (HttpClient client = HttpClient.newBuilder()
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build()) {
+                results = LoadHarness.run(client, scenarios(baseUrl, token, maxId), concurrency, warmup, duration);
+            }
+
+            // then
+            System.out.printf("[loadtest] 게시글 %,d건, 동시 요청 %d, 측정 %d초%s%n", maxId, concurrency,
+                    duration.toSeconds(), profiles.isBlank() ? "" : ", 프로파일 " + profiles);
+            results.forEach(stats -> System.out.println("[loadtest] " + stats));
+            assertThat(results).allSatisfy(stats -> {
+                assertThat(stats.requests()).isPositive();
+                assertThat(stats.errors()).isZero();
+            });
+        }
+    }
+
+    private static List<Scenario> scenarios(String baseUrl, String token, long maxId) {
+        AtomicLong writes = new AtomicLong();
+        String runId = Long.toString(System.currentTimeMillis(), 36);
+        return List.of(
+                new Scenario("목록", 30, () -> get(baseUrl + "/?page=" + ThreadLocalRandom.current().nextInt(100), token)),
+                new Scenario("상세", 40, () -> get(baseUrl + "/board/detail/"
+                        + ThreadLocalRandom.current().nextLong(1, maxId + 1), token)),
+                new Scenario("검색", 20, () -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    String keyword = KEYWORDS[random.nextInt(KEYWORDS.length)];
+                    String type = keyword.equals("김민준") ? "writer" : random.nextBoolean() ? "title" : "titleContent";
+                    return get(baseUrl + "/?searchType=" + type + "&keyword="
+                            + URLEncoder.encode(keyword, StandardCharsets.UTF_8) + "&page=" + random.nextInt(5), token);
+                }),
+                new Scenario("글쓰기", 10, () -> HttpRequest.newBuilder(URI.create(baseUrl + "/board/api/write"))
+                        .header("Authorization", "Bearer " + token)
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString("""
+                                {"title": "부하 테스트 %s-%d", "content": "부하 테스트 본문입니다.", "writer": "부하",
+                                 "imageBase64": "", "imageFileName": ""}
+                                """.formatted(runId, writes.incrementAndGet())))
+                        .build()));
+    }
+
+    private static HttpRequest get(String url, String token) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Authorization", "Bearer " + token)
+                .build();
+    }
+
+    /** 검색 인덱스 구축이 끝날 때까지 기다린다 (구축 전에는 LIKE 검색으로 응답하여 결과가 달라진다). */
+    private static void awaitSearchIndex(BoardSearchIndex index) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofMinutes(10).toNanos();
+        while (!index.isReady() && System.nanoTime() < deadline) {
+            Thread.sleep(200);
+        }
+    }
+}
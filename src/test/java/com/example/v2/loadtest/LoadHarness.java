@@ -0,0 +1,165 @@
+package com.example.v2.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * HTTP 부하 발생기.
+ *
+ * concurrency 개의 가상 스레드가 각자 요청 하나를 보내고 응답을 받으면 다음 요청을 보내는 닫힌(closed) 모델로 동작한다.
+ * 시나리오는 가중치에 비례하여 무작위로 고르며, 워밍업 구간의 요청은 집계하지 않는다.
+ * 응답 시간은 스레드별 배열에 기록했다가 끝난 뒤 합쳐 정렬하므로 측정 중에는 스레드 간 경합이 없다.
+ */
+final class LoadHarness {
+
+    private LoadHarness() {
+    }
+
+    /**
+     * 부하 시나리오.
+     *
+     * @param name    결과 표시 이름
+     * @param weight  선택 가중치
+     * @param request 요청 생성기 (요청마다 호출, 여러 스레드에서 동시에 호출된다)
+     */
+    record Scenario(String name, int weight, Supplier<HttpRequest> request) {
+    }
+
+    /**
+     * 시나리오별 결과.
+     *
+     * @param name       시나리오 이름
+     * @param requests   측정 구간의 요청 수
+     * @param errors     2xx/3xx 가 아닌 응답 또는 오류 수
+     * @param throughput 초당 요청 수
+     * @param p50Ms      응답 시간 중앙값 (밀리초)
+     * @param p99Ms      99 백분위 (밀리초)
+     * @param p999Ms     99.9 백분위 (밀리초)
+     * @param maxMs      최대 (밀리초)
+     */
+    record Stats(String name, long requests, long errors, double throughput, double p50Ms, double p99Ms,
+            double p999Ms, double maxMs) {
+
+        @Override
+        public String toString() {
+            return String.format("%-12s %,9d건 %,9.1f req/s  p50 %,8.2f  p99 %,8.2f  p999 %,8.2f  max %,8.2f ms  오류 %,d",
+                    name, requests, throughput, p50Ms, p99Ms, p999Ms, maxMs, errors);
+        }
+    }
+
+    /** 스레드 하나가 시나리오별로 기록하는 응답 시간 (나노초) */
+    private static final class Recorder {
+
+        private final long[][] latencies;
+        private final int[] counts;
+        private final long[] errors;
+
+        Recorder(int scenarios) {
+            latencies = new long[scenarios][1024];
+            counts = new int[scenarios];
+            errors = new long[scenarios];
+        }
+
+        void record(int scenario, long nanos, boolean success) {
+            if (counts[scenario] == latencies[scenario].length) {
+                latencies[scenario] = Arrays.copyOf(latencies[scenario], counts[scenario] * 2);
+            }
+            latencies[scenario][counts[scenario]++] = nanos;
+            if (!success) {
+                errors[scenario]++;
+            }
+        }
+    }
+
+    /**
+     * 부하를 보내고 시나리오별 결과를 반환한다.
+     *
+     * @param client      HTTP 클라이언트
+     * @param scenarios   시나리오 목록
+     * @param concurrency 동시 요청 수
+     * @param warmup      워밍업 시간 (집계 제외)
+     * @param duration    측정 시간
+     */
+    static List<Stats> run(HttpClient client, List<Scenario> scenarios, int concurrency, Duration warmup,
+            Duration duration) throws InterruptedException {
+        int[] cumulative = new int[scenarios.size()];
+        int total = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            total += scenarios.get(i).weight();
+            cumulative[i] = total;
+        }
+        int weightSum = total;
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long deadline = measureFrom + duration.toNanos();
+        List<Recorder> recorders = new ArrayList<>(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int t = 0; t < concurrency; t++) {
+                Recorder recorder = new Recorder(scenarios.size());
+                recorders.add(recorder);
+                executor.execute(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    long now;
+                    while ((now = System.nanoTime()) < deadline) {
+                        int pick = Arrays.binarySearch(cumulative, random.nextInt(weightSum) + 1);
+                        int scenario = pick >= 0 ? pick : -pick - 1;
+                        boolean success;
+                        try {
+                            int status = client.send(scenarios.get(scenario).request().get(),
+                                    HttpResponse.BodyHandlers.discarding()).statusCode();
+                            success = status < 400;
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        } catch (Exception e) {
+                            success = false;
+                        }
+                        if (now >= measureFrom) {
+                            recorder.record(scenario, System.nanoTime() - now, success);
+                        }
+                    }
+                });
+            }
+        }
+
+        double seconds = duration.toNanos() / 1e9;
+        List<Stats> results = new ArrayList<>(scenarios.size());
+        for (int s = 0; s < scenarios.size(); s++) {
+            int count = 0;
+            long errors = 0;
+            for (Recorder recorder : recorders) {
+                count += recorder.counts[s];
+                errors += recorder.errors[s];
+            }
+            long[] merged = new long[count];
+            int offset = 0;
+            for (Recorder recorder : recorders) {
+                System.arraycopy(recorder.latencies[s], 0, merged, offset, recorder.counts[s]);
+                offset += recorder.counts[s];
+            }
+            Arrays.sort(merged);
+            results.add(new Stats(scenarios.get(s).name(), count, errors, count / seconds,
+                    percentile(merged, 0.50), percentile(merged, 0.99), percentile(merged, 0.999),
+                    count == 0 ? 0 : merged[count - 1] / 1e6));
+        }
+        return results;
+    }
+
+    /** 정렬된 응답 시간 배열의 백분위 값 (밀리초, nearest-rank). */
+    static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.min(sorted.length, Math.max(rank, 1)) - 1] / 1e6;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.v2.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+@DisplayName("Histogram 단위 테스트")
+class HistogramTest {
+
+    @Test
+    @DisplayName("모든 값은 자신이 속한 구간의 상한 이하이고 상한과의 오차는 25% 이내이다")
+    void index_구간상한이_값이상이고_오차가작다() {
+        // given
+        long[] values = { 0, 1, 3, 4, 5, 7, 8, 9, 15, 16, 1_000, 123_456_789L, Long.MAX_VALUE / 3 };
+
+        for (long value : values) {
+            // when
+            long upper = Histogram.upperBound(Histogram.index(value));
+
+            // then
+            assertThat(upper).isGreaterThanOrEqualTo(value);
+            assertThat(upper - value).isLessThanOrEqualTo(value / 4);
+        }
+    }
+
+    @Test
+    @DisplayName("백분위 값은 근사값이며 최대값을 넘지 않는다")
+    void snapshot_백분위를근사한다() {
+        // given
+        Histogram histogram = new Histogram("ns");
+        for (long v = 1; v <= 1000; v++) {
+            histogram.record(v);
+        }
+
+        // when
+        Histogram.Snapshot snapshot = histogram.snapshot();
+
+        // then
+        assertThat(snapshot.count()).isEqualTo(1000);
+        assertThat(snapshot.mean()).isEqualTo(500.5);
+        assertThat(snapshot.p50()).isBetween(500L, 625L);
+        assertThat(snapshot.p99()).isBetween(990L, 1000L);
+        assertThat(snapshot.p999()).isLessThanOrEqualTo(snapshot.max());
+        assertThat(snapshot.max()).isEqualTo(1000);
+    }
+
+    @Test
+    @DisplayName("기록 중에는 힙 할당이 없다")
+    void record_힙을할당하지않는다() {
+        // given
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Histogram histogram = new Histogram("ns");
+        for (int i = 0; i < 100_000; i++) {
+            histogram.record(i); // 워밍업 (JIT 컴파일)
+        }
+
+        // when
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 100_000; i++) {
+            histogram.record(System.nanoTime() & 0xFFFFF);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // then
+        assertThat(allocated).as("기록 10만 건의 할당량").isLessThan(1024);
+    }
+}
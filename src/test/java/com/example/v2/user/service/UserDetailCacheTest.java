@@ -0,0 +1,110 @@
+package com.example.v2.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.v2.user.entity.User;
+import com.example.v2.user.entity.UserDetail;
+import com.example.v2.user.event.UserChangedEvent;
+
+@DisplayName("UserDetailCache 단위 테스트")
+class UserDetailCacheTest {
+
+    private UserDetail createUserDetail(String username) {
+        return new UserDetail(User.builder()
+                .id(1L)
+                .username(username)
+                .password("encodedPassword")
+                .email(username + "@example.com")
+                .roles(Set.of("ROLE_USER"))
+                .enabled(true)
+                .build());
+    }
+
+    @Test
+    @DisplayName("저장한 사용자는 TTL 동안 적중하고 통계에 집계된다")
+    void getUserFromCache_저장한사용자면_적중한다() {
+        // given
+        UserDetailCache cache = new UserDetailCache(Duration.ofMinutes(1), 10);
+        UserDetail user = createUserDetail("testuser");
+        cache.putUserInCache(user);
+
+        // when
+        var hit = cache.getUserFromCache("testuser");
+        var miss = cache.getUserFromCache("unknown");
+
+        // then
+        assertThat(hit).isSameAs(user);
+        assertThat(miss).isNull();
+        assertThat(cache.stats()).isEqualTo(new UserDetailCache.Stats(1, 1, 0, 1));
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 사용자는 제거되고 미스로 처리된다")
+    void getUserFromCache_TTL이지나면_미스로처리한다() {
+        // given
+        UserDetailCache cache = new UserDetailCache(Duration.ZERO, 10);
+        cache.putUserInCache(createUserDetail("testuser"));
+
+        // when
+        var result = cache.getUserFromCache("testuser");
+
+        // then
+        assertThat(result).isNull();
+        assertThat(cache.stats()).isEqualTo(new UserDetailCache.Stats(0, 1, 1, 0));
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘지 않도록 기존 항목을 제거한다")
+    void putUserInCache_가득차면_기존항목을제거한다() {
+        // given
+        UserDetailCache cache = new UserDetailCache(Duration.ofMinutes(1), 2);
+
+        // when
+        cache.putUserInCache(createUserDetail("user1"));
+        cache.putUserInCache(createUserDetail("user2"));
+        cache.putUserInCache(createUserDetail("user3"));
+
+        // then
+        assertThat(cache.stats().size()).isEqualTo(2);
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        assertThat(cache.getUserFromCache("user3")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("사용자 변경 이벤트를 받으면 해당 사용자를 제거한다")
+    void onUserChanged_변경된사용자를제거한다() {
+        // given
+        UserDetailCache cache = new UserDetailCache(Duration.ofMinutes(1), 10);
+        cache.putUserInCache(createUserDetail("testuser"));
+
+        // when
+        cache.onUserChanged(new UserChangedEvent("testuser"));
+
+        // then
+        assertThat(cache.getUserFromCache("testuser")).isNull();
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("조회를 시작한 뒤 사용자 변경 이벤트로 제거되었으면 조회 결과를 저장하지 않는다")
+    void putUserInCache_조회중제거되었으면_저장하지않는다() {
+        // given
+        UserDetailCache cache = new UserDetailCache(Duration.ofMinutes(1), 10);
+        long beforeLoad = cache.generation();
+
+        // when (조회 도중 커밋된 변경 이벤트)
+        cache.onUserChanged(new UserChangedEvent("testuser"));
+        cache.putUserInCache(createUserDetail("testuser"), beforeLoad);
+        cache.putUserInCache(createUserDetail("other"), cache.generation());
+
+        // then
+        assertThat(cache.getUserFromCache("testuser")).isNull();
+        assertThat(cache.getUserFromCache("other")).isNotNull();
+    }
+}
@@ -2,7 +2,10 @@ package com.example.v2.user.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 
 import java.util.Optional;
 import java.util.Set;
@@ -12,10 +15,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
+import com.example.v2.metrics.HotPathMetrics;
 import com.example.v2.user.entity.User;
 import com.example.v2.user.entity.UserDetail;
 import com.example.v2.user.repository.UserRepository;
@@ -27,6 +32,12 @@ class UserDetailServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private UserDetailCache userDetailCache;
+
+    @Spy
+    private HotPathMetrics metrics = new HotPathMetrics();
+
     @InjectMocks
     private UserDetailService userDetailService;
 
@@ -57,6 +68,32 @@ class UserDetailServiceTest {
         assertThat(result.getPassword()).isEqualTo("encodedPassword");
         assertThat(result.getAuthorities()).hasSize(1);
         assertThat(result.isEnabled()).isTrue();
+        then(userDetailCache).should().putUserInCache(result, 0L);
+    }
+
+    @Test
+    @DisplayName("loadUserByUsername - 캐시에 있는 사용자면 DB 를 조회하지 않는다")
+    void loadUserByUsername_캐시에있으면_DB를조회하지않는다() {
+        // given
+        String username = "testuser";
+        UserDetail cached = new UserDetail(User.builder()
+                .id(1L)
+                .username(username)
+                .password("encodedPassword")
+                .email("test@example.com")
+                .roles(Set.of("ROLE_USER"))
+                .enabled(true)
+                .build());
+
+        given(userDetailCache.getUserFromCache(username))
+                .willReturn(cached);
+
+        // when
+        UserDetails result = userDetailService.loadUserByUsername(username);
+
+        // then
+        assertThat(result).isSameAs(cached);
+        then(userRepository).should(never()).findByUsername(any());
     }
 
     @Test
@@ -0,0 +1,118 @@
+package com.example.v2.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.v2.util.JsonStreamReader.MalformedJsonException;
+
+@DisplayName("JsonStreamReader 단위 테스트")
+class JsonStreamReaderTest {
+
+    private JsonStreamReader reader(String json) {
+        return new JsonStreamReader(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("필드 이름과 문자열 값을 순서대로 읽고 모르는 값은 건너뛴다")
+    void nextString_필드를순서대로읽는다() throws IOException {
+        // given
+        JsonStreamReader json = reader("""
+                {"title": "제목 \\"인용\\"", "extra": {"a": [1, 2, {"b": "}"}]}, "count": 3,
+                 "writer": "\\uD64D길동", "content": null}
+                """);
+
+        // when
+        json.beginObject();
+        assertThat(json.hasNext()).isTrue();
+        assertThat(json.nextName()).isEqualTo("title");
+        String title = json.nextString();
+        json.hasNext();
+        json.nextName();
+        json.skipValue();
+        json.hasNext();
+        json.nextName();
+        json.skipValue();
+        json.hasNext();
+        assertThat(json.nextName()).isEqualTo("writer");
+        String writer = json.nextString();
+        json.hasNext();
+        json.nextName();
+        String content = json.nextString();
+        boolean more = json.hasNext();
+        json.endObject();
+
+        // then
+        assertThat(title).isEqualTo("제목 \"인용\"");
+        assertThat(writer).isEqualTo("홍길동");
+        assertThat(content).isNull();
+        assertThat(more).isFalse();
+    }
+
+    @Test
+    @DisplayName("문자열 스트림은 이스케이프를 해석하고 끝까지 읽지 않아도 다음 필드를 읽을 수 있다")
+    void nextStringStream_부분만읽어도_다음필드를읽는다() throws IOException {
+        // given
+        JsonStreamReader json = reader("{\"image\": \"QUJD\\/RA==\", \"name\": \"a.png\"}");
+
+        // when
+        json.beginObject();
+        json.hasNext();
+        json.nextName();
+        InputStream image = json.nextStringStream();
+        byte[] head = new byte[4];
+        int n = image.read(head);
+        json.hasNext();
+        String name = json.nextName();
+        String value = json.nextString();
+
+        // then
+        assertThat(new String(head, 0, n, StandardCharsets.US_ASCII)).isEqualTo("QUJD");
+        assertThat(name).isEqualTo("name");
+        assertThat(value).isEqualTo("a.png");
+    }
+
+    @Test
+    @DisplayName("문법이 잘못되면 MalformedJsonException을 던진다")
+    void beginObject_문법오류면_예외를던진다() {
+        // given
+        JsonStreamReader json = reader("{\"title\" \"제목\"}");
+
+        // when & then
+        assertThatThrownBy(() -> {
+            json.beginObject();
+            json.hasNext();
+            json.nextName();
+        }).isInstanceOf(MalformedJsonException.class);
+    }
+
+    @Test
+    @DisplayName("최대 길이를 넘는 문자열 값은 예외를 던지고, 건너뛰는 값은 길이와 무관하게 건너뛴다")
+    void nextString_최대길이초과면_예외를던진다() throws IOException {
+        // given
+        String big = "a".repeat(100);
+        JsonStreamReader json = new JsonStreamReader(new ByteArrayInputStream(
+                ("{\"unknown\": \"" + big + "\", \"title\": \"" + big + "\"}").getBytes(StandardCharsets.UTF_8)),
+                10);
+
+        // when
+        json.beginObject();
+        json.hasNext();
+        json.nextName();
+        json.skipValue();
+        json.hasNext();
+        json.nextName();
+
+        // then
+        assertThatThrownBy(json::nextString)
+                .isInstanceOf(MalformedJsonException.class)
+                .hasMessageContaining("최대 길이");
+    }
+}
@@ -3,6 +3,7 @@ package com.example.v2.util;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Instant;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,8 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.example.v2.user.entity.User;
 import com.example.v2.user.entity.UserDetail;
 
+import io.jsonwebtoken.JwtException;
+
 @DisplayName("JwtUtil 단위 테스트")
 class JwtUtilTest {
 
@@ -207,4 +210,86 @@ class JwtUtilTest {
                     .isGreaterThan(System.currentTimeMillis());
         }
     }
+
+    @Nested
+    @DisplayName("verify - 단일 파싱 검증")
+    class VerifyTest {
+
+        @Test
+        @DisplayName("유효한 토큰이면 주체와 만료 시간을 담은 검증 결과를 반환한다")
+        void verify_유효한토큰이면_검증결과를반환한다() {
+            // given
+            UserDetail userDetail = createUserDetail("testuser");
+            String token = jwtUtil.generateToken(userDetail);
+
+            // when
+            VerifiedToken verified = jwtUtil.verify(token);
+
+            // then
+            assertThat(verified.subject()).isEqualTo("testuser");
+            assertThat(verified.expiresAt()).isAfter(Instant.now());
+            assertThat(jwtUtil.validateToken(verified, userDetail)).isTrue();
+        }
+
+        @Test
+        @DisplayName("같은 토큰을 다시 검증하면 캐시된 결과를 반환한다")
+        void verify_같은토큰이면_캐시된결과를반환한다() {
+            // given
+            String token = jwtUtil.generateToken(createUserDetail("testuser"));
+
+            // when
+            VerifiedToken first = jwtUtil.verify(token);
+            VerifiedToken second = jwtUtil.verify(token);
+
+            // then
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("서명이 변조된 토큰이면 예외를 던진다")
+        void verify_서명이변조된토큰이면_예외를던진다() {
+            // given
+            String token = jwtUtil.generateToken(createUserDetail("testuser"));
+            String tampered = token.substring(0, token.length() - 2)
+                    + (token.endsWith("AA") ? "BB" : "AA");
+
+            // when & then
+            assertThatThrownBy(() -> jwtUtil.verify(tampered))
+                    .isInstanceOf(JwtException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("claims-mode - 클레임 기반 인증 모드")
+    class ClaimsModeTest {
+
+        @Test
+        @DisplayName("클레임 기반 인증 모드면 권한과 활성화 여부를 담은 짧은 수명의 토큰을 생성한다")
+        void generateToken_클레임모드면_권한과활성화여부를담는다() {
+            // given
+            ReflectionTestUtils.setField(jwtUtil, "claimsMode", true);
+            ReflectionTestUtils.setField(jwtUtil, "claimsModeExpiration", 300000L);
+            UserDetail userDetail = createUserDetail("testuser");
+
+            // when
+            VerifiedToken verified = jwtUtil.verify(jwtUtil.generateToken(userDetail));
+
+            // then
+            assertThat(verified.hasAuthorityClaims()).isTrue();
+            assertThat(verified.roles()).containsExactly("ROLE_USER");
+            assertThat(verified.enabled()).isTrue();
+            assertThat(verified.expiresAt()).isBefore(Instant.now().plusSeconds(301));
+        }
+
+        @Test
+        @DisplayName("기본 모드의 토큰에는 권한 클레임이 없다")
+        void generateToken_기본모드면_권한클레임이없다() {
+            // when
+            VerifiedToken verified = jwtUtil.verify(jwtUtil.generateToken(createUserDetail("testuser")));
+
+            // then
+            assertThat(verified.hasAuthorityClaims()).isFalse();
+            assertThat(verified.roles()).isEmpty();
+        }
+    }
 }
@@ -0,0 +1,105 @@
+package com.example.v2.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.v2.user.entity.User;
+import com.example.v2.user.entity.UserDetail;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JWT 검증 요청당 비용 마이크로벤치마크.
+ *
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행한다.
+ * - 기존 방식 : 요청마다 SecretKey/JwtParser 를 새로 만들고 토큰을 3번 파싱 (extractUsername → validateToken)
+ * - verify (캐시 미스) : 캐시된 키/파서로 1번 파싱
+ * - verify (캐시 적중) : 다이제스트 계산 + 캐시 조회만 수행
+ */
+@Tag("benchmark")
+@DisplayName("JWT 검증 마이크로벤치마크")
+class JwtVerifyBenchmarkTest {
+
+    private static final String SECRET = "a347d448b111a6ae5212cccc43b29c4fbfeffa0e490279a17115d33c910247d2";
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private JwtUtil jwtUtil;
+    private UserDetail userDetail;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86400000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 604800000L);
+        userDetail = new UserDetail(User.builder()
+                .id(1L)
+                .username("benchuser")
+                .password("encodedPassword")
+                .email("benchuser@example.com")
+                .roles(Set.of("ROLE_USER"))
+                .enabled(true)
+                .build());
+        token = jwtUtil.generateToken(userDetail);
+    }
+
+    @Test
+    @DisplayName("요청당 검증 비용: 기존 3회 파싱 vs verify 1회 파싱 vs 캐시 적중")
+    void 요청당_JWT검증비용을_비교한다() {
+        // when
+        double legacy = measure(t -> {
+            // 기존 필터 흐름: extractUsername + validateToken(extractUsername, extractExpiration)
+            String username = legacyClaims(t).getSubject();
+            boolean valid = legacyClaims(t).getSubject().equals(username)
+                    && legacyClaims(t).getExpiration().getTime() > System.currentTimeMillis();
+            assertThat(valid).isTrue();
+        });
+        double singleParse = measure(t -> {
+            // 캐시 미스를 재현하기 위해 매번 검증 캐시를 비운다
+            ((Map<?, ?>) ReflectionTestUtils.getField(jwtUtil, "verifiedCache")).clear();
+            assertThat(jwtUtil.validateToken(jwtUtil.verify(t), userDetail)).isTrue();
+        });
+        double cached = measure(t -> assertThat(jwtUtil.validateToken(jwtUtil.verify(t), userDetail)).isTrue());
+
+        // then
+        System.out.printf("[benchmark] 기존 3회 파싱      : %,10.0f ns/요청%n", legacy);
+        System.out.printf("[benchmark] verify (캐시 미스) : %,10.0f ns/요청%n", singleParse);
+        System.out.printf("[benchmark] verify (캐시 적중) : %,10.0f ns/요청%n", cached);
+        assertThat(cached).isLessThan(legacy);
+    }
+
+    /** 기존 JwtUtil 의 파싱 방식 (요청마다 키/파서 생성). */
+    private static Claims legacyClaims(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+
+    /** 워밍업 후 한 번 실행당 평균 시간(ns)을 측정한다. */
+    private double measure(Consumer<String> body) {
+        for (int i = 0; i < WARMUP; i++) {
+            body.accept(token);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            body.accept(token);
+        }
+        return (double) (System.nanoTime() - start) / ITERATIONS;
+    }
+}
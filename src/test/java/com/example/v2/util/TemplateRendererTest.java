@@ -0,0 +1,57 @@
+package com.example.v2.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.samskivert.mustache.Mustache;
+
+@DisplayName("TemplateRenderer 단위 테스트")
+class TemplateRendererTest {
+
+    private TemplateRenderer renderer;
+
+    @BeforeEach
+    void setUp() {
+        // Spring Boot 가 구성하는 것과 같은 templates/ 접두어, .mustache 접미어 로더
+        Mustache.Compiler compiler = Mustache.compiler()
+                .defaultValue("")
+                .withLoader(name -> new InputStreamReader(
+                        TemplateRendererTest.class.getResourceAsStream("/templates/" + name + ".mustache"),
+                        StandardCharsets.UTF_8));
+        renderer = new TemplateRenderer(compiler);
+    }
+
+    @Test
+    @DisplayName("head 를 먼저 flush 한 뒤 본문 데이터를 만들고, 결과는 전체 템플릿 렌더링과 같다")
+    void stream_head를먼저보내고_본문을이어서쓴다() throws IOException {
+        // given
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        StringWriter copy = new StringWriter();
+        AtomicBoolean committedBeforeBody = new AtomicBoolean();
+        Map<String, Object> model = Map.of("board", Map.of("title", "제목", "writer", "작성자", "content", "내용"));
+
+        // when
+        renderer.stream(response, "board/detail-head", Map.of(), "board/detail-body", () -> {
+            committedBeforeBody.set(response.isCommitted());
+            return model;
+        }, copy);
+
+        // then
+        assertThat(committedBeforeBody).isTrue();
+        assertThat(response.getContentType()).isEqualTo("text/html;charset=UTF-8");
+        assertThat(response.getContentAsString()).isEqualTo(renderer.render("board/detail", model))
+                .contains("<h1>제목</h1>");
+        assertThat(copy.toString()).isEqualTo(response.getContentAsString());
+    }
+}